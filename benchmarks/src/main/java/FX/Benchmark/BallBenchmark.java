@@ -0,0 +1,123 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Benchmark;
+
+import FX.Model.Entities.Ball.Ball;
+import FX.Model.Entities.Ball.RubberBall;
+import FX.Model.Entities.Paddle;
+import FX.Model.RandomStream;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * this class is used to measure the cost of the single ball operations which are done for every ball on every tick.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BallBenchmark {
+
+    private Ball ball;
+    private Paddle paddle;
+    private Bounds playArea;
+
+    /**
+     * this method is used to create the ball, paddle and play area used by the benchmarks.
+     */
+    @Setup
+    public void setup(){
+        ball = new RubberBall(new RandomStream(42));
+        paddle = new Paddle(new Rectangle(0, 0, 600, 450));
+        playArea = new BoundingBox(0, 0, 600, 450);
+    }
+
+    /**
+     * this method is used to measure the movement of the ball.
+     *
+     * @return this returns the x coordinate of the ball so the work is not removed.
+     */
+    @Benchmark
+    public double move(){
+        ball.setPosition(300, 200);
+        ball.move();
+        return ball.getX();
+    }
+
+    /**
+     * this method is used to measure the collision check between the ball and an entity which it is touching.
+     *
+     * @return this returns true if the ball collided with the entity.
+     */
+    @Benchmark
+    public boolean impactEntityHit(){
+        ball.setPosition(300, 200);
+        paddle.setPosition(250, 205);
+        return ball.impactEntity(paddle);
+    }
+
+    /**
+     * this method is used to measure the collision check between the ball and an entity which it is not touching, which is the common case.
+     *
+     * @return this returns true if the ball collided with the entity.
+     */
+    @Benchmark
+    public boolean impactEntityMiss(){
+        ball.setPosition(300, 200);
+        paddle.setPosition(250, 430);
+        return ball.impactEntity(paddle);
+    }
+
+    /**
+     * this method is used to measure the collision check between the ball and the sides of the game when the ball is away from the sides.
+     *
+     * @return this returns true if the ball collided with the sides.
+     */
+    @Benchmark
+    public boolean gameWindowCollisionInside(){
+        ball.setPosition(300, 200);
+        return ball.gameWindowCollision(playArea);
+    }
+
+    /**
+     * this method is used to measure the collision check between the ball and the sides of the game when the ball is at the corner.
+     *
+     * @return this returns true if the ball collided with the sides.
+     */
+    @Benchmark
+    public boolean gameWindowCollisionCorner(){
+        ball.setPosition(-1, -1);
+        return ball.gameWindowCollision(playArea);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Benchmark;
+
+import FX.Model.Entities.Ball.Ball;
+import FX.Model.Entities.Ball.BallClone;
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Game;
+import FX.Model.GameEngine;
+import FX.Model.GameRandom;
+import FX.Model.Levels.LevelFactory;
+import FX.Model.RandomStream;
+import javafx.geometry.Point2D;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * this class is used to measure the cost of the ball and brick collisions for a single tick, based on the amount of bricks in the level and the amount of balls.
+ * the wall is reset before every iteration so the bricks broken during the measurement does not pile up.
+ * the balls bounce off the bottom of the play area instead of being lost, so they keep moving through the wall for the whole iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CollisionBenchmark {
+
+    private static final double PLAY_AREA_WIDTH = 600;
+    private static final double PLAY_AREA_HEIGHT = 450;
+
+    @Param({"30", "300", "3000"})
+    public int brickCount;
+
+    @Param({"0", "3", "10"})
+    public int cloneCount;
+
+    private Game game;
+    private GameEngine gameEngine;
+    private Ball[] balls;
+
+    /**
+     * this method is used to create the level with the amount of bricks and the balls used by the benchmarks.
+     */
+    @Setup(Level.Trial)
+    public void setup(){
+        game = new Game(PLAY_AREA_WIDTH, PLAY_AREA_HEIGHT, new GameRandom(42));
+        gameEngine = new GameEngine(game);
+        Brick[] bricks = new LevelFactory().makeLevel("CHAINLEVEL", new RandomStream(1)).level(new Rectangle(0, 0, PLAY_AREA_WIDTH, PLAY_AREA_HEIGHT), brickCount, Math.max(3, brickCount / 10), 3, BrickFactory.CLAY, BrickFactory.CEMENT);
+        game.setBricks(bricks);
+
+        RandomStream rnd = new RandomStream(42);
+        balls = new Ball[cloneCount + 1];
+        balls[0] = game.getMainBall();
+        for (int i = 1; i < balls.length; i++) {
+            balls[i] = new BallClone(new Point2D(rnd.nextInt((int) PLAY_AREA_WIDTH - 20), rnd.nextInt((int) PLAY_AREA_HEIGHT - 20)), new RandomStream(rnd.nextLong()));
+        }
+        for (Ball ball : balls) {
+            ball.setRnd(new RandomStream(rnd.nextLong()));
+        }
+    }
+
+    /**
+     * this method is used to restore the bricks broken by the previous iteration.
+     */
+    @Setup(Level.Iteration)
+    public void resetWall(){
+        game.wallReset();
+    }
+
+    /**
+     * this method is used to measure a tick worth of swept ball movement and collisions with the bricks, the paddle and the sides of the game for all the balls.
+     * a ball reaching the bottom is bounced back up, since nothing resets the lost balls during the measurement.
+     *
+     * @return this returns the amount of bricks left so the work is not removed.
+     */
+    @Benchmark
+    public int moveBalls(){
+        for (Ball ball : balls) {
+            gameEngine.moveBall(ball);
+            ball.gameWindowCollision(gameEngine.getPlayBounds());
+            if (ball.getBounds().getMaxY() >= PLAY_AREA_HEIGHT && ball.getSpeedY() > 0)
+                ball.setSpeedY(-ball.getSpeedY());
+        }
+        return game.getBrickCount();
+    }
+}
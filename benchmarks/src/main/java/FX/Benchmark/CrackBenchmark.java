@@ -0,0 +1,85 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Benchmark;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Entities.Brick.Crack;
+import FX.Model.Entities.Brick.Crackable;
+import FX.Model.RandomStream;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * this class is used to measure the cost of creating the crack of a brick when it is hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CrackBenchmark {
+
+    private Crack crack;
+    private Brick brick;
+
+    /**
+     * this method is used to create the crackable brick used by the benchmarks.
+     */
+    @Setup
+    public void setup(){
+        crack = new Crack(new RandomStream(42));
+        brick = new BrickFactory().makeBrick(new Point2D(100, 100), new Dimension2D(60, 20), BrickFactory.CEMENT);
+    }
+
+    /**
+     * this method is used to measure the creation of the crack between two points.
+     *
+     * @return this returns the brick which holds the crack so the work is not removed.
+     */
+    @Benchmark
+    public Brick makeCrack(){
+        crack.makeCrack(100, 110, 160, 105, brick);
+        return brick;
+    }
+
+    /**
+     * this method is used to measure the creation of the crack from the point of impact, which includes picking the end point.
+     *
+     * @return this returns the brick which holds the crack so the work is not removed.
+     */
+    @Benchmark
+    public Brick prepareCrack(){
+        crack.prepareCrack(100, 110, Crackable.LEFT, brick);
+        return brick;
+    }
+}
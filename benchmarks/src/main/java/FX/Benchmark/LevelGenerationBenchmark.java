@@ -0,0 +1,81 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Benchmark;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.CompactWall;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Levels.LevelFactory;
+import FX.Model.RandomStream;
+import javafx.scene.shape.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * this class is used to measure the cost of generating a whole level through the level factory, based on the level template and the amount of bricks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LevelGenerationBenchmark {
+
+    @Param({"CHAINLEVEL", "STRAIGHTLINESLEVEL", "CURLYLINESLEVEL", "RANDOMLEVEL"})
+    public String levelType;
+
+    @Param({"30", "300", "3000", "20000"})
+    public int brickCount;
+
+    private final LevelFactory levelFactory = new LevelFactory();
+    private final Rectangle drawArea = new Rectangle(0, 0, 600, 450);
+    private final CompactWall compactWall = new CompactWall();
+
+    /**
+     * this method is used to measure the generation of a level.
+     *
+     * @return this returns the bricks of the level so the work is not removed.
+     */
+    @Benchmark
+    public Brick[] level(){
+        return levelFactory.makeLevel(levelType, new RandomStream(1)).level(drawArea, brickCount, Math.max(3, brickCount / 10), 3, BrickFactory.CLAY, BrickFactory.CEMENT);
+    }
+
+    /**
+     * this method is used to measure the generation of a level straight into a compact wall.
+     *
+     * @return this returns the compact wall of the level so the work is not removed.
+     */
+    @Benchmark
+    public CompactWall compactLevel(){
+        levelFactory.makeLevel(levelType, new RandomStream(1)).level(drawArea, brickCount, Math.max(3, brickCount / 10), 3, BrickFactory.CLAY, BrickFactory.CEMENT, compactWall);
+        return compactWall;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX;
+
+import FX.Model.Bot.BotController;
+import FX.Model.Bot.FollowBallBot;
+import FX.Model.Bot.PredictiveBot;
+import FX.Model.Game;
+import FX.Model.GameEngine;
+import FX.Model.SimulationResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * this class is used to play every level of the game many times with the bot, without showing the game, to check how hard each level is.
+ * the games are independent of each other and are played in parallel on all the cores, every game gets its own seed so the whole run could be repeated.
+ * usage: BatchSimulator [games per level] [max seconds per game] [seed] [threads] [follow|predictive]
+ */
+public class BatchSimulator {
+
+    private static final int DEF_GAMES_PER_LEVEL = 100;
+    private static final int DEF_MAX_SECONDS = 600;
+    private static final double PLAY_AREA_WIDTH = 600;
+    private static final double PLAY_AREA_HEIGHT = 450;
+
+    private final int gamesPerLevel;
+    private final long maxTicks;
+    private final long seed;
+    private final int threads;
+    private final Supplier<BotController> botFactory;
+
+    /**
+     * this constructor is used to create the simulator.
+     *
+     * @param gamesPerLevel this is the amount of games played on each level.
+     * @param maxTicks this is the maximum amount of ticks of a game, the game is counted as not completed after it.
+     * @param seed this is the seed of the run, the seed of every game is made from it.
+     * @param threads this is the amount of threads used to play the games.
+     */
+    public BatchSimulator(int gamesPerLevel, long maxTicks, long seed, int threads){
+        this(gamesPerLevel, maxTicks, seed, threads, FollowBallBot::new);
+    }
+
+    /**
+     * this constructor is used to create the simulator which plays with the bot provided.
+     *
+     * @param gamesPerLevel this is the amount of games played on each level.
+     * @param maxTicks this is the maximum amount of ticks of a game, the game is counted as not completed after it.
+     * @param seed this is the seed of the run, the seed of every game is made from it.
+     * @param threads this is the amount of threads used to play the games.
+     * @param botFactory this is used to create a new bot for every game.
+     */
+    public BatchSimulator(int gamesPerLevel, long maxTicks, long seed, int threads, Supplier<BotController> botFactory){
+        this.gamesPerLevel = gamesPerLevel;
+        this.maxTicks = maxTicks;
+        this.seed = seed;
+        this.threads = threads;
+        this.botFactory = botFactory;
+    }
+
+    /**
+     * this method is used to play all the games and return the outcome of every game, grouped by the level in order.
+     *
+     * @return this returns the outcome of every game, the games of level 0 first.
+     * @throws InterruptedException this is an exception used when the run is interrupted.
+     * @throws ExecutionException this is an exception used when one of the games failed.
+     */
+    public SimulationResult[] run() throws InterruptedException, ExecutionException {
+        int levelCount = Game.getBuiltInLevelCount();
+        int total = levelCount * gamesPerLevel;
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> IntStream.range(0, total).parallel()
+                    .mapToObj(i -> SimulationResult.simulate(i / gamesPerLevel, seed + i, maxTicks, PLAY_AREA_WIDTH, PLAY_AREA_HEIGHT, botFactory.get()))
+                    .toArray(SimulationResult[]::new)).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * this method is used to print the completion rate, the completion time distribution, the balls lost and the bricks left of every level.
+     *
+     * @param results this is the outcome of every game.
+     */
+    public static void printReport(SimulationResult[] results){
+        System.out.printf("%-6s %6s %9s %8s %8s %8s %8s %10s %9s %10s%n", "level", "games", "completed", "p10 s", "p50 s", "p90 s", "max s", "balls lost", "game over", "bricks left");
+        int start = 0;
+        while(start < results.length){
+            int level = results[start].getLevel();
+            int end = start;
+            while(end < results.length && results[end].getLevel() == level)
+                end++;
+            printLevel(Arrays.copyOfRange(results, start, end));
+            start = end;
+        }
+    }
+
+    /**
+     * this method is used to print the summary of the games of one level.
+     *
+     * @param results this is the outcome of the games of the level.
+     */
+    private static void printLevel(SimulationResult[] results){
+        List<Double> completionTimes = new ArrayList<>();
+        long ballsLost = 0;
+        long gameOvers = 0;
+        long bricksRemaining = 0;
+        for (SimulationResult result : results) {
+            if(result.isCompleted())
+                completionTimes.add(result.getSeconds());
+            ballsLost += result.getBallsLost();
+            gameOvers += result.getGameOvers();
+            bricksRemaining += result.getBricksRemaining();
+        }
+        double[] times = completionTimes.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        System.out.printf("%-6d %6d %8.1f%% %8s %8s %8s %8s %10.2f %9.2f %10.2f%n",
+                results[0].getLevel() + 1, results.length, 100.0 * times.length / results.length,
+                percentile(times, 0.1), percentile(times, 0.5), percentile(times, 0.9), percentile(times, 1),
+                (double) ballsLost / results.length, (double) gameOvers / results.length, (double) bricksRemaining / results.length);
+    }
+
+    /**
+     * this method is used to get a percentile of the sorted values (nearest rank).
+     *
+     * @param sorted this is the values in ascending order.
+     * @param fraction this is the percentile from 0 to 1.
+     * @return this returns the value in seconds as text, "-" if there are no values.
+     */
+    static String percentile(double[] sorted, double fraction){
+        if(sorted.length == 0)
+            return "-";
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return String.format("%.1f", sorted[Math.min(Math.max(rank, 1), sorted.length) - 1]);
+    }
+
+    /**
+     * this method is used to start the simulation from the command line.
+     *
+     * @param args this is the games per level, the max seconds per game, the seed, the amount of threads and the bot (follow or predictive), all of them are optional.
+     * @throws Exception this is an exception used when one of the games failed.
+     */
+    public static void main(String[] args) throws Exception {
+        int gamesPerLevel = args.length > 0 ? Integer.parseInt(args[0]) : DEF_GAMES_PER_LEVEL;
+        int maxSeconds = args.length > 1 ? Integer.parseInt(args[1]) : DEF_MAX_SECONDS;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : System.nanoTime();
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        boolean predictive = args.length > 4 && args[4].equalsIgnoreCase("predictive");
+
+        BatchSimulator batchSimulator = new BatchSimulator(gamesPerLevel, (long) maxSeconds * GameEngine.TICKS_PER_SECOND, seed, threads, predictive ? PredictiveBot::new : FollowBallBot::new);
+        long start = System.nanoTime();
+        SimulationResult[] results = batchSimulator.run();
+        System.out.printf("%d games, seed %d, %d threads, %.2f s%n", results.length, seed, threads, (System.nanoTime() - start) / 1_000_000_000.0);
+        printReport(results);
+    }
+}
@@ -18,6 +18,7 @@
 
 package FX;
 
+import FX.Model.AudioAssets;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Rectangle2D;
@@ -43,13 +44,14 @@ public class BrickDestroyer extends Application {
     public static MediaPlayer audio;
 
     /**
-     * this method is used to create a window and prepare and display the main menu.
+     * this method is used to create a window and prepare and display the main menu, the sound effects start loading in the background.
      *
      * @param stage this is the stage which is used insert all the contents for the main menu.
      * @throws IOException this is used just in case there is a problem in loading the fxml file.
      */
     @Override
     public void start(Stage stage) throws IOException {
+        AudioAssets.preloadAsync();
         stage.initStyle(StageStyle.TRANSPARENT); 
         Parent root = FXMLLoader.load(Objects.requireNonNull(getClass().getResource("MainMenu.fxml")));
         stage.getIcons().add(new Image(getClass().getResourceAsStream("/images/GameIcon.png")));
@@ -20,13 +20,22 @@ package FX.Controller;
 
 import FX.Model.Game;
 import FX.Model.GameScore;
+import FX.Model.GameSession;
+import FX.Model.Profiling.FrameProfiler;
+import FX.Model.Replay.ReplayFormat;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.Slider;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ResourceBundle;
 
 /**
@@ -37,16 +46,22 @@ public class DebugConsoleController implements Initializable {
     @FXML private Slider xSpeedSlider, ySpeedSlider;
     @FXML private Label textXSpeed, textYSpeed;
     @FXML private ChoiceBox<java.io.Serializable> levelSelector;
+    @FXML private CheckBox profilerToggle;
+    @FXML private Label profileStatus;
 
+    private final GameSession gameSession;
     private Game game;
     private GameScore gameScore;
 
     /**
      * this is the constructor used to prepare the debug console by preparing the objects used into variables.
+     *
+     * @param gameSession this is the session of the game being debugged.
      */
-    public DebugConsoleController(){
-        game = Game.singletonGame(0,0);
-        gameScore = GameScore.singletonGameScore();
+    public DebugConsoleController(GameSession gameSession){
+        this.gameSession = gameSession;
+        game = gameSession.getGame();
+        gameScore = gameSession.getGameScore();
     }
 
     /**
@@ -54,6 +69,7 @@ public class DebugConsoleController implements Initializable {
      */
     @FXML
     private void skipLevelButtonClicked(){
+        gameSession.recordReplayEvent(ReplayFormat.EVENT_SKIP_LEVEL, game.getPlayer().getCurrentLevel());
         game.restartStatus();
         game.wallReset();
         game.nextLevel();
@@ -68,28 +84,33 @@ public class DebugConsoleController implements Initializable {
     @FXML
     private void resetBallButtonClicked(){
         game.getPlayer().resetBallCount();
+        gameSession.recordReplayEvent(ReplayFormat.EVENT_RESET_BALLS);
     }
 
     /**
      * this method is used to change the speed value on the x-axis of the ball and to set the text on the debug console
+     *
+     * @param speed this is the new speed selected on the slider.
      */
-    @FXML
-    private void xSpeedSliderMoved(){
-        xSpeedSlider.valueProperty().addListener((observableValue, number, t1) -> {
-            game.getMainBall().setSpeedX(t1.intValue());
-            textXSpeed.setText("new ball x-axis speed: " + t1);
-        });
+    private void xSpeedSliderMoved(int speed){
+        if(speed == game.getMainBall().getSpeedX())
+            return;
+        game.getMainBall().setSpeedX(speed);
+        gameSession.recordReplayEvent(ReplayFormat.EVENT_BALL_SPEED, game.getMainBall().getSpeedX(), game.getMainBall().getSpeedY());
+        textXSpeed.setText("new ball x-axis speed: " + speed);
     }
 
     /**
      * this method is used to change the speed value on the y-axis of the ball and to set the text on the debug console
+     *
+     * @param speed this is the new speed selected on the slider.
      */
-    @FXML
-    private void ySpeedSliderMoved(){
-        ySpeedSlider.valueProperty().addListener((observableValue, number, t1) -> {
-            game.getMainBall().setSpeedY(t1.intValue());
-            textYSpeed.setText("new ball y-axis speed: " + t1);
-        });
+    private void ySpeedSliderMoved(int speed){
+        if(speed == game.getMainBall().getSpeedY())
+            return;
+        game.getMainBall().setSpeedY(speed);
+        gameSession.recordReplayEvent(ReplayFormat.EVENT_BALL_SPEED, game.getMainBall().getSpeedX(), game.getMainBall().getSpeedY());
+        textYSpeed.setText("new ball y-axis speed: " + speed);
     }
 
     /**
@@ -107,21 +128,56 @@ public class DebugConsoleController implements Initializable {
     }
 
     /**
-     * this method is used to initialize the values for the slider and choice box.
+     * this method is used to start or stop the frame profiler, which also shows or hides its overlay on the game. the times measured before are removed when it is started.
      */
-    @Override
-    public void initialize(URL url, ResourceBundle resourceBundle) {
+    @FXML
+    private void profilerToggled(){
+        FrameProfiler profiler = gameSession.getFrameProfiler();
+        if(profilerToggle.isSelected())
+            profiler.reset();
+        profiler.setEnabled(profilerToggle.isSelected());
+    }
+
+    /**
+     * this method is used to write the times measured by the frame profiler into a CSV file in the working directory.
+     */
+    @FXML
+    private void exportProfileButtonClicked(){
+        File file = new File(System.getProperty("user.dir"), "frame-profile-" + System.currentTimeMillis() + ".csv");
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            gameSession.getFrameProfiler().writeCsv(writer);
+            profileStatus.setText("Profile saved to " + file.getName());
+        } catch (IOException e) {
+            e.printStackTrace();
+            profileStatus.setText("Profile could not be saved");
+        }
+    }
+
+    /**
+     * this method is used to show the current values of the game on the slider, choice box and profiler toggle, it is called every time the debug console is shown.
+     */
+    public void refresh(){
         xSpeedSlider.setValue(game.getMainBall().getSpeedX());
         ySpeedSlider.setValue(game.getMainBall().getSpeedY());
+        textXSpeed.setText("Main Ball x-axis speed");
+        textYSpeed.setText("Main Ball y-axis speed");
 
         levelSelector.setValue(game.getPlayer().getCurrentLevel());
+        profilerToggle.setSelected(gameSession.getFrameProfiler().isEnabled());
+        profileStatus.setText("");
+    }
+
+    /**
+     * this method is used to initialize the values and listeners for the slider and choice box, the controller is kept and used again every time the debug console is shown.
+     */
+    @Override
+    public void initialize(URL url, ResourceBundle resourceBundle) {
+        refresh();
+        xSpeedSlider.valueProperty().addListener((observableValue, number, t1) -> xSpeedSliderMoved(t1.intValue()));
+        ySpeedSlider.valueProperty().addListener((observableValue, number, t1) -> ySpeedSliderMoved(t1.intValue()));
 
-        levelSelector.getItems().add("Level 1");
-        levelSelector.getItems().add("Level 2");
-        levelSelector.getItems().add("Level 3");
-        levelSelector.getItems().add("Level 4");
-        levelSelector.getItems().add("Level 5");
-        levelSelector.getItems().add("Level 6");
-        levelSelector.getItems().add("Level 7");
+        for (int level = 1; level <= game.getLevelCount(); level++) {
+            levelSelector.getItems().add("Level " + level);
+        }
     }
 }
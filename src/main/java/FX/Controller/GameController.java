@@ -22,66 +22,77 @@ import FX.BrickDestroyer;
 import FX.Model.Entities.Ball.Ball;
 import FX.Model.Entities.Ball.BallClone;
 import FX.Model.Entities.Brick.Brick;
-import FX.Model.Entities.Brick.Crackable;
 import FX.Model.Entities.Entities;
 import FX.Model.Entities.Paddle;
 import FX.Model.Game;
+import FX.Model.GameEngine;
+import FX.Model.GameEventListener;
 import FX.Model.GameScore;
-
+import FX.Model.GameSession;
+import FX.Model.Profiling.FrameProfiler;
+import FX.Model.Replay.ReplayRecorder;
 import FX.Model.SoundEffects;
+import FX.View.BrickLayerRenderer;
 import FX.View.GameScoreDisplay;
+import FX.View.ProfilerOverlay;
 import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.geometry.Point2D;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.shape.LineTo;
-import javafx.scene.shape.MoveTo;
-import javafx.scene.shape.Path;
 import javafx.scene.text.Text;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Random;
 
 /**
  * this class is used as the controller for the game state controller where it is in control of the game play.
  */
 public class GameController {
 
+    private final GameSession gameSession;
+    private final ViewCache viewCache;
+    private Stage debugConsoleStage;
     private Game game;
+    private GameEngine gameEngine;
     private GameScore gameScore;
     private GameScoreDisplay gameScoreDisplay;
+    private BrickLayerRenderer brickLayerRenderer;
     private SoundEffects soundEffects;
+    private FrameProfiler profiler;
+    private ProfilerOverlay profilerOverlay;
 
     private GraphicsContext graphicsContext;
     private AnimationTimer animationTimer;
-    private Scene scene;
+    private boolean timerRunning;
+    private GameInput gameInput;
 
     private ArrayList<KeyCode> userInput;
-    private Random rnd;
 
+    @FXML private Canvas brickLayer;
     @FXML private Canvas gameBoard;
     @FXML private AnchorPane anchorPane;
     @FXML private Text gameText;
 
     /**
      * this is the constructor for the class which is used to set the variables and objects which is going to be used in this class.
+     *
+     * @param gameSession this is the session which holds the game and the game score.
+     * @param viewCache this is the view cache of the session, which holds the pause menu and the debug console.
      */
-    public GameController() {
+    public GameController(GameSession gameSession, ViewCache viewCache) {
+        this.gameSession = gameSession;
+        this.viewCache = viewCache;
         userInput = new ArrayList<>();
-        setSoundEffects(new SoundEffects());
+        setSoundEffects(gameSession.getSoundEffects());
 
-        setGameScore(GameScore.singletonGameScore());
+        setGameScore(gameSession.getGameScore());
         setGameScoreDisplay(new GameScoreDisplay());
-        rnd = new Random();
     }
 
     /**
@@ -89,182 +100,143 @@ public class GameController {
      */
     @FXML
     private void initialize(){
-        setGame(Game.singletonGame(gameBoard.getWidth(),gameBoard.getHeight()));
+        setGame(getGameSession().getGame());
+        setGameEngine(new GameEngine(getGame()));
+        setProfiler(getGameSession().getFrameProfiler());
+        getGameEngine().setProfiler(getProfiler());
+        profilerOverlay = new ProfilerOverlay(getProfiler());
+        getGameEngine().setListener(new GameEventListener() {
+            @Override
+            public void ballWindowCollision() {
+                getSoundEffects().play(SoundEffects.WINDOW_HIT);
+            }
+
+            @Override
+            public void ballPaddleCollision() {
+                getSoundEffects().play(SoundEffects.PADDLE_HIT);
+            }
+
+            @Override
+            public void ballBrickCollision(Brick brick) {
+                getSoundEffects().playBrickSoundEffect(brick);
+            }
+
+            @Override
+            public void brickChanged(int brickIndex) {
+                getBrickLayerRenderer().markDirty(brickIndex);
+            }
+        });
+
+        startReplayRecording();
 
         getGame().setShowPauseMenu(false);
 
         getGameScore().setLevelFileName("Level"+ getGame().getPlayer().getCurrentLevel()+".txt");
 
         graphicsContext = gameBoard.getGraphicsContext2D();
+        setBrickLayerRenderer(new BrickLayerRenderer(brickLayer));
+
+        setGameInput(new GameInput());
+        getGameInput().register(anchorPane, this::inputReceived);
 
         getGameScore().startTimer();
         getGameScore().setCanGetTime(true);
 
         animationTimer = new AnimationTimer() {
+            private long lastFrameTime;
+
             @Override
-            public void handle(long l) {
+            public void start() {
+                lastFrameTime = 0;
+                getGameEngine().resetClock();
+                getProfiler().resetFrameInterval();
+                timerRunning = true;
+                super.start();
+            }
+
+            @Override
+            public void stop() {
+                timerRunning = false;
+                super.stop();
+                flushReplayRecording();
+            }
+
+            @Override
+            public void handle(long now) {
+                double elapsed = lastFrameTime == 0 ? 0 : (now - lastFrameTime) / 1_000_000_000.0;
+                lastFrameTime = now;
+                getProfiler().beginFrame();
+
+                getProfiler().begin();
+                processInput();
+
+                movementKeyHandler(userInput);
+                getProfiler().end(FrameProfiler.INPUT);
+
+                getProfiler().begin();
+                getGameEngine().step(elapsed);
+                getProfiler().end(FrameProfiler.UPDATE);
+
+                getProfiler().begin();
+                getSoundEffects().flush(now);
+                getProfiler().end(FrameProfiler.SOUND);
+
+                getProfiler().begin();
                 graphicsContext.clearRect(0,0,gameBoard.getWidth(),gameBoard.getHeight());
 
                 graphicsContext.setLineWidth(2);
 
                 gameText.setText(String.format("Bricks: %d Balls %d", getGame().getBrickCount(), getGame().getPlayer().getBallCount()));
+                getProfiler().end(FrameProfiler.DRAW_OTHER);
 
-                drawBricks();
+                getProfiler().begin();
+                getBrickLayerRenderer().render(getGame());
+                getProfiler().end(FrameProfiler.DRAW_BRICKS);
 
+                getProfiler().begin();
                 drawBall(getGame().getMainBall());
-                drawPlayer(getGame().getPaddle());
                 drawCloneBall(getGame().getCloneBall());
+                getProfiler().end(FrameProfiler.DRAW_BALLS);
+
+                getProfiler().begin();
+                drawPlayer(getGame().getPaddle());
+                getProfiler().end(FrameProfiler.DRAW_PADDLE);
+
+                if(getProfiler().isEnabled()){
+                    getProfiler().begin();
+                    profilerOverlay.draw(graphicsContext);
+                    getProfiler().end(FrameProfiler.DRAW_OTHER);
+                }
 
                 if(getGame().isBallLost()){
                     gameScore.recordGameTimer();
-                    getGame().setBallLost(false);
                     getGame().getPlayer().setPauseMode(false);
-                    if(getGame().getPlayer().getBallCount() == 0){
+                    if(getGameEngine().resolveBallLost()){
                         BrickDestroyer.audio.pause();
                         getSoundEffects().getLostSound().play();
-                        getGame().getPlayer().resetBallCount();
                         gameText.setText("Game Over. Time spent in this level: " + getGameScore().getTimerString());
                         getGameScore().restartTimer();
                     }
-                    getGame().getCloneBall().clear();
                     stop();
                 }
 
-                scene = anchorPane.getScene();
-
-                Stage stage = (Stage) gameBoard.getScene().getWindow();
-
-                windowLostFocus(stage);
-
-                keyPressed();
-
-                movementKeyHandler(userInput);
-
-                keyReleased(userInput);
-
-                getGame().automation();
-
-                getGame().getPaddle().move();
-
-                if(!getGame().getCloneBall().isEmpty()) {
-                    for (int i = 0; i < getGame().getCloneBall().size(); i++) {
-                        getGame().getCloneBall().get(i).impactEntity(getGame().getMainBall());
-                        if(ballActions(getGame().getCloneBall().get(i))) {
-                            if (!(getEntityMaxY(getGame().getCloneBall().get(i)) >= gameBoard.getBoundsInLocal().getMaxY())) {
-                                getSoundEffects().ballCollisionRandomSound(getSoundEffects().getGameWindowCollisionSound1(), getSoundEffects().getGameWindowCollisionSound2());
-                            } else {
-                                getGame().getCloneBall().remove(i);
-                            }
-                        }
-                    }
-                }
-
-                if(ballActions(getGame().getMainBall()))
-                    if(!(getEntityMaxY(getGame().getMainBall()) >= gameBoard.getBoundsInLocal().getMaxY())){
-                        getSoundEffects().ballCollisionRandomSound(getSoundEffects().getGameWindowCollisionSound1(), getSoundEffects().getGameWindowCollisionSound2());
-                    }else{
-                        getGame().getPlayer().setBallCount(getGame().getPlayer().getBallCount() - 1);
-                        getGame().getMainBall().resetPosition();
-                        getGame().getPaddle().resetPosition();
-                        getGame().getMainBall().setRandomBallSpeed();
-                        getGame().setBallLost(true);
-                    }
-
-                if(getGame().getBrickCount() == 0){
+                if(getGameEngine().isLevelComplete()){
                     gameScore.recordGameTimer();
                     gameScoreHandler();
                     BrickDestroyer.audio.pause();
                     getSoundEffects().getVictorySound().play();
-                    if(getGame().getPlayer().getCurrentLevel() < getGame().getBrickLevels().length){
+                    if(!getGameEngine().isLastLevel()){
                         gameText.setText("Go to Next Level");
-                        animationTimer.stop();
                     }
                     else{
                         gameText.setText("ALL WALLS DESTROYED! Restart?");
-                        animationTimer.stop();
-                        getGame().getPlayer().setCurrentLevel(0);
                     }
-                    getGame().nextLevel();
-                    getGame().restartStatus();
+                    stop();
+                    getGameEngine().advanceLevel();
                     getGameScore().setLevelFileName("Level"+ getGame().getPlayer().getCurrentLevel()+".txt");
                     getGameScore().restartTimer();
                 }
-            }
-
-            /**
-             * this method is used to cause the ball to move and deals with any collision it will face.
-             *
-             * @param ball this is the ball object used to move and collide.
-             * @return returns a boolean if it collides with the game sides (top, left, right) false if not.
-             */
-            private boolean ballActions(Ball ball) {
-                ball.move();
-                if (ball.impactEntity(getGame().getPaddle())) {
-                    if (ball.equals(getGame().getMainBall())){
-                        if(rnd.nextDouble() < BallClone.CLONE_BALL_GENERATION_PROBABILITY && getGame().getCloneBall().size() < BallClone.MAX_CLONE_BALL){
-                            getGame().addCloneBall(new BallClone(new Point2D(getGame().getMainBall().getBounds().getMinX(), getGame().getMainBall().getBounds().getMinY())));
-                        }
-                    }
-                    getSoundEffects().ballCollisionRandomSound(getSoundEffects().getBallPlayerCollisionSound1(), getSoundEffects().getBallPlayerCollisionSound2());
-                }
-                ballBrickCollision(ball);
-                if(ball.gameWindowCollision(gameBoard.getBoundsInLocal()))
-                    return true;
-                return false;
-            }
-
-            /**
-             * this method is used to add user inputs into an array.
-             */
-            private void keyPressed() {
-                scene.setOnKeyPressed(keyEvent ->{
-                    if(!userInput.contains(keyEvent.getCode()))
-                        userInput.add(keyEvent.getCode());
-                });
-            }
-
-            /**
-             * this method is used to remove a key from the user input array only when the user releases the key, which will check if there are any keys that are pressed which will activate the menu, atc. and finally remove the user input from an array.
-             *
-             * @param userInput this is the array of user input.
-             */
-            private void keyReleased(ArrayList<KeyCode> userInput) {
-                scene.setOnKeyReleased(keyEvent -> {
-                    nonMovementKeyHandler(userInput);
-                    while(userInput.contains(keyEvent.getCode()))
-                        userInput.remove(0);
-                });
-            }
-
-            /**
-             * this method is used when the user clicked out or the window lost focus
-             *
-             * @param stage this is the stage (window) that is being listened
-             */
-            private void windowLostFocus(Stage stage) {
-                stage.focusedProperty().addListener((observableValue, aBoolean, t1) -> {
-                    gameScore.recordGameTimer();
-                    gameText.setText("Focus Lost");
-                    animationTimer.stop();
-                    getGame().getPlayer().setPauseMode(false);
-                });
-            }
-
-            /**
-             * this method is used to draw the Bricks.
-             */
-            private void drawBricks() {
-                for (int i = 0; i < getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel()-1].length; i++){
-                    if(!getCurrentLevelBrick(i).isBroken()){
-                        graphicsContext.setFill(getCurrentLevelBrick(i).getInnerColor());
-                        graphicsContext.fillRect(getEntityMinX(getCurrentLevelBrick(i)), getEntityMinY(getCurrentLevelBrick(i)), getCurrentLevelBrick(i).getWidth(), getCurrentLevelBrick(i).getHeight());
-
-                        graphicsContext.setStroke(getCurrentLevelBrick(i).getBorderColor());
-                        graphicsContext.strokeRect(getEntityMinX(getCurrentLevelBrick(i)) -1, getEntityMinY(getCurrentLevelBrick(i)) -1, getCurrentLevelBrick(i).getWidth()+2, getCurrentLevelBrick(i).getHeight()+2);
-
-                        showCrack(i);
-                    }
-                }
+                getProfiler().endFrame();
             }
 
             /**
@@ -309,25 +281,6 @@ public class GameController {
                 graphicsContext.setStroke(paddle.getBorderColor());
                 graphicsContext.strokeRect(getEntityMinX(paddle) -1, getEntityMinY(paddle) -1, paddle.getWidth()+2, paddle.getHeight()+2);
             }
-
-            /**
-             * this method is used to draw the cracks on the brick.
-             */
-            private void showCrack(int i){
-                    if (getCurrentLevelBrick(i) instanceof Crackable && !getCurrentLevelBrick(i).isBroken()) {
-                        if (((Crackable) getCurrentLevelBrick(i)).getCrackPath() != null) {
-                            Path path = ((Crackable) getCurrentLevelBrick(i)).getCrackPath();
-                            graphicsContext.setStroke(getCurrentLevelBrick(i).getBorderColor().darker());
-                            graphicsContext.beginPath();
-                            graphicsContext.moveTo(((MoveTo) path.getElements().get(0)).getX(), ((MoveTo) path.getElements().get(0)).getY());
-                            for (int x = 1; x < path.getElements().size(); x++) {
-                                graphicsContext.lineTo(((LineTo) path.getElements().get(x)).getX(), ((LineTo) path.getElements().get(x)).getY());
-                            }
-                            graphicsContext.closePath();
-                            graphicsContext.stroke();
-                        }
-                    }
-            }
         };
 
         animationTimer.start();
@@ -336,20 +289,31 @@ public class GameController {
     }
 
     /**
-     * this method is used to detect and collide with the brick.
-     *
-     * @param ball this is the ball object used for the collision with the brick.
-     */
-    private void ballBrickCollision(Ball ball) {
-        for (int x = 0; x < getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel()-1].length; x++) {
-            if (!getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel() - 1][x].isBroken()) {
-                if (getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel() - 1][x].getBounds().intersects(ball.getBounds())) {
-                    getSoundEffects().playBrickSoundEffect(getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel() - 1][x]);
-                    if (ball.impactEntity(getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel() - 1][x]))
-                        getGame().setBrickCount(getGame().getBrickCount() - 1);
-                }
+     * this method is used to record the game into a replay file when the replay folder is set, the recording is started once and continues when the game is resumed.
+     */
+    private void startReplayRecording(){
+        File replayDirectory = ReplayRecorder.getReplayDirectory();
+        if(getGameSession().getReplayRecorder() == null && replayDirectory != null){
+            try {
+                getGameSession().setReplayRecorder(ReplayRecorder.startRecording(getGame(), replayDirectory));
+            } catch (IOException e) {
+                e.printStackTrace();
             }
         }
+        getGameEngine().setReplayRecorder(getGameSession().getReplayRecorder());
+    }
+
+    /**
+     * this method is used to write the recorded ticks into the replay file, which is done whenever the game loop stops.
+     */
+    private void flushReplayRecording(){
+        if(getGameEngine().getReplayRecorder() == null)
+            return;
+        try {
+            getGameEngine().getReplayRecorder().flush();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
@@ -373,36 +337,60 @@ public class GameController {
     }
 
     /**
-     * this method is used to get the entity maximum y coordinate of the bounding box.
-     *
-     * @param entities this is the entity used to get the maximum y coordinate.
-     * @return this returns the maximum y coordinate of the entity object
+     * this method is used when a new input is queued, the inputs are handled straight away when the game loop is not running so the game could still be resumed or paused.
      */
-    private double getEntityMaxY(Entities entities) {
-        return entities.getBounds().getMaxY();
+    private void inputReceived(){
+        if(!timerRunning)
+            processInput();
     }
 
     /**
-     * this method is used to get the brick from the brick array on the current level.
-     *
-     * @param i this is the index for the brick array.
-     * @return this returns the brick object based on the index provided.
+     * this method is used to handle all the queued inputs, which updates the array of keys that are held down and runs the non movement features when a key is released.
      */
-    private Brick getCurrentLevelBrick(int i) {
-        return getGame().getBrickLevels()[getGame().getPlayer().getCurrentLevel() - 1][i];
+    private void processInput(){
+        InputEvent inputEvent;
+        while((inputEvent = getGameInput().poll()) != null){
+            switch (inputEvent.getType()) {
+                case InputEvent.KEY_PRESSED:
+                    if(!userInput.contains(inputEvent.getKeyCode()))
+                        userInput.add(inputEvent.getKeyCode());
+                    break;
+                case InputEvent.KEY_RELEASED:
+                    nonMovementKeyHandler(userInput);
+                    userInput.remove(inputEvent.getKeyCode());
+                    break;
+                case InputEvent.FOCUS_LOST:
+                    windowLostFocus();
+                    break;
+            }
+        }
     }
 
     /**
-     * this method is used to display and save the game score.
+     * this method is used when the user clicked out or the window lost focus, the keys held down are cleared since the key releases are not received when the window is not focused.
+     */
+    private void windowLostFocus() {
+        gameScore.recordGameTimer();
+        gameText.setText("Focus Lost");
+        animationTimer.stop();
+        getGame().getPlayer().setPauseMode(false);
+        userInput.clear();
+    }
+
+    /**
+     * this method is used to save the game score on the score saving thread and display it once it is saved.
      */
     private void gameScoreHandler() {
-        try {
-            getGameScore().setLastLevelCompletionRecord(getGameScore().getHighScore());
-            getGameScore().updateSaveFile(getGameScore().getLastLevelCompletionRecord());
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        getGameScoreDisplay().generateLevelCompleteWindow(getGameScore().getLastLevelCompletionRecord(), getGameScore().getTimerString());
+        String levelPlayTime = getGameScore().getTimerString();
+        getGameScore().saveHighScoreAsync()
+                .thenAcceptAsync(records -> {
+                    getGameScore().setLastLevelCompletionRecord(records);
+                    getGameScoreDisplay().generateLevelCompleteWindow(records, levelPlayTime);
+                }, Platform::runLater)
+                .exceptionally(throwable -> {
+                    throwable.printStackTrace();
+                    return null;
+                });
     }
 
     /**
@@ -437,7 +425,7 @@ public class GameController {
             gameScore.recordGameTimer();
             animationTimer.stop();
             getGame().getPlayer().setPauseMode(false);
-            showDebugConsole();
+            Platform.runLater(this::showDebugConsole);
         }else if(userInput.contains(KeyCode.H)){
             getGame().getPlayer().setBotMode(!getGame().getPlayer().isBotMode());
         }
@@ -466,36 +454,60 @@ public class GameController {
      * this method is used to show a debug console.
      */
     private void showDebugConsole(){
-        Stage debugConsole = new Stage();
-        Parent root = null;
+        ViewCache.View debugConsoleView;
         try {
-            root = FXMLLoader.load(getClass().getResource("/FX/DebugConsole.fxml"));
+            debugConsoleView = viewCache.getView("/FX/DebugConsole.fxml");
         } catch (IOException e) {
             e.printStackTrace();
+            return;
         }
 
-        debugConsole.setScene(new Scene(root));
-        debugConsole.setTitle("Debug Console");
-        debugConsole.setResizable(false);
-        debugConsole.initOwner(anchorPane.getScene().getWindow());
-        debugConsole.initModality(Modality.WINDOW_MODAL);
-        debugConsole.showAndWait();
+        if(debugConsoleStage == null){
+            debugConsoleStage = new Stage();
+            debugConsoleStage.setScene(debugConsoleView.getScene());
+            debugConsoleStage.setTitle("Debug Console");
+            debugConsoleStage.setResizable(false);
+            debugConsoleStage.initOwner(anchorPane.getScene().getWindow());
+            debugConsoleStage.initModality(Modality.WINDOW_MODAL);
+        }
+        ((DebugConsoleController) debugConsoleView.getController()).refresh();
+        debugConsoleStage.showAndWait();
     }
 
     /**
      * this method is used to show the pause menu on the screen.
      */
     private void showPauseMenu(){
-        Parent root = null;
+        if(getGame().isShowPauseMenu())
+            return;
         try {
-            root = FXMLLoader.load(getClass().getResource("/FX/PauseMenu.fxml"));
+            anchorPane.getChildren().add(viewCache.getRoot("/FX/PauseMenu.fxml"));
+            getGame().setShowPauseMenu(true);
         } catch (IOException e) {
             e.printStackTrace();
         }
-        if(!getGame().isShowPauseMenu()){
-            anchorPane.getChildren().add(root);
-            getGame().setShowPauseMenu(true);
+    }
+
+    /**
+     * this method is used to close the pause menu and continue the game, the same game loop is started again.
+     */
+    public void resumeFromPauseMenu(){
+        try {
+            anchorPane.getChildren().remove(viewCache.getRoot("/FX/PauseMenu.fxml"));
+        } catch (IOException e) {
+            e.printStackTrace();
         }
+        getGame().setShowPauseMenu(false);
+
+        getGameScore().setLevelFileName("Level"+ getGame().getPlayer().getCurrentLevel()+".txt");
+        getGameScore().startTimer();
+        getGameScore().setCanGetTime(true);
+
+        userInput.clear();
+        getGameInput().clear();
+        animationTimer.start();
+
+        anchorPane.requestFocus();
     }
 
     /**
@@ -525,6 +537,24 @@ public class GameController {
         this.gameScoreDisplay = gameScoreDisplay;
     }
 
+    /**
+     * this method is used to get the renderer which draws the bricks on their own layer.
+     *
+     * @return this returns the brick layer renderer object.
+     */
+    public BrickLayerRenderer getBrickLayerRenderer() {
+        return brickLayerRenderer;
+    }
+
+    /**
+     * this method is used to set the brick layer renderer object into a variable for future reference.
+     *
+     * @param brickLayerRenderer this is the brick layer renderer object used to set into a variable.
+     */
+    public void setBrickLayerRenderer(BrickLayerRenderer brickLayerRenderer) {
+        this.brickLayerRenderer = brickLayerRenderer;
+    }
+
     /**
      * this method is used to get the game score object which is used to manage the scoring system.
      *
@@ -552,6 +582,42 @@ public class GameController {
         return game;
     }
 
+    /**
+     * this method is used to get the game engine which runs the game logic on a fixed time step.
+     *
+     * @return this returns the game engine object.
+     */
+    public GameEngine getGameEngine() {
+        return gameEngine;
+    }
+
+    /**
+     * this method is used to set the game engine into a variable for future reference.
+     *
+     * @param gameEngine this is the game engine object used to set into a variable.
+     */
+    public void setGameEngine(GameEngine gameEngine) {
+        this.gameEngine = gameEngine;
+    }
+
+    /**
+     * this method is used to get the input object which queues the key presses and window events for the game loop.
+     *
+     * @return this returns the game input object.
+     */
+    public GameInput getGameInput() {
+        return gameInput;
+    }
+
+    /**
+     * this method is used to set the game input object into a variable for future reference.
+     *
+     * @param gameInput this is the game input object used to set into a variable.
+     */
+    public void setGameInput(GameInput gameInput) {
+        this.gameInput = gameInput;
+    }
+
     /**
      * this method is used to get the sound effects object class which deals with all the sound effects for the game.
      *
@@ -569,4 +635,31 @@ public class GameController {
     public void setSoundEffects(SoundEffects soundEffects) {
         this.soundEffects = soundEffects;
     }
-}
\ No newline at end of file
+
+    /**
+     * this method is used to get the session which holds the game and the game score.
+     *
+     * @return this returns the game session.
+     */
+    public GameSession getGameSession() {
+        return gameSession;
+    }
+
+    /**
+     * this method is used to get the profiler which measures the time spent on each part of the frames.
+     *
+     * @return this returns the frame profiler.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * this method is used to set the profiler which measures the time spent on each part of the frames.
+     *
+     * @param profiler this is the frame profiler used to set into a variable.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+}
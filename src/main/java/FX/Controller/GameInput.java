@@ -0,0 +1,150 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Controller;
+
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.stage.Window;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * this class is used to collect the key presses, key releases and the window losing focus into a queue which is handled by the game loop.
+ * the listeners are only registered once, they follow the node when it is placed into another scene or window and are removed from the old ones.
+ */
+public class GameInput {
+
+    private final ConcurrentLinkedQueue<InputEvent> events = new ConcurrentLinkedQueue<>();
+
+    private Runnable onInput;
+    private Scene scene;
+    private Window window;
+
+    private final EventHandler<KeyEvent> keyPressedHandler = keyEvent -> keyPressed(keyEvent.getCode());
+    private final EventHandler<KeyEvent> keyReleasedHandler = keyEvent -> keyReleased(keyEvent.getCode());
+    private final ChangeListener<Boolean> focusListener = (observableValue, wasFocused, focused) -> focusChanged(focused);
+    private final ChangeListener<Window> windowListener = (observableValue, oldWindow, newWindow) -> setWindow(newWindow);
+    private final ChangeListener<Scene> sceneListener = (observableValue, oldScene, newScene) -> setScene(newScene);
+
+    /**
+     * this method is used to start listening to the inputs of the scene and window which contains the node. it should only be called once.
+     *
+     * @param node this is the node of the game, the inputs are taken from the scene and window of this node.
+     * @param onInput this is called every time a new event is added to the queue, null if it is not needed.
+     */
+    public void register(Node node, Runnable onInput){
+        this.onInput = onInput;
+        node.sceneProperty().addListener(sceneListener);
+        setScene(node.getScene());
+    }
+
+    /**
+     * this method is used to get the next event in the queue.
+     *
+     * @return this returns the oldest event which is not yet handled, null if there are none.
+     */
+    public InputEvent poll(){
+        return events.poll();
+    }
+
+    /**
+     * this method is used to remove all the events which are not yet handled.
+     */
+    public void clear(){
+        events.clear();
+    }
+
+    /**
+     * this method is used to queue a key being pressed.
+     *
+     * @param keyCode this is the key pressed.
+     */
+    void keyPressed(KeyCode keyCode){
+        offer(new InputEvent(InputEvent.KEY_PRESSED, keyCode));
+    }
+
+    /**
+     * this method is used to queue a key being released.
+     *
+     * @param keyCode this is the key released.
+     */
+    void keyReleased(KeyCode keyCode){
+        offer(new InputEvent(InputEvent.KEY_RELEASED, keyCode));
+    }
+
+    /**
+     * this method is used to queue the window losing focus, nothing is queued when the window gains focus.
+     *
+     * @param focused this is true if the window is focused.
+     */
+    void focusChanged(boolean focused){
+        if(!focused)
+            offer(new InputEvent(InputEvent.FOCUS_LOST, null));
+    }
+
+    /**
+     * this method is used to add an event into the queue.
+     *
+     * @param event this is the event to be added.
+     */
+    private void offer(InputEvent event){
+        events.offer(event);
+        if(onInput != null)
+            onInput.run();
+    }
+
+    /**
+     * this method is used to move the key listeners from the old scene to the new scene.
+     *
+     * @param newScene this is the scene which the game node is placed in.
+     */
+    private void setScene(Scene newScene){
+        if(scene != null){
+            scene.removeEventHandler(KeyEvent.KEY_PRESSED, keyPressedHandler);
+            scene.removeEventHandler(KeyEvent.KEY_RELEASED, keyReleasedHandler);
+            scene.windowProperty().removeListener(windowListener);
+        }
+        scene = newScene;
+        if(scene != null){
+            scene.addEventHandler(KeyEvent.KEY_PRESSED, keyPressedHandler);
+            scene.addEventHandler(KeyEvent.KEY_RELEASED, keyReleasedHandler);
+            scene.windowProperty().addListener(windowListener);
+        }
+        setWindow(scene == null ? null : scene.getWindow());
+    }
+
+    /**
+     * this method is used to move the focus listener from the old window to the new window.
+     *
+     * @param newWindow this is the window which the game scene is shown in.
+     */
+    private void setWindow(Window newWindow){
+        if(window == newWindow)
+            return;
+        if(window != null)
+            window.focusedProperty().removeListener(focusListener);
+        window = newWindow;
+        if(window != null)
+            window.focusedProperty().addListener(focusListener);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Controller;
+
+import javafx.scene.input.KeyCode;
+
+/**
+ * this class is used to store a single user input or window event which is waiting to be handled by the game loop.
+ */
+public class InputEvent {
+
+    /**
+     * this is the indicator for a key being pressed.
+     */
+    public static final int KEY_PRESSED = 1;
+
+    /**
+     * this is the indicator for a key being released.
+     */
+    public static final int KEY_RELEASED = 2;
+
+    /**
+     * this is the indicator for the game window losing focus.
+     */
+    public static final int FOCUS_LOST = 3;
+
+    private final int type;
+    private final KeyCode keyCode;
+
+    /**
+     * this constructor is used to create an input event.
+     *
+     * @param type this is the type of the event (KEY_PRESSED, KEY_RELEASED, FOCUS_LOST).
+     * @param keyCode this is the key of the event, null if it is not a key event.
+     */
+    public InputEvent(int type, KeyCode keyCode){
+        this.type = type;
+        this.keyCode = keyCode;
+    }
+
+    /**
+     * this method is used to get the type of the event.
+     *
+     * @return this returns the type of the event.
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * this method is used to get the key of the event.
+     *
+     * @return this returns the key code, null if it is not a key event.
+     */
+    public KeyCode getKeyCode() {
+        return keyCode;
+    }
+}
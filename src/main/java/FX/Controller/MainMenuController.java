@@ -18,6 +18,7 @@
 
 package FX.Controller;
 
+import FX.Model.GameSession;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -57,13 +58,17 @@ public class MainMenuController {
         Stage stage = (Stage) start.getScene().getWindow();
         stage.hide();
 
-        loader = FXMLLoader.load(getClass().getResource("/FX/GameState.fxml"));
+        GameSession gameSession = new GameSession();
+        loader = new ViewCache(gameSession).getRoot("/FX/GameState.fxml");
 
         Stage newStage = new Stage();
         newStage.getIcons().add(new Image(getClass().getResourceAsStream("/images/GameIcon.png")));
         newStage.setScene(new Scene(loader));
         newStage.setResizable(false);
-        newStage.setOnCloseRequest(windowEvent -> onExitButton());
+        newStage.setOnCloseRequest(windowEvent -> {
+            gameSession.close();
+            onExitButton();
+        });
         newStage.setTitle("Brick Destroy");
         newStage.show();
     }
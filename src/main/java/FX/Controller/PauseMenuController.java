@@ -20,12 +20,10 @@ package FX.Controller;
 
 import FX.Model.Game;
 import FX.Model.GameScore;
+import FX.Model.GameSession;
+import FX.Model.Replay.ReplayFormat;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
-import javafx.stage.Stage;
 
 import java.io.IOException;
 
@@ -35,31 +33,34 @@ import java.io.IOException;
 public class PauseMenuController {
     @FXML private Button resume;
 
+    private final GameSession gameSession;
+    private final ViewCache viewCache;
     private Game game;
     private GameScore gameScore;
 
     /**
      * this constructor is used to prepare the pause menu controller which is allows the user to resume the game, restart the game or quit the game.
+     *
+     * @param gameSession this is the session of the game being paused.
+     * @param viewCache this is the view cache of the session, which holds the game being paused.
      */
-    public PauseMenuController(){
-        game = Game.singletonGame(0,0);
-        gameScore = GameScore.singletonGameScore();
+    public PauseMenuController(GameSession gameSession, ViewCache viewCache){
+        this.gameSession = gameSession;
+        this.viewCache = viewCache;
+        game = gameSession.getGame();
+        gameScore = gameSession.getGameScore();
     }
 
     /**
-     * this method is used to resume the game.
+     * this method is used to resume the game, the pause menu is removed from the game which is already shown.
      */
     @FXML
     private void resumeButton(){
-        Parent loader = null;
         try {
-            loader = FXMLLoader.load(getClass().getResource("/FX/GameState.fxml"));
+            viewCache.getController("/FX/GameState.fxml", GameController.class).resumeFromPauseMenu();
         } catch (IOException e) {
             e.printStackTrace();
         }
-
-        Stage stage = (Stage) resume.getScene().getWindow();
-        stage.setScene(new Scene(loader));
     }
 
     /**
@@ -70,6 +71,7 @@ public class PauseMenuController {
         game.restartStatus();
         gameScore.restartTimer();
         game.wallReset();
+        gameSession.recordReplayEvent(ReplayFormat.EVENT_RESTART_LEVEL);
 
         resumeButton();
     }
@@ -79,6 +81,7 @@ public class PauseMenuController {
      */
     @FXML
     private void exitButton(){
+        gameSession.close();
         System.out.println("Goodbye " + System.getProperty("user.name"));
         System.exit(0);
     }
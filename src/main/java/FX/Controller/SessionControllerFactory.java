@@ -0,0 +1,71 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Controller;
+
+import FX.Model.GameSession;
+import javafx.util.Callback;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * this class is used by the FXML loader to create the controllers, a controller which has a constructor taking the game session is given the session,
+ * and the view cache too if the constructor also takes it.
+ */
+public class SessionControllerFactory implements Callback<Class<?>, Object> {
+
+    private final GameSession gameSession;
+    private final ViewCache viewCache;
+
+    /**
+     * this constructor is used to create the controller factory for a session.
+     *
+     * @param gameSession this is the session given to the controllers.
+     * @param viewCache this is the view cache of the session given to the controllers.
+     */
+    public SessionControllerFactory(GameSession gameSession, ViewCache viewCache){
+        this.gameSession = gameSession;
+        this.viewCache = viewCache;
+    }
+
+    /**
+     * this method is used to create a controller, the constructor taking the session and view cache is used if there is one,
+     * then the constructor taking the session, otherwise the constructor without parameters.
+     *
+     * @param controllerClass this is the class of the controller.
+     * @return this returns the new controller.
+     */
+    @Override
+    public Object call(Class<?> controllerClass) {
+        try {
+            try {
+                return controllerClass.getConstructor(GameSession.class, ViewCache.class).newInstance(gameSession, viewCache);
+            } catch (NoSuchMethodException e) {
+                // the controller does not use the view cache.
+            }
+            try {
+                return controllerClass.getConstructor(GameSession.class).newInstance(gameSession);
+            } catch (NoSuchMethodException e) {
+                return controllerClass.getConstructor().newInstance();
+            }
+        } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("could not create the controller " + controllerClass.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Controller;
+
+import FX.Model.GameSession;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * this class is used to load every FXML file of a session only once, the root, controller and scene of the file are kept and used again the next time it is shown.
+ * so pausing and resuming the game or opening the debug console again does not create a new controller, game loop or sound effects.
+ */
+public class ViewCache {
+
+    /**
+     * this class is used to hold a loaded FXML file.
+     */
+    public static final class View {
+
+        private final Parent root;
+        private final Object controller;
+        private Scene scene;
+
+        /**
+         * this constructor is used to create the view of a loaded FXML file.
+         *
+         * @param root this is the root of the FXML file.
+         * @param controller this is the controller of the FXML file.
+         */
+        private View(Parent root, Object controller){
+            this.root = root;
+            this.controller = controller;
+        }
+
+        /**
+         * this method is used to get the root of the FXML file.
+         *
+         * @return this returns the root node.
+         */
+        public Parent getRoot() {
+            return root;
+        }
+
+        /**
+         * this method is used to get the controller of the FXML file.
+         *
+         * @return this returns the controller.
+         */
+        public Object getController() {
+            return controller;
+        }
+
+        /**
+         * this method is used to get the scene which shows the root, it is created the first time it is needed.
+         *
+         * @return this returns the scene of the view.
+         */
+        public Scene getScene() {
+            if(scene == null)
+                scene = root.getScene() != null ? root.getScene() : new Scene(root);
+            return scene;
+        }
+    }
+
+    private final GameSession gameSession;
+    private final Map<String, View> views = new HashMap<>();
+
+    /**
+     * this constructor is used to create the view cache of a session.
+     *
+     * @param gameSession this is the session given to the controllers.
+     */
+    public ViewCache(GameSession gameSession){
+        this.gameSession = gameSession;
+    }
+
+    /**
+     * this method is used to get the view of a FXML file, the file is loaded the first time with the controllers of the session.
+     *
+     * @param resource this is the path of the FXML file.
+     * @return this returns the view of the FXML file.
+     * @throws IOException this is an exception used when the FXML file could not be loaded.
+     */
+    public View getView(String resource) throws IOException {
+        View view = views.get(resource);
+        if(view == null){
+            FXMLLoader fxmlLoader = new FXMLLoader(ViewCache.class.getResource(resource));
+            fxmlLoader.setControllerFactory(new SessionControllerFactory(getGameSession(), this));
+            Parent root = fxmlLoader.load();
+            view = new View(root, fxmlLoader.getController());
+            views.put(resource, view);
+        }
+        return view;
+    }
+
+    /**
+     * this method is used to get the root of a FXML file.
+     *
+     * @param resource this is the path of the FXML file.
+     * @return this returns the root node.
+     * @throws IOException this is an exception used when the FXML file could not be loaded.
+     */
+    public Parent getRoot(String resource) throws IOException {
+        return getView(resource).getRoot();
+    }
+
+    /**
+     * this method is used to get the controller of a FXML file.
+     *
+     * @param resource this is the path of the FXML file.
+     * @param controllerClass this is the class of the controller.
+     * @param <T> this is the type of the controller.
+     * @return this returns the controller.
+     * @throws IOException this is an exception used when the FXML file could not be loaded.
+     */
+    public <T> T getController(String resource, Class<T> controllerClass) throws IOException {
+        return controllerClass.cast(getView(resource).getController());
+    }
+
+    /**
+     * this method is used to check if a FXML file is already loaded.
+     *
+     * @param resource this is the path of the FXML file.
+     * @return this returns true if the view is in the cache.
+     */
+    public boolean isLoaded(String resource) {
+        return views.containsKey(resource);
+    }
+
+    /**
+     * this method is used to get the session of the views.
+     *
+     * @return this returns the game session.
+     */
+    public GameSession getGameSession() {
+        return gameSession;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+import javafx.scene.media.AudioClip;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * this class is used to keep the audio clips of the sound effects after they are loaded, so opening or resuming a game does not load them again.
+ * the clips are loaded on a background thread when the game starts, a clip which is needed before it is preloaded is loaded straight away instead, and it is never loaded twice.
+ */
+public final class AudioAssets {
+
+    /**
+     * this is the resource path of every sound effect which is preloaded.
+     */
+    public static final String[] SOUND_EFFECTS = {
+            "/SoundEffects/ClayImpactSound1.mp3", "/SoundEffects/ClayImpactSound2.mp3",
+            "/SoundEffects/SteelImpactSound1.mp3", "/SoundEffects/SteelImpactSound2.mp3",
+            "/SoundEffects/CementImpactSound.wav", "/SoundEffects/CementBreak.mp3",
+            "/SoundEffects/WindowImpact1.mp3", "/SoundEffects/WindowImpact2.mp3",
+            "/SoundEffects/BallPlayerImpactSound1.mp3", "/SoundEffects/BallPlayerImpactSound2.mp3",
+            "/SoundEffects/VictorySound.wav", "/SoundEffects/DefeatSound.wav"
+    };
+
+    private static final Map<String, AudioClip> CLIPS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean PRELOAD_STARTED = new AtomicBoolean(false);
+
+    /**
+     * this constructor is private since the class only has static methods.
+     */
+    private AudioAssets(){
+    }
+
+    /**
+     * this method is used to start loading all the sound effects on a background thread, it only starts the thread the first time it is called.
+     */
+    public static void preloadAsync(){
+        if(!PRELOAD_STARTED.compareAndSet(false, true))
+            return;
+        Thread preloadThread = new Thread(() -> {
+            for (String resource : SOUND_EFFECTS) {
+                try {
+                    getClip(resource);
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        }, "audio-preload");
+        preloadThread.setDaemon(true);
+        preloadThread.start();
+    }
+
+    /**
+     * this method is used to get the audio clip of a resource, it is loaded now if it is not loaded yet (waiting for the background thread if it is loading the same clip).
+     *
+     * @param resource this is the resource path of the audio file.
+     * @return this returns the audio clip, which is shared by everyone using the same resource.
+     */
+    public static AudioClip getClip(String resource){
+        return CLIPS.computeIfAbsent(resource, AudioAssets::loadClip);
+    }
+
+    /**
+     * this method is used to check if the audio clip of a resource is already loaded.
+     *
+     * @param resource this is the resource path of the audio file.
+     * @return this returns true if the clip is loaded.
+     */
+    public static boolean isLoaded(String resource){
+        return CLIPS.containsKey(resource);
+    }
+
+    /**
+     * this method is used to load an audio clip.
+     *
+     * @param resource this is the resource path of the audio file.
+     * @return this returns the audio clip loaded.
+     */
+    private static AudioClip loadClip(String resource){
+        return new AudioClip(Objects.requireNonNull(AudioAssets.class.getResource(resource), resource).toExternalForm());
+    }
+}
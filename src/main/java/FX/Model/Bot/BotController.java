@@ -0,0 +1,35 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Bot;
+
+import FX.Model.Game;
+
+/**
+ * this interface is used by the bots which could control the paddle instead of the player, the game asks the bot for the paddle movement once every tick while the bot mode is on.
+ */
+public interface BotController {
+
+    /**
+     * this method is used to set the move amount of the paddle for the tick, it is called before the paddle and the balls move.
+     *
+     * @param game this is the game which the bot is playing.
+     */
+    void control(Game game);
+}
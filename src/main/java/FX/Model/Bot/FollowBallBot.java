@@ -0,0 +1,43 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Bot;
+
+import FX.Model.Game;
+
+/**
+ * this class is the original bot, which always moves the paddle towards the current position of the main ball.
+ * it is the bot used by the game, so the replays recorded with the bot mode play the same way.
+ */
+public class FollowBallBot implements BotController {
+
+    /**
+     * this method is used to move the paddle to the right if the main ball is on the right of the center of the paddle, and to the left otherwise.
+     *
+     * @param game this is the game which the bot is playing.
+     */
+    @Override
+    public void control(Game game) {
+        if(game.getMainBall().getBounds().getMinX() > game.getPaddle().getBounds().getMinX() + game.getPaddle().getBounds().getWidth()/2){
+            game.getPaddle().setMoveAmount(game.getPaddle().getDEF_MOVE_AMOUNT());
+        }else{
+            game.getPaddle().setMoveAmount(-game.getPaddle().getDEF_MOVE_AMOUNT());
+        }
+    }
+}
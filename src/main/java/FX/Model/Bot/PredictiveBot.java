@@ -0,0 +1,139 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Bot;
+
+import FX.Model.Entities.Ball.Ball;
+import FX.Model.Entities.Ball.BallClone;
+import FX.Model.Entities.Paddle;
+import FX.Model.Game;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * this class is a bot which predicts where every ball (the main ball and the clone balls) will reach the paddle, by following the straight path of the ball and reflecting it off the sides and the top of the play area.
+ * the bricks are not taken into account, the prediction is made again every tick so a brick hit only changes the target from the next tick.
+ * the main ball is saved first, a clone ball is only followed when it arrives earlier and the paddle could still get back to the main ball in time.
+ * it only depends on the state of the game, so a game played by it is the same for the same seed.
+ */
+public class PredictiveBot implements BotController {
+
+    private double predictedX;
+    private double predictedTicks;
+
+    /**
+     * this method is used to move the paddle towards the place where the chosen ball will reach the paddle, the paddle stops when its center is close enough.
+     *
+     * @param game this is the game which the bot is playing.
+     */
+    @Override
+    public void control(Game game) {
+        Paddle paddle = game.getPaddle();
+        int moveAmount = paddle.getDEF_MOVE_AMOUNT();
+        double paddleCenter = paddle.getX() + paddle.getWidth() / 2.0;
+
+        double targetX = paddleCenter;
+        double mainTicks = Double.POSITIVE_INFINITY;
+        if(predict(game.getMainBall(), paddle, game.getPlayArea())){
+            targetX = predictedX;
+            mainTicks = predictedTicks;
+        }
+        double mainX = targetX;
+        double earliest = mainTicks;
+        for (BallClone cloneBall : game.getCloneBall()) {
+            if(!predict(cloneBall, paddle, game.getPlayArea()) || predictedTicks >= earliest)
+                continue;
+            boolean reachable = Math.abs(predictedX - paddleCenter) / moveAmount <= predictedTicks;
+            boolean backInTime = Math.abs(mainX - predictedX) / moveAmount <= mainTicks - predictedTicks;
+            if(reachable && backInTime){
+                targetX = predictedX;
+                earliest = predictedTicks;
+            }
+        }
+
+        double distance = targetX - paddleCenter;
+        if(Math.abs(distance) < moveAmount)
+            paddle.setMoveAmount(0);
+        else
+            paddle.setMoveAmount(distance > 0 ? moveAmount : -moveAmount);
+    }
+
+    /**
+     * this method is used to predict where the center of the ball will be when the ball reaches the top of the paddle. the result is read from predictedX and predictedTicks.
+     *
+     * @param ball this is the ball to be predicted.
+     * @param paddle this is the paddle.
+     * @param playArea this is the play area which the ball bounces inside.
+     * @return this returns false if the ball does not move vertically, so it never reaches the paddle.
+     */
+    boolean predict(Ball ball, Paddle paddle, Rectangle playArea){
+        int speedX = ball.getSpeedX();
+        int speedY = ball.getSpeedY();
+        if(speedY == 0)
+            return false;
+        double halfWidth = ball.getWidth() / 2.0;
+        double halfHeight = ball.getHeight() / 2.0;
+        double centerX = ball.getX() + halfWidth;
+        double centerY = ball.getY() + halfHeight;
+        double paddleLine = paddle.getY() - halfHeight;
+        double top = playArea.getY() + halfHeight;
+
+        if(speedY > 0)
+            predictedTicks = Math.max(0, paddleLine - centerY) / speedY;
+        else
+            predictedTicks = (Math.max(0, centerY - top) + (paddleLine - top)) / -speedY;
+        predictedX = reflect(centerX + speedX * predictedTicks, playArea.getX() + halfWidth, playArea.getX() + playArea.getWidth() - halfWidth);
+        return true;
+    }
+
+    /**
+     * this method is used to fold a position which went past the sides back inside, the same way as a ball bouncing between two walls.
+     *
+     * @param position this is the position without the walls.
+     * @param min this is the smallest position allowed.
+     * @param max this is the largest position allowed.
+     * @return this returns the position after the bounces.
+     */
+    static double reflect(double position, double min, double max){
+        double length = max - min;
+        if(length <= 0)
+            return min;
+        double folded = (position - min) % (2 * length);
+        if(folded < 0)
+            folded += 2 * length;
+        return min + (folded > length ? 2 * length - folded : folded);
+    }
+
+    /**
+     * this method is used to get the x coordinate of the ball center predicted by the last prediction.
+     *
+     * @return this returns the predicted x coordinate.
+     */
+    double getPredictedX() {
+        return predictedX;
+    }
+
+    /**
+     * this method is used to get the amount of ticks until the ball reaches the paddle, predicted by the last prediction.
+     *
+     * @return this returns the predicted amount of ticks.
+     */
+    double getPredictedTicks() {
+        return predictedTicks;
+    }
+}
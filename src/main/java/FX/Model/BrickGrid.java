@@ -0,0 +1,369 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * this class is a uniform grid over the bricks of a level, which is used to only check the bricks that are near a ball for collision instead of every brick in the level.
+ * the cell size is the size of the largest brick, so each brick only falls into a few cells.
+ * the broken bricks are removed from the cells (the live bricks of a cell are kept at the start of the cell) so a query only finds the bricks which are not broken, and they are put back when the wall is reset.
+ */
+public class BrickGrid {
+
+    private final Brick[] bricks;
+
+    private double originX;
+    private double originY;
+    private double extentX;
+    private double extentY;
+    private double cellWidth;
+    private double cellHeight;
+    private int columns;
+    private int rows;
+
+    private int[] cellStart;
+    private int[] cellBricks;
+    private int[] cellLiveCount;
+
+    private int[] brickFirstColumn;
+    private int[] brickLastColumn;
+    private int[] brickFirstRow;
+    private int[] brickLastRow;
+    private final BitSet live;
+    private int liveCount;
+
+    private final int[] visitStamp;
+    private int stamp;
+    private final int[] candidates;
+    private int candidateCount;
+
+    /**
+     * this constructor is used to create the grid based on the position and size of the bricks provided.
+     *
+     * @param bricks this is the brick array of the level, the grid refers to the bricks by their index in this array.
+     */
+    public BrickGrid(Brick[] bricks){
+        this.bricks = bricks;
+        this.visitStamp = new int[bricks.length];
+        this.candidates = new int[bricks.length];
+        this.live = new BitSet(bricks.length);
+        double[] minX = new double[bricks.length], minY = new double[bricks.length], maxX = new double[bricks.length], maxY = new double[bricks.length];
+        for(int i = 0; i < bricks.length; i++){
+            minX[i] = bricks[i].getBounds().getMinX();
+            minY[i] = bricks[i].getBounds().getMinY();
+            maxX[i] = bricks[i].getBounds().getMaxX();
+            maxY[i] = bricks[i].getBounds().getMaxY();
+        }
+        build(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * this constructor is used to create the grid based on the position and size of the bricks of a compact wall, there are no brick objects for this grid.
+     *
+     * @param compactWall this is the compact wall of the level, the grid refers to the bricks by their index in the wall.
+     */
+    public BrickGrid(CompactWall compactWall){
+        int size = compactWall.size();
+        this.bricks = null;
+        this.visitStamp = new int[size];
+        this.candidates = new int[size];
+        this.live = new BitSet(size);
+        double[] minX = new double[size], minY = new double[size], maxX = new double[size], maxY = new double[size];
+        for(int i = 0; i < size; i++){
+            minX[i] = compactWall.getX(i);
+            minY[i] = compactWall.getY(i);
+            maxX[i] = minX[i] + compactWall.getWidth(i);
+            maxY[i] = minY[i] + compactWall.getHeight(i);
+        }
+        build(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * this method is used to place the index of each brick into the cells the brick overlaps, stored as one packed array with the start of every cell.
+     *
+     * @param brickMinX this is the left side of every brick.
+     * @param brickMinY this is the top side of every brick.
+     * @param brickMaxX this is the right side of every brick.
+     * @param brickMaxY this is the bottom side of every brick.
+     */
+    private void build(double[] brickMinX, double[] brickMinY, double[] brickMaxX, double[] brickMaxY){
+        int count = brickMinX.length;
+        live.set(0, count);
+        liveCount = count;
+        if(count == 0){
+            columns = rows = 0;
+            cellStart = new int[1];
+            cellBricks = new int[0];
+            cellLiveCount = new int[0];
+            return;
+        }
+
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for(int i = 0; i < count; i++){
+            minX = Math.min(minX, brickMinX[i]);
+            minY = Math.min(minY, brickMinY[i]);
+            maxX = Math.max(maxX, brickMaxX[i]);
+            maxY = Math.max(maxY, brickMaxY[i]);
+            cellWidth = Math.max(cellWidth, brickMaxX[i] - brickMinX[i]);
+            cellHeight = Math.max(cellHeight, brickMaxY[i] - brickMinY[i]);
+        }
+        cellWidth = Math.max(cellWidth, 1);
+        cellHeight = Math.max(cellHeight, 1);
+        originX = minX;
+        originY = minY;
+        extentX = maxX;
+        extentY = maxY;
+        columns = (int) ((maxX - minX) / cellWidth) + 1;
+        rows = (int) ((maxY - minY) / cellHeight) + 1;
+
+        brickFirstColumn = new int[count];
+        brickLastColumn = new int[count];
+        brickFirstRow = new int[count];
+        brickLastRow = new int[count];
+        cellStart = new int[columns * rows + 1];
+        for(int i = 0; i < count; i++){
+            brickFirstColumn[i] = columnOf(brickMinX[i]);
+            brickLastColumn[i] = columnOf(brickMaxX[i]);
+            brickFirstRow[i] = rowOf(brickMinY[i]);
+            brickLastRow[i] = rowOf(brickMaxY[i]);
+            for(int row = brickFirstRow[i]; row <= brickLastRow[i]; row++)
+                for(int column = brickFirstColumn[i]; column <= brickLastColumn[i]; column++)
+                    cellStart[row * columns + column + 1]++;
+        }
+        for(int i = 1; i < cellStart.length; i++)
+            cellStart[i] += cellStart[i - 1];
+
+        cellBricks = new int[cellStart[cellStart.length - 1]];
+        cellLiveCount = new int[columns * rows];
+        for(int i = 0; i < count; i++){
+            for(int row = brickFirstRow[i]; row <= brickLastRow[i]; row++)
+                for(int column = brickFirstColumn[i]; column <= brickLastColumn[i]; column++){
+                    int cell = row * columns + column;
+                    cellBricks[cellStart[cell] + cellLiveCount[cell]++] = i;
+                }
+        }
+    }
+
+    /**
+     * this method is used to take a broken brick out of the cells, it is swapped with the last live brick of every cell it is in, so the queries no longer find it.
+     * nothing is done if the brick is already removed.
+     *
+     * @param index this is the index of the brick.
+     */
+    public void remove(int index){
+        if(!live.get(index))
+            return;
+        live.clear(index);
+        liveCount--;
+        for(int row = brickFirstRow[index]; row <= brickLastRow[index]; row++)
+            for(int column = brickFirstColumn[index]; column <= brickLastColumn[index]; column++){
+                int cell = row * columns + column;
+                int lastLive = cellStart[cell] + --cellLiveCount[cell];
+                swap(find(index, cellStart[cell], lastLive + 1), lastLive);
+            }
+    }
+
+    /**
+     * this method is used to put a brick back into the cells when it is reset, it is swapped with the first removed brick of every cell it is in.
+     * nothing is done if the brick is not removed.
+     *
+     * @param index this is the index of the brick.
+     */
+    public void restore(int index){
+        if(live.get(index))
+            return;
+        live.set(index);
+        liveCount++;
+        for(int row = brickFirstRow[index]; row <= brickLastRow[index]; row++)
+            for(int column = brickFirstColumn[index]; column <= brickLastColumn[index]; column++){
+                int cell = row * columns + column;
+                int firstRemoved = cellStart[cell] + cellLiveCount[cell]++;
+                swap(find(index, firstRemoved, cellStart[cell + 1]), firstRemoved);
+            }
+    }
+
+    /**
+     * this method is used to find the position of a brick in a part of the packed cell array, a cell only holds a few bricks.
+     *
+     * @param index this is the index of the brick.
+     * @param from this is the first position to be checked.
+     * @param to this is the position after the last position to be checked.
+     * @return this returns the position of the brick.
+     */
+    private int find(int index, int from, int to){
+        for(int i = from; i < to; i++)
+            if(cellBricks[i] == index)
+                return i;
+        throw new IllegalStateException("brick " + index + " is not in the cell");
+    }
+
+    /**
+     * this method is used to swap two positions of the packed cell array.
+     *
+     * @param first this is the first position.
+     * @param second this is the second position.
+     */
+    private void swap(int first, int second){
+        int brick = cellBricks[first];
+        cellBricks[first] = cellBricks[second];
+        cellBricks[second] = brick;
+    }
+
+    /**
+     * this method is used to find the live bricks which are in the cells overlapped by the area provided. the result is read using getCandidateCount and getCandidate.
+     * the candidates are in the same order as the brick array, so the collisions are handled in the same order as checking every brick.
+     *
+     * @param minX this is the left side of the area.
+     * @param minY this is the top side of the area.
+     * @param maxX this is the right side of the area.
+     * @param maxY this is the bottom side of the area.
+     * @return this returns the amount of candidate bricks found.
+     */
+    public int query(double minX, double minY, double maxX, double maxY){
+        candidateCount = 0;
+        if(columns == 0 || maxX < originX || maxY < originY || minX > extentX || minY > extentY)
+            return 0;
+        int firstColumn = columnOf(minX), lastColumn = columnOf(maxX);
+        int firstRow = rowOf(minY), lastRow = rowOf(maxY);
+
+        if(++stamp == 0){
+            Arrays.fill(visitStamp, 0);
+            stamp = 1;
+        }
+        for(int row = firstRow; row <= lastRow; row++){
+            for(int column = firstColumn; column <= lastColumn; column++){
+                int cell = row * columns + column;
+                for(int i = cellStart[cell], end = cellStart[cell] + cellLiveCount[cell]; i < end; i++){
+                    int index = cellBricks[i];
+                    if(visitStamp[index] != stamp){
+                        visitStamp[index] = stamp;
+                        insertCandidate(index);
+                    }
+                }
+            }
+        }
+        return candidateCount;
+    }
+
+    /**
+     * this method is used to add a brick index into the candidates while keeping the candidates in ascending order.
+     *
+     * @param index this is the index of the brick to be added.
+     */
+    private void insertCandidate(int index){
+        int i = candidateCount++;
+        while(i > 0 && candidates[i - 1] > index){
+            candidates[i] = candidates[i - 1];
+            i--;
+        }
+        candidates[i] = index;
+    }
+
+    /**
+     * this method is used to get the amount of candidate bricks found in the last query.
+     *
+     * @return this returns the amount of candidate bricks.
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * this method is used to get the index of one of the candidate bricks found in the last query.
+     *
+     * @param i this is the position of the candidate, from 0 to the candidate count.
+     * @return this returns the index of the brick in the brick array.
+     */
+    public int getCandidate(int i) {
+        return candidates[i];
+    }
+
+    /**
+     * this method is used to check if a brick is still in the grid (not removed as broken).
+     *
+     * @param index this is the index of the brick.
+     * @return this returns true if the brick is live.
+     */
+    public boolean isLive(int index) {
+        return live.get(index);
+    }
+
+    /**
+     * this method is used to go through the live bricks in the order of the brick array, the broken bricks are skipped without being looked at one by one.
+     *
+     * @param from this is the index to start looking from.
+     * @return this returns the index of the next live brick from the index provided, -1 if there are none.
+     */
+    public int nextLiveBrick(int from) {
+        return live.nextSetBit(from);
+    }
+
+    /**
+     * this method is used to get the amount of live bricks.
+     *
+     * @return this returns the amount of bricks which are not removed.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * this method is used to get the brick array that is used to make the grid.
+     *
+     * @return this returns the brick array of the grid, null if the grid is made from a compact wall.
+     */
+    public Brick[] getBricks() {
+        return bricks;
+    }
+
+    /**
+     * this method is used to get the column of the grid for the x coordinate, limited to the columns of the grid.
+     *
+     * @param x this is the x coordinate.
+     * @return this returns the column index.
+     */
+    private int columnOf(double x){
+        return clamp((int) ((x - originX) / cellWidth), columns);
+    }
+
+    /**
+     * this method is used to get the row of the grid for the y coordinate, limited to the rows of the grid.
+     *
+     * @param y this is the y coordinate.
+     * @return this returns the row index.
+     */
+    private int rowOf(double y){
+        return clamp((int) ((y - originY) / cellHeight), rows);
+    }
+
+    /**
+     * this method is used to limit the cell index between 0 and the last cell.
+     *
+     * @param index this is the index to be limited.
+     * @param size this is the amount of cells.
+     * @return this returns the limited index.
+     */
+    private int clamp(int index, int size){
+        return index < 0 ? 0 : Math.min(index, size - 1);
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Levels.IndexedBrickSink;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * this class is used to store the bricks of a wall as parallel primitive arrays instead of brick objects, which is used for very large walls (stress tests, simulations).
+ * a brick is referred by its index, and the level templates could generate the bricks straight into it as a brick sink (many rows at the same time for a large wall).
+ */
+public class CompactWall implements IndexedBrickSink {
+
+    private float[] x;
+    private float[] y;
+    private float[] width;
+    private float[] height;
+    private byte[] type;
+    private byte[] strength;
+    private float[] hitProbability;
+    private final BitSet broken;
+
+    private int size;
+    private int brokenCount;
+
+    /**
+     * this constructor is used to create an empty compact wall.
+     */
+    public CompactWall(){
+        broken = new BitSet();
+        ensureCapacity(0);
+    }
+
+    /**
+     * this method is used to clear the wall and make space for the amount of bricks which is going to be added.
+     *
+     * @param brickCount this is the amount of bricks which is going to be added.
+     */
+    @Override
+    public void begin(int brickCount) {
+        size = 0;
+        brokenCount = 0;
+        broken.clear();
+        ensureCapacity(brickCount);
+    }
+
+    /**
+     * this method is used to add a brick at the end of the wall.
+     *
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick (BrickFactory.CLAY, BrickFactory.STEEL, etc.).
+     */
+    @Override
+    public void addBrick(double x, double y, double width, double height, int type) {
+        if(size == this.x.length)
+            ensureCapacity(Math.max(16, size * 2));
+        setBrick(size++, x, y, width, height, type);
+    }
+
+    /**
+     * this method is used to set the brick at an index, the space for the index is made by begin.
+     *
+     * @param index this is the index of the brick.
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick (BrickFactory.CLAY, BrickFactory.STEEL, etc.).
+     */
+    @Override
+    public void setBrick(int index, double x, double y, double width, double height, int type) {
+        this.x[index] = (float) x;
+        this.y[index] = (float) y;
+        this.width[index] = (float) width;
+        this.height[index] = (float) height;
+        this.type[index] = (byte) type;
+        this.strength[index] = (byte) BrickFactory.getStrength(type);
+        this.hitProbability[index] = (float) BrickFactory.getHitProbability(type);
+    }
+
+    /**
+     * this method is used to set the amount of bricks of the wall once every brick is set by its index.
+     *
+     * @param brickCount this is the amount of bricks which is set.
+     */
+    @Override
+    public void finish(int brickCount) {
+        size = brickCount;
+    }
+
+    /**
+     * this method is used to make sure the arrays could hold the amount of bricks provided.
+     *
+     * @param capacity this is the amount of bricks the arrays need to hold.
+     */
+    private void ensureCapacity(int capacity){
+        if(x != null && x.length >= capacity)
+            return;
+        x = x == null ? new float[capacity] : Arrays.copyOf(x, capacity);
+        y = y == null ? new float[capacity] : Arrays.copyOf(y, capacity);
+        width = width == null ? new float[capacity] : Arrays.copyOf(width, capacity);
+        height = height == null ? new float[capacity] : Arrays.copyOf(height, capacity);
+        type = type == null ? new byte[capacity] : Arrays.copyOf(type, capacity);
+        strength = strength == null ? new byte[capacity] : Arrays.copyOf(strength, capacity);
+        hitProbability = hitProbability == null ? new float[capacity] : Arrays.copyOf(hitProbability, capacity);
+    }
+
+    /**
+     * this method is used to hit a brick, which works the same way as the impact on a brick object (without the crack).
+     *
+     * @param index this is the index of the brick.
+     * @param roll this is a random number between 0 and 1 which is compared with the hit probability of the brick.
+     * @return this returns true if the brick is broken by this hit.
+     */
+    public boolean impact(int index, double roll){
+        if(isBroken(index))
+            return false;
+        if(roll < hitProbability[index]){
+            strength[index]--;
+            if(strength[index] == 0){
+                broken.set(index);
+                brokenCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * this method is used to bring all the bricks back to their full strength and unbroken.
+     */
+    public void reset(){
+        for(int i = 0; i < size; i++)
+            strength[i] = (byte) BrickFactory.getStrength(type[i]);
+        broken.clear();
+        brokenCount = 0;
+    }
+
+    /**
+     * this method is used to create the brick object of a brick in the wall, for the parts of the game that need the brick objects.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns a new brick object with the same position, size, type and state.
+     */
+    public Brick toBrick(int index){
+        Brick brick = new BrickFactory().makeBrick(new Point2D(x[index], y[index]), new Dimension2D(width[index], height[index]), type[index]);
+        brick.setCurrentStrength(strength[index]);
+        brick.setBroken(isBroken(index));
+        return brick;
+    }
+
+    /**
+     * this method is used to create the brick objects of all the bricks in the wall.
+     *
+     * @return this returns a new brick array in the same order as the wall.
+     */
+    public Brick[] toBricks(){
+        Brick[] bricks = new Brick[size];
+        for(int i = 0; i < size; i++)
+            bricks[i] = toBrick(i);
+        return bricks;
+    }
+
+    /**
+     * this method is used to get the amount of bricks in the wall.
+     *
+     * @return this returns the amount of bricks.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * this method is used to get the amount of bricks which are not broken.
+     *
+     * @return this returns the amount of bricks left.
+     */
+    public int getBrickCount() {
+        return size - brokenCount;
+    }
+
+    /**
+     * this method is used to get the x coordinate of the top left of a brick.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the x coordinate.
+     */
+    public float getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * this method is used to get the y coordinate of the top left of a brick.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the y coordinate.
+     */
+    public float getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * this method is used to get the width of a brick.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the width.
+     */
+    public float getWidth(int index) {
+        return width[index];
+    }
+
+    /**
+     * this method is used to get the height of a brick.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the height.
+     */
+    public float getHeight(int index) {
+        return height[index];
+    }
+
+    /**
+     * this method is used to get the type of a brick.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the type (BrickFactory.CLAY, BrickFactory.STEEL, etc.).
+     */
+    public int getType(int index) {
+        return type[index];
+    }
+
+    /**
+     * this method is used to get the hits left before a brick is broken.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the current strength of the brick.
+     */
+    public int getStrength(int index) {
+        return strength[index];
+    }
+
+    /**
+     * this method is used to get the probability of a hit lowering the strength of a brick.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns the hit probability.
+     */
+    public float getHitProbability(int index) {
+        return hitProbability[index];
+    }
+
+    /**
+     * this method is used to check if a brick is broken.
+     *
+     * @param index this is the index of the brick.
+     * @return this returns true if the brick is broken.
+     */
+    public boolean isBroken(int index) {
+        return broken.get(index);
+    }
+
+    /**
+     * this method is used to get the set of the broken bricks, the bit of a brick is set if it is broken.
+     *
+     * @return this returns the bit set of the broken bricks.
+     */
+    public BitSet getBroken() {
+        return broken;
+    }
+}
@@ -21,12 +21,11 @@ package FX.Model.Entities.Ball;
 import FX.Model.Entities.Brick.Crackable;
 import FX.Model.Entities.Entities;
 import FX.Model.Entities.Movable;
-import javafx.geometry.BoundingBox;
+import FX.Model.RandomStream;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 
-import java.util.Random;
 
 /**
  * this is an abstract class which is used for the rubber ball implementation.
@@ -40,20 +39,21 @@ abstract public class Ball extends Entities implements Movable {
     private int speedY;
     private int radius;
 
-    private Random rnd;
+    private RandomStream rnd;
 
     /**
-     * this is the constructor used to create a ball object.
+     * this is the constructor used to create a ball object which takes its random speed from the random stream provided.
      *
      * @param centerPosition this is the position where the ball is to be formed on the top left of the ball.
      * @param radius this is the diameter of the ball based on x-axis
      * @param inner this is the Color for the inside of the ball.
      * @param border this is the Color for the border of the ball.
+     * @param rnd this is the random stream used for the speed of the ball.
      */
-    public Ball(Point2D centerPosition,int radius,Color inner,Color border){
+    public Ball(Point2D centerPosition,int radius,Color inner,Color border,RandomStream rnd){
         super(centerPosition, border,inner, 2*radius, 2*radius);
 
-        setRnd(new Random());
+        setRnd(rnd);
         setRadius(radius);
         setRandomBallSpeed();
     }
@@ -74,25 +74,25 @@ abstract public class Ball extends Entities implements Movable {
      * this method is used to move the ball (changing the variables to record where the ball is).
      */
     public void move(){
-        setBounds(new BoundingBox(getBounds().getMinX() + getSpeedX(), getBounds().getMinY() + getSpeedY(),2*getRadius(),2*getRadius()));
+        moveBy(getSpeedX(), getSpeedY());
     }
 
 
     /**
-     * this method is used to get the random object which is used to randomly generate the speed for the ball.
+     * this method is used to get the random stream which is used to randomly generate the speed for the ball.
      *
-     * @return this returns a random object.
+     * @return this returns a random stream.
      */
-    public Random getRnd() {
+    public RandomStream getRnd() {
         return rnd;
     }
 
     /**
-     * this method is used to set the random object into a variable for future reference.
+     * this method is used to set the random stream into a variable for future reference.
      *
-     * @param rnd this is the random object used to set into a variable.
+     * @param rnd this is the random stream used to set into a variable.
      */
-    public void setRnd(Random rnd) {
+    public void setRnd(RandomStream rnd) {
         this.rnd = rnd;
     }
 
@@ -212,6 +212,20 @@ abstract public class Ball extends Entities implements Movable {
             setSpeedY(getSpeedY() - 1);
     }
 
+    /**
+     * this method is used to change the direction of the ball after one of its sides hits an entity, using the same direction of impact given to the entity.
+     *
+     * @param direction this is the direction of impact (UP for the bottom of the ball, DOWN for the top, RIGHT for the right side and LEFT for the left side).
+     */
+    public void bounce(int direction) {
+        switch (direction) {
+            case Crackable.UP -> ballBottomCollision();
+            case Crackable.DOWN -> ballTopCollision();
+            case Crackable.RIGHT -> ballLeftCollision();
+            case Crackable.LEFT -> ballRightCollision();
+        }
+    }
+
     /**
      * this method is used to check if there is a collision between the game Bounds and the ball.
      *
@@ -249,30 +263,34 @@ abstract public class Ball extends Entities implements Movable {
      * @return returns a boolean value if it collides with a brick which is not broken after the collision.
      */
     public boolean impactEntity(Entities entity){
-            if(entity.getBounds().contains(getBounds().getMinX()+ getBounds().getWidth()/2, getBounds().getMaxY())){
-                ballBottomCollision();
-                if(entity.getClass() == BallClone.class)
-                    ((BallClone) entity).ballTopCollision();
-                return entity.setImpact(new Point2D(getBounds().getMinX() + getBounds().getWidth()/2, getBounds().getMaxY()), Crackable.UP);
-            }
-            else if (entity.getBounds().contains(getBounds().getMinX()+ getBounds().getWidth()/2, getBounds().getMinY())){
-                ballTopCollision();
-                if(entity.getClass() == BallClone.class)
-                    ((BallClone) entity).ballBottomCollision();
-                return entity.setImpact(new Point2D(getBounds().getMinX() + getBounds().getWidth() / 2, getBounds().getMinY()), Crackable.DOWN);
-            }
-            else if(entity.getBounds().contains(getBounds().getMaxX(), getBounds().getMinY()+ getBounds().getHeight()/2)){
-                ballLeftCollision();
-                if(entity.getClass() == BallClone.class)
-                    ((BallClone) entity).ballRightCollision();
-                return entity.setImpact(new Point2D(getBounds().getMaxX(), getBounds().getMinY() + getBounds().getHeight() / 2), Crackable.RIGHT);
-            }
-            else if(entity.getBounds().contains(getBounds().getMinX(), getBounds().getMinY()+ getBounds().getHeight()/2)){
-                ballRightCollision();
-                if(entity.getClass() == BallClone.class)
-                    ((BallClone) entity).ballLeftCollision();
-                return entity.setImpact(new Point2D(getBounds().getMinX(), getBounds().getMinY() + getBounds().getHeight() / 2), Crackable.LEFT);
-            }
+        double centerX = getX() + getWidth() / 2.0;
+        double centerY = getY() + getHeight() / 2.0;
+        double maxX = getX() + getWidth();
+        double maxY = getY() + getHeight();
+        if(entity.getBounds().contains(centerX, maxY)){
+            ballBottomCollision();
+            if(entity.getClass() == BallClone.class)
+                ((BallClone) entity).ballTopCollision();
+            return entity.setImpact(centerX, maxY, Crackable.UP);
+        }
+        else if (entity.getBounds().contains(centerX, getY())){
+            ballTopCollision();
+            if(entity.getClass() == BallClone.class)
+                ((BallClone) entity).ballBottomCollision();
+            return entity.setImpact(centerX, getY(), Crackable.DOWN);
+        }
+        else if(entity.getBounds().contains(maxX, centerY)){
+            ballLeftCollision();
+            if(entity.getClass() == BallClone.class)
+                ((BallClone) entity).ballRightCollision();
+            return entity.setImpact(maxX, centerY, Crackable.RIGHT);
+        }
+        else if(entity.getBounds().contains(getX(), centerY)){
+            ballRightCollision();
+            if(entity.getClass() == BallClone.class)
+                ((BallClone) entity).ballLeftCollision();
+            return entity.setImpact(getX(), centerY, Crackable.LEFT);
+        }
         return false;
     }
 }
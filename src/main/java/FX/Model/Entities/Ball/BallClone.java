@@ -18,6 +18,7 @@
 
 package FX.Model.Entities.Ball;
 
+import FX.Model.RandomStream;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 
@@ -41,11 +42,12 @@ public class BallClone extends Ball {
     private static final Color DEF_BORDER_COLOR = DEF_INNER_COLOR.darker().darker();
 
     /**
-     * this constructor is used to create a ball clone which is going to be used in the game.
+     * this constructor is used to create a ball clone which takes its random speed from the random stream provided.
      *
      * @param center this is the starting position where the ball clone will have.
+     * @param rnd this is the random stream used for the speed of the ball clone.
      */
-    public BallClone(Point2D center) {
-        super(center, DEF_RADIUS, DEF_INNER_COLOR, DEF_BORDER_COLOR);
+    public BallClone(Point2D center, RandomStream rnd) {
+        super(center, DEF_RADIUS, DEF_INNER_COLOR, DEF_BORDER_COLOR, rnd);
     }
 }
@@ -18,6 +18,7 @@
 
 package FX.Model.Entities.Ball;
 
+import FX.Model.RandomStream;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 
@@ -36,9 +37,11 @@ public class RubberBall extends Ball {
     private static final int ballTopLeftYStartPoint = 410;
 
     /**
-     * this constructor is used to create a rubber ball.
+     * this constructor is used to create a rubber ball which takes its random speed from the random stream provided.
+     *
+     * @param rnd this is the random stream used for the speed of the ball.
      */
-    public RubberBall(){
-        super(new Point2D(ballTopLeftXStartPoint,ballTopLeftYStartPoint),DEF_RADIUS,DEF_INNER_COLOR,DEF_BORDER_COLOR);
+    public RubberBall(RandomStream rnd){
+        super(new Point2D(ballTopLeftXStartPoint,ballTopLeftYStartPoint),DEF_RADIUS,DEF_INNER_COLOR,DEF_BORDER_COLOR,rnd);
     }
 }
@@ -19,12 +19,11 @@
 package FX.Model.Entities.Brick;
 
 import FX.Model.Entities.Entities;
+import FX.Model.RandomStream;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 
-import java.util.Random;
-
 /**
  * This class is an abstract class which is going to be used for implementation. (Model.Brick.CementBrick, Model.Brick.ClayBrick, Model.Brick.SteelBrick, Model.Brick.ReinforcedSteelBrick)
  */
@@ -36,6 +35,7 @@ abstract public class Brick extends Entities {
     private String brickName;
 
     private boolean broken;
+    private RandomStream rnd;
 
     /**
      * this method is used to create a brick object.
@@ -46,10 +46,27 @@ abstract public class Brick extends Entities {
      * @param inner the inside color of brick
      * @param strength the strength of the brick. (how many hits can it take before it break)
      * @param hitProbability this is the probability where the brick is going to get damaged.
-     * @param brickName this is the name of the brick, which is used to determine which audio to play when collision occurs.
+     * @param brickName this is the name of the brick.
      */
     public Brick(Point2D pos, Dimension2D size, Color border, Color inner, int strength, double hitProbability,String brickName){
-        super(pos,border,inner,(int)size.getWidth(),(int)size.getHeight());
+        this(pos.getX(), pos.getY(), (int)size.getWidth(), (int)size.getHeight(), border, inner, strength, hitProbability, brickName);
+    }
+
+    /**
+     * this method is used to create a brick object from its coordinates, so no point or dimension object is needed for every brick of a large wall.
+     *
+     * @param x the x coordinate of the top left of the brick.
+     * @param y the y coordinate of the top left of the brick.
+     * @param width the width of the brick.
+     * @param height the height of the brick.
+     * @param border the color of the brick border
+     * @param inner the inside color of brick
+     * @param strength the strength of the brick. (how many hits can it take before it break)
+     * @param hitProbability this is the probability where the brick is going to get damaged.
+     * @param brickName this is the name of the brick.
+     */
+    public Brick(double x, double y, int width, int height, Color border, Color inner, int strength, double hitProbability,String brickName){
+        super(x,y,border,inner,width,height);
         setBroken(false);
         setHitProbability(hitProbability);
         setMaxStrength(strength);
@@ -60,23 +77,28 @@ abstract public class Brick extends Entities {
     /**
      * this method is used to determine whether the brick should be broken or draw a crack on the brick.
      *
-     * @param point the point where the ball comes in contact to
+     * @param x the x coordinate of the point where the ball comes in contact to
+     * @param y the y coordinate of the point where the ball comes in contact to
      * @param dir the direction where the ball comes in contact with the object.
      * @return returns a boolean value negative if the brick is broken, true if it is not.
      */
     @Override
-    public boolean setImpact(Point2D point, int dir) {
-        Random rnd = new Random();
+    public boolean setImpact(double x, double y, int dir) {
         if(isBroken())
             return false;
-        boolean hit = rnd.nextDouble() < getHitProbability();
+        if(getRnd() == null)
+            throw new IllegalStateException(getBrickName() + " has no random stream, the random stream is set when the brick is added to a game");
+        boolean hit = getRnd().nextDouble() < getHitProbability();
         if(hit){
             setCurrentStrength(getCurrentStrength()-1);
             setBroken(getCurrentStrength() == 0);
         }
         if(!isBroken()){
             if(hit && this instanceof Crackable){
-                ((Crackable) this).getCrack().prepareCrack(point,dir, this);
+                Crack crack = ((Crackable) this).getCrack();
+                if(crack == null)
+                    throw new IllegalStateException(getBrickName() + " has no crack, the crack is set when the brick is added to a game");
+                crack.prepareCrack(x, y, dir, this);
             }
             return false;
         }
@@ -84,7 +106,14 @@ abstract public class Brick extends Entities {
     }
 
     /**
-     * this method is used to get the name of the brick which is going to be used to select which audio to be played during collision.
+     * this method is used to get the type of the brick, which is one of the brick types of the brick factory (CLAY, STEEL, CEMENT, REINFORCED_STEEL).
+     *
+     * @return this returns the type of the brick.
+     */
+    public abstract int getBrickType();
+
+    /**
+     * this method is used to get the name of the brick.
      *
      * @return this is the name of the brick being returned.
      */
@@ -172,9 +201,22 @@ abstract public class Brick extends Entities {
     public void setBroken(boolean broken) {
         this.broken = broken;
     }
-}
-
-
-
 
+    /**
+     * this method is used to get the random stream which decides if the brick is damaged when it is hit.
+     *
+     * @return this returns a random stream.
+     */
+    public RandomStream getRnd() {
+        return rnd;
+    }
 
+    /**
+     * this method is used to set the random stream which decides if the brick is damaged when it is hit.
+     *
+     * @param rnd this is the random stream used to set into a variable.
+     */
+    public void setRnd(RandomStream rnd) {
+        this.rnd = rnd;
+    }
+}
@@ -46,4 +46,56 @@ public class BrickFactory {
             default -> throw new IllegalArgumentException(String.format("Unknown Type:%d\n", type));
         };
     }
+
+    /**
+     * this method is used to create a brick from its coordinates, which is used by the level generation so no point or dimension object is created for every brick.
+     *
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of brick.
+     * @return this returns the brick object.
+     */
+    public Brick makeBrick(double x, double y, int width, int height, int type){
+        return switch (type) {
+            case (CLAY) -> new ClayBrick(x, y, width, height);
+            case (STEEL) -> new SteelBrick(x, y, width, height);
+            case (CEMENT) -> new CementBrick(x, y, width, height);
+            case (REINFORCED_STEEL) -> new ReinforcedSteelBrick(x, y, width, height);
+            default -> throw new IllegalArgumentException(String.format("Unknown Type:%d\n", type));
+        };
+    }
+
+    /**
+     * this method is used to get the strength of a new brick of the type provided, without creating the brick.
+     *
+     * @param type this is the type of brick.
+     * @return this returns the amount of hits needed to break the brick.
+     */
+    public static int getStrength(int type){
+        return switch (type) {
+            case (CLAY) -> ClayBrick.CLAY_STRENGTH;
+            case (STEEL) -> SteelBrick.STEEL_STRENGTH;
+            case (CEMENT) -> CementBrick.CEMENT_STRENGTH;
+            case (REINFORCED_STEEL) -> ReinforcedSteelBrick.REINFORCED_STEEL_STRENGTH;
+            default -> throw new IllegalArgumentException(String.format("Unknown Type:%d\n", type));
+        };
+    }
+
+    /**
+     * this method is used to get the probability of a hit lowering the strength of a brick of the type provided, without creating the brick.
+     *
+     * @param type this is the type of brick.
+     * @return this returns the hit probability of the brick.
+     */
+    public static double getHitProbability(int type){
+        return switch (type) {
+            case (CLAY) -> ClayBrick.CLAY_PROBABILITY;
+            case (STEEL) -> SteelBrick.STEEL_PROBABILITY;
+            case (CEMENT) -> CementBrick.CEMENT_PROBABILITY;
+            case (REINFORCED_STEEL) -> ReinforcedSteelBrick.REINFORCED_STEEL_PROBABILITY;
+            default -> throw new IllegalArgumentException(String.format("Unknown Type:%d\n", type));
+        };
+    }
 }
@@ -21,7 +21,6 @@ package FX.Model.Entities.Brick;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Path;
 
 /**
  * this class is used for the cement brick used for the walls.
@@ -31,10 +30,11 @@ public class CementBrick extends Brick implements Crackable{
     private static final String NAME = "Cement Brick";
     private static final Color DEF_INNER = Color.rgb(147, 147, 147,1);
     private static final Color DEF_BORDER = Color.rgb(217, 199, 175,1);
-    private static final int CEMENT_STRENGTH = 2;
-    private static final double CEMENT_PROBABILITY = 1;
+    static final int CEMENT_STRENGTH = 2;
+    static final double CEMENT_PROBABILITY = 1;
 
-    private Path crackPath;
+    private float[] crackPoints;
+    private boolean cracked;
     private Crack crack;
 
     /**
@@ -44,8 +44,19 @@ public class CementBrick extends Brick implements Crackable{
      * @param size this is the size of the cement brick.
      */
     public CementBrick(Point2D point, Dimension2D size){
-        super(point,size,DEF_BORDER,DEF_INNER,CEMENT_STRENGTH, CEMENT_PROBABILITY, NAME);
-        setCrack(Crack.singletonCrack());
+        this(point.getX(), point.getY(), (int) size.getWidth(), (int) size.getHeight());
+    }
+
+    /**
+     * this constructor is used to create a cement brick object from its coordinates.
+     *
+     * @param x the x coordinate of the top left of the brick.
+     * @param y the y coordinate of the top left of the brick.
+     * @param width the width of the brick.
+     * @param height the height of the brick.
+     */
+    public CementBrick(double x, double y, int width, int height){
+        super(x,y,width,height,DEF_BORDER,DEF_INNER,CEMENT_STRENGTH, CEMENT_PROBABILITY, NAME);
     }
 
     /**
@@ -69,22 +80,52 @@ public class CementBrick extends Brick implements Crackable{
     }
 
     /**
-     * this method is used to set the crack path used to draw on the game.
+     * this method is used to set the crack points used to draw on the game.
+     *
+     * @param crackPoints this is the array of crack line points used to set into a variable for future reference, null if it was never cracked.
+     */
+    @Override
+    public void setCrackPoints(float[] crackPoints) {
+        this.crackPoints = crackPoints;
+    }
+
+    /**
+     * this method is used to get the crack points used to draw on the game.
+     *
+     * @return this is the array of crack line points in the form of (x0, y0, x1, y1, ...), null if it was never cracked.
+     */
+    @Override
+    public float[] getCrackPoints() {
+        return crackPoints;
+    }
+
+    /**
+     * this method is used to check if the brick has a crack to be drawn.
+     *
+     * @return this returns true if the brick is cracked.
+     */
+    @Override
+    public boolean isCracked() {
+        return cracked;
+    }
+
+    /**
+     * this method is used to set if the brick has a crack, the crack points are kept for the next crack.
      *
-     * @param path this is the Path object used to set into a variable for future reference
+     * @param cracked this is the boolean value used to set into a variable.
      */
     @Override
-    public void setCrackPath(Path path) {
-        this.crackPath = path;
+    public void setCracked(boolean cracked) {
+        this.cracked = cracked;
     }
 
     /**
-     * this method is used to get the crack path used to draw on the game.
+     * this method is used to get the type of the brick.
      *
-     * @return this is the Path object which contains the information on how to draw the crack.
+     * @return this returns BrickFactory.CEMENT.
      */
     @Override
-    public Path getCrackPath() {
-        return crackPath;
+    public int getBrickType() {
+        return BrickFactory.CEMENT;
     }
 }
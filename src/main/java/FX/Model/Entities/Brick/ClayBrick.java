@@ -30,8 +30,8 @@ public class ClayBrick extends Brick {
     private static final String NAME = "Clay Brick";
     private static final Color DEF_INNER = Color.rgb(178, 34, 34,1).darker();
     private static final Color DEF_BORDER = Color.GRAY;
-    private static final int CLAY_STRENGTH = 1;
-    private static final double CLAY_PROBABILITY = 1;
+    static final int CLAY_STRENGTH = 1;
+    static final double CLAY_PROBABILITY = 1;
 
     /**
      * this constructor is used to create a clay brick object.
@@ -40,6 +40,28 @@ public class ClayBrick extends Brick {
      * @param size the size of the brick.
      */
     public ClayBrick(Point2D point, Dimension2D size){
-        super(point,size,DEF_BORDER,DEF_INNER,CLAY_STRENGTH,CLAY_PROBABILITY,NAME);
+        this(point.getX(), point.getY(), (int) size.getWidth(), (int) size.getHeight());
+    }
+
+    /**
+     * this constructor is used to create a clay brick object from its coordinates.
+     *
+     * @param x the x coordinate of the top left of the brick.
+     * @param y the y coordinate of the top left of the brick.
+     * @param width the width of the brick.
+     * @param height the height of the brick.
+     */
+    public ClayBrick(double x, double y, int width, int height){
+        super(x,y,width,height,DEF_BORDER,DEF_INNER,CLAY_STRENGTH,CLAY_PROBABILITY,NAME);
+    }
+
+    /**
+     * this method is used to get the type of the brick.
+     *
+     * @return this returns BrickFactory.CLAY.
+     */
+    @Override
+    public int getBrickType() {
+        return BrickFactory.CLAY;
     }
 }
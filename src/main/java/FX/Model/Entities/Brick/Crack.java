@@ -1,19 +1,14 @@
 package FX.Model.Entities.Brick;
 
+import FX.Model.RandomStream;
 import javafx.geometry.Point2D;
-import javafx.scene.shape.LineTo;
-import javafx.scene.shape.MoveTo;
-import javafx.scene.shape.Path;
-
-import java.util.Random;
 
 /**
- * this class is used to make a crack path for the brick.
+ * this class is used to make the crack line for the brick.
  */
 public class Crack {
 
-    private Random rnd;
-    private static Crack uniqueCrack;
+    private RandomStream rnd;
 
     private int DEF_CRACK_DEPTH = 1;
     private int DEF_STEPS = 35;
@@ -22,87 +17,87 @@ public class Crack {
     private final int HORIZONTAL = 200;
 
     /**
-     * this method is used to create a one and only crack object and return it. based on singleton design pattern
+     * this constructor is used to create a crack object which takes the randomness of the crack path from the random stream provided, used by a game which has its own randomness.
      *
-     * @return this returns a one and only crack class object.
+     * @param rnd this is the random stream used for the crack path.
      */
-    public static Crack singletonCrack(){
-        if(getUniqueCrack() == null){
-            setUniqueCrack(new Crack());
-        }
-        return getUniqueCrack();
-    }
-
-    private Crack(){
-        setRnd(new Random());
+    public Crack(RandomStream rnd){
+        setRnd(rnd);
     }
 
     /**
      * This method is used to calculate and determine where to draw the crack to based on the direction provided.
      *
-     * @param point the point where the ball comes in contact with.
+     * @param x the x coordinate of the point where the ball comes in contact with.
+     * @param y the y coordinate of the point where the ball comes in contact with.
      * @param direction the direction where the ball touch the brick.
      * @param brick this is the brick where it will get the boundary of the brick to set the position of the opposite edge of collision
      */
-    public void prepareCrack(Point2D point, int direction, Brick brick){
-
-        Point2D oppositeSideOfCollisionCornerPoint1;
-        Point2D oppositeSideOfCollisionCornerPoint2;
+    public void prepareCrack(double x, double y, int direction, Brick brick){
+        double minX = brick.getX();
+        double minY = brick.getY();
+        double maxX = minX + brick.getWidth();
+        double maxY = minY + brick.getHeight();
 
         switch (direction) {
-            case Crackable.LEFT -> {
-                oppositeSideOfCollisionCornerPoint1 = new Point2D(brick.getBounds().getMinX() + brick.getBounds().getWidth(), brick.getBounds().getMinY());
-                oppositeSideOfCollisionCornerPoint2 = new Point2D(brick.getBounds().getMinX() + brick.getBounds().getWidth(), brick.getBounds().getMinY() + brick.getBounds().getHeight());
-                makeCrack(point, makeRandomPointBetween(oppositeSideOfCollisionCornerPoint1, oppositeSideOfCollisionCornerPoint2, getVERTICAL()), brick);
-            }
-            case Crackable.RIGHT -> {
-                oppositeSideOfCollisionCornerPoint1 = new Point2D(brick.getBounds().getMinX(), brick.getBounds().getMinY());
-                oppositeSideOfCollisionCornerPoint2 = new Point2D(brick.getBounds().getMinX(), brick.getBounds().getMinY() + brick.getBounds().getHeight());
-                makeCrack(point, makeRandomPointBetween(oppositeSideOfCollisionCornerPoint1, oppositeSideOfCollisionCornerPoint2, getVERTICAL()), brick);
-            }
-            case Crackable.UP -> {
-                oppositeSideOfCollisionCornerPoint1 = new Point2D(brick.getBounds().getMinX(), brick.getBounds().getMinY() + brick.getBounds().getHeight());
-                oppositeSideOfCollisionCornerPoint2 = new Point2D(brick.getBounds().getMinX() + brick.getBounds().getWidth(), brick.getBounds().getMinY() + brick.getBounds().getHeight());
-                makeCrack(point, makeRandomPointBetween(oppositeSideOfCollisionCornerPoint1, oppositeSideOfCollisionCornerPoint2, getHORIZONTAL()), brick);
-            }
-            case Crackable.DOWN -> {
-                oppositeSideOfCollisionCornerPoint1 = new Point2D(brick.getBounds().getMinX(), brick.getBounds().getMinY());
-                oppositeSideOfCollisionCornerPoint2 = new Point2D(brick.getBounds().getMinX() + brick.getBounds().getWidth(), brick.getBounds().getMinY());
-                makeCrack(point, makeRandomPointBetween(oppositeSideOfCollisionCornerPoint1, oppositeSideOfCollisionCornerPoint2, getHORIZONTAL()), brick);
-            }
+            case Crackable.LEFT -> makeCrack(x, y, maxX, randomBetween(minY, maxY), brick);
+            case Crackable.RIGHT -> makeCrack(x, y, minX, randomBetween(minY, maxY), brick);
+            case Crackable.UP -> makeCrack(x, y, randomBetween(minX, maxX), maxY, brick);
+            case Crackable.DOWN -> makeCrack(x, y, randomBetween(minX, maxX), minY, brick);
         }
     }
 
     /**
-     * this method is used to make the crack path.
+     * this method is used to make the crack line points, the array of points already on the brick is reused.
      *
      * @param start this is the start point where the crack is going to start.
      * @param end this is the end point where the crack is going to end.
-     * @param brick this is the brick where the crack path will be saved to.
+     * @param brick this is the brick where the crack points will be saved to.
      */
-    //method name change
     public void makeCrack(Point2D start, Point2D end, Brick brick){
+        makeCrack(start.getX(), start.getY(), end.getX(), end.getY(), brick);
+    }
 
-        Path path = new Path();
-
-        MoveTo firstPoint = new MoveTo(start.getX(), start.getY());
+    /**
+     * this method is used to make the crack line points, the array of points already on the brick is reused.
+     *
+     * @param startX this is the x coordinate where the crack is going to start.
+     * @param startY this is the y coordinate where the crack is going to start.
+     * @param endX this is the x coordinate where the crack is going to end.
+     * @param endY this is the y coordinate where the crack is going to end.
+     * @param brick this is the brick where the crack points will be saved to.
+     */
+    public void makeCrack(double startX, double startY, double endX, double endY, Brick brick){
+        if (!(brick instanceof Crackable))
+            return;
 
-        path.getElements().add(firstPoint);
+        Crackable crackable = (Crackable) brick;
+        float[] points = crackable.getCrackPoints();
+        if (points == null || points.length != getCrackPointsLength())
+            points = new float[getCrackPointsLength()];
 
-        double x,y;
+        points[0] = (float) startX;
+        points[1] = (float) startY;
 
         for(int i = 1; i < DEF_STEPS;i++){
-
-            x = (i * ((end.getX() - start.getX()) / (double) DEF_STEPS)) + start.getX();
-            y = (i * ((end.getY() - start.getY()) / (double) DEF_STEPS)) + start.getY() + getRnd().nextInt((DEF_CRACK_DEPTH * 2) + 1) - DEF_CRACK_DEPTH;
-
-            path.getElements().add(new LineTo(x,y));
+            points[i * 2] = (float) ((i * ((endX - startX) / (double) DEF_STEPS)) + startX);
+            points[i * 2 + 1] = (float) ((i * ((endY - startY) / (double) DEF_STEPS)) + startY + getRnd().nextInt((DEF_CRACK_DEPTH * 2) + 1) - DEF_CRACK_DEPTH);
         }
 
-        path.getElements().add(new LineTo(end.getX(),end.getY()));
+        points[DEF_STEPS * 2] = (float) endX;
+        points[DEF_STEPS * 2 + 1] = (float) endY;
 
-        if (brick instanceof Crackable)
-            ((Crackable) brick).setCrackPath(path);
+        crackable.setCrackPoints(points);
+        crackable.setCracked(true);
+    }
+
+    /**
+     * this method is used to get the length of the array which holds the points of a crack, the start point, the points between and the end point in the form of (x0, y0, x1, y1, ...).
+     *
+     * @return this returns the length of the crack points array.
+     */
+    public int getCrackPointsLength() {
+        return (DEF_STEPS + 1) * 2;
     }
 
     /**
@@ -114,54 +109,42 @@ public class Crack {
      * @return it returns a random point (coordinate) on the brick.
      */
     public Point2D makeRandomPointBetween(Point2D oppositeOfCollisionCornerPoint1, Point2D oppositeOfCollisionPoint2, int direction){
-
-        int position;
-
         switch (direction){
             case HORIZONTAL:
-                position = getRnd().nextInt((int)(oppositeOfCollisionPoint2.getX() - oppositeOfCollisionCornerPoint1.getX())) + (int)oppositeOfCollisionCornerPoint1.getX();
-                return new Point2D(position, oppositeOfCollisionPoint2.getY());
+                return new Point2D(randomBetween(oppositeOfCollisionCornerPoint1.getX(), oppositeOfCollisionPoint2.getX()), oppositeOfCollisionPoint2.getY());
             case VERTICAL:
-                position = getRnd().nextInt((int)(oppositeOfCollisionPoint2.getY() - oppositeOfCollisionCornerPoint1.getY())) + (int)oppositeOfCollisionCornerPoint1.getY();
-                return new Point2D(oppositeOfCollisionPoint2.getX(),position);
+                return new Point2D(oppositeOfCollisionPoint2.getX(), randomBetween(oppositeOfCollisionCornerPoint1.getY(), oppositeOfCollisionPoint2.getY()));
             default:
                 return new Point2D(0,0);
         }
     }
 
     /**
-     * this method is used to get the crack object used for singleton design.
-     *
-     * @return this returns a crack object.
-     */
-    private static Crack getUniqueCrack() {
-        return uniqueCrack;
-    }
-
-    /**
-     * this method is used to set a one and only crack object into a variable for future reference.
+     * this method is used to get a random whole number position between two positions on the same axis.
      *
-     * @param uniqueCrack this is the one and only crack object set into a variable for future reference.
+     * @param from this is the position where it begins.
+     * @param to this is the position where it ends.
+     * @return it returns a random position between the two positions.
      */
-    private static void setUniqueCrack(Crack uniqueCrack) {
-        Crack.uniqueCrack = uniqueCrack;
+    private int randomBetween(double from, double to){
+        return getRnd().nextInt((int)(to - from)) + (int)from;
     }
 
     /**
-     * this method is used to get the crack object used to have a randomness on the crack path.
+     * this method is used to get the random stream used to have a randomness on the crack path.
      *
-     * @return this returns a random object.
+     * @return this returns a random stream.
      */
-    public Random getRnd() {
+    public RandomStream getRnd() {
         return rnd;
     }
 
     /**
-     * this method is used to set a random object into a variable for future reference.
+     * this method is used to set a random stream into a variable for future reference.
      *
-     * @param rnd this is the random object used to set into a variable.
+     * @param rnd this is the random stream used to set into a variable.
      */
-    public void setRnd(Random rnd) {
+    public void setRnd(RandomStream rnd) {
         this.rnd = rnd;
     }
 
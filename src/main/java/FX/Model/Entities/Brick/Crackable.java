@@ -18,8 +18,6 @@
 
 package FX.Model.Entities.Brick;
 
-import javafx.scene.shape.Path;
-
 /**
  * this interface is used to allow the class to have crackable feature
  */
@@ -64,16 +62,31 @@ public interface Crackable {
     void setCrack(Crack crack);
 
     /**
-     * this method is used to set the crack path generated by the crack object.
+     * this method is used to set the crack points generated by the crack object.
+     *
+     * @param crackPoints this is the array of the crack line points in the form of (x0, y0, x1, y1, ...), null if the brick was never cracked.
+     */
+    void setCrackPoints(float[] crackPoints);
+
+    /**
+     * this method is used to get the crack points which contains the info on how to draw the crack.
+     * the array is kept when the crack is removed so the next crack could reuse it, so it is only drawn if the brick is cracked.
+     *
+     * @return this returns the array of the crack line points in the form of (x0, y0, x1, y1, ...), null if the brick was never cracked.
+     */
+    float[] getCrackPoints();
+
+    /**
+     * this method is used to check if the brick has a crack to be drawn.
      *
-     * @param path this is the path object which contains the info on how to draw the crack into a variable.
+     * @return this returns true if the brick is cracked.
      */
-    void setCrackPath(Path path);
+    boolean isCracked();
 
     /**
-     * this method is used to get the crack path which contains the info on how to draw the crack.
+     * this method is used to set if the brick has a crack, the crack points are kept when the crack is removed.
      *
-     * @return this returns the path object which contains the information need to draw the crack line.
+     * @param cracked this is the boolean value used to set into a variable.
      */
-    Path getCrackPath();
+    void setCracked(boolean cracked);
 }
@@ -21,7 +21,6 @@ package FX.Model.Entities.Brick;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
-import javafx.scene.shape.Path;
 
 /**
  * this class is for the reinforced steel brick which is used for the level.
@@ -31,10 +30,11 @@ public class ReinforcedSteelBrick extends Brick implements Crackable{
     private static final String NAME = "Reinforced Steel Brick";
     private static final Color DEF_INNER = Color.BLUE;
     private static final Color DEF_BORDER = Color.rgb(203, 203, 201,1);
-    private static final int REINFORCED_STEEL_STRENGTH = 2;
-    private static final double REINFORCED_STEEL_PROBABILITY = 0.3;
+    static final int REINFORCED_STEEL_STRENGTH = 2;
+    static final double REINFORCED_STEEL_PROBABILITY = 0.3;
 
-    private Path crackPath;
+    private float[] crackPoints;
+    private boolean cracked;
     private Crack crack;
 
     /**
@@ -43,9 +43,20 @@ public class ReinforcedSteelBrick extends Brick implements Crackable{
      * @param point this is the point where the steel brick is created.
      * @param size  this is for the size of the brick
      */
-    public ReinforcedSteelBrick(Point2D point, Dimension2D size) {
-        super(point,size,DEF_BORDER,DEF_INNER,REINFORCED_STEEL_STRENGTH,REINFORCED_STEEL_PROBABILITY,NAME);
-        setCrack(Crack.singletonCrack());
+    public ReinforcedSteelBrick(Point2D point, Dimension2D size){
+        this(point.getX(), point.getY(), (int) size.getWidth(), (int) size.getHeight());
+    }
+
+    /**
+     * this constructor is used to create a reinforced steel brick object from its coordinates.
+     *
+     * @param x the x coordinate of the top left of the brick.
+     * @param y the y coordinate of the top left of the brick.
+     * @param width the width of the brick.
+     * @param height the height of the brick.
+     */
+    public ReinforcedSteelBrick(double x, double y, int width, int height){
+        super(x,y,width,height,DEF_BORDER,DEF_INNER,REINFORCED_STEEL_STRENGTH,REINFORCED_STEEL_PROBABILITY,NAME);
     }
 
     /**
@@ -69,22 +80,52 @@ public class ReinforcedSteelBrick extends Brick implements Crackable{
     }
 
     /**
-     * this method is used to set the crack path used to draw on the game.
+     * this method is used to set the crack points used to draw on the game.
+     *
+     * @param crackPoints this is the array of crack line points used to set into a variable for future reference, null if it was never cracked.
+     */
+    @Override
+    public void setCrackPoints(float[] crackPoints) {
+        this.crackPoints = crackPoints;
+    }
+
+    /**
+     * this method is used to get the crack points used to draw on the game.
+     *
+     * @return this is the array of crack line points in the form of (x0, y0, x1, y1, ...), null if it was never cracked.
+     */
+    @Override
+    public float[] getCrackPoints() {
+        return crackPoints;
+    }
+
+    /**
+     * this method is used to check if the brick has a crack to be drawn.
+     *
+     * @return this returns true if the brick is cracked.
+     */
+    @Override
+    public boolean isCracked() {
+        return cracked;
+    }
+
+    /**
+     * this method is used to set if the brick has a crack, the crack points are kept for the next crack.
      *
-     * @param path this is the Path object used to set into a variable for future reference
+     * @param cracked this is the boolean value used to set into a variable.
      */
     @Override
-    public void setCrackPath(Path path) {
-        this.crackPath = path;
+    public void setCracked(boolean cracked) {
+        this.cracked = cracked;
     }
 
     /**
-     * this method is used to get the crack path used to draw on the game.
+     * this method is used to get the type of the brick.
      *
-     * @return this is the Path object which contains the information on how to draw the crack.
+     * @return this returns BrickFactory.REINFORCED_STEEL.
      */
     @Override
-    public Path getCrackPath() {
-        return crackPath;
+    public int getBrickType() {
+        return BrickFactory.REINFORCED_STEEL;
     }
 }
@@ -30,8 +30,8 @@ public class SteelBrick extends Brick {
     private static final String NAME = "Steel Brick";
     private static final Color DEF_INNER = Color.rgb(203,203,203,1);
     private static final Color DEF_BORDER = Color.BLACK;
-    private static final int STEEL_STRENGTH = 1;
-    private static final double STEEL_PROBABILITY = 0.4;
+    static final int STEEL_STRENGTH = 1;
+    static final double STEEL_PROBABILITY = 0.4;
 
     /**
      * this method is used to create a steel brick object.
@@ -40,7 +40,28 @@ public class SteelBrick extends Brick {
      * @param size this is for the size of the brick
      */
     public SteelBrick(Point2D point, Dimension2D size){
-        super(point,size,DEF_BORDER,DEF_INNER,STEEL_STRENGTH,STEEL_PROBABILITY,NAME);
+        this(point.getX(), point.getY(), (int) size.getWidth(), (int) size.getHeight());
     }
 
+    /**
+     * this constructor is used to create a steel brick object from its coordinates.
+     *
+     * @param x the x coordinate of the top left of the brick.
+     * @param y the y coordinate of the top left of the brick.
+     * @param width the width of the brick.
+     * @param height the height of the brick.
+     */
+    public SteelBrick(double x, double y, int width, int height){
+        super(x,y,width,height,DEF_BORDER,DEF_INNER,STEEL_STRENGTH,STEEL_PROBABILITY,NAME);
+    }
+
+    /**
+     * this method is used to get the type of the brick.
+     *
+     * @return this returns BrickFactory.STEEL.
+     */
+    @Override
+    public int getBrickType() {
+        return BrickFactory.STEEL;
+    }
 }
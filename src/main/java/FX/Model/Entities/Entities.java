@@ -18,18 +18,22 @@
 
 package FX.Model.Entities;
 
-import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 
 /**
  * this is an abstract class which is used to indicate that the classes that extends it is an entity object.
+ * the position and size are kept as primitive values so moving the entity does not create any object.
  */
 public abstract class Entities {
-    private Point2D fixedInitialPosition;
+    private double initialX;
+    private double initialY;
+    private double x;
+    private double y;
     private int width;
     private int height;
-    private BoundingBox bounds;
+    private final EntityBounds bounds = new EntityBounds(this);
 
     private Color borderColor;
     private Color innerColor;
@@ -44,12 +48,26 @@ public abstract class Entities {
      * @param height this is the height length of the entity.
      */
     public Entities(Point2D position, Color borderColor, Color innerColor, int width, int height){
-        setFixedInitialPosition(position);
+        this(position.getX(), position.getY(), borderColor, innerColor, width, height);
+    }
+
+    /**
+     * this constructor is used to set the entities variable.
+     *
+     * @param x this is the x coordinate of the top left position of the entity.
+     * @param y this is the y coordinate of the top left position of the entity.
+     * @param borderColor this is the border color of the entity.
+     * @param innerColor this is the inner color of the entity.
+     * @param width this is the width length of the entity.
+     * @param height this is the height length of the entity.
+     */
+    public Entities(double x, double y, Color borderColor, Color innerColor, int width, int height){
+        setFixedInitialPosition(x, y);
         setBorderColor(borderColor);
         setInnerColor(innerColor);
         setWidth(width);
         setHeight(height);
-        setBounds(new BoundingBox(getFixedInitialPosition().getX(), getFixedInitialPosition().getY(), getWidth(),getHeight()));
+        setPosition(x, y);
     }
 
     /**
@@ -59,7 +77,19 @@ public abstract class Entities {
      * @param dir this is the direction of impact.
      * @return this returns true.
      */
-    public boolean setImpact(Point2D point, int dir){
+    public final boolean setImpact(Point2D point, int dir){
+        return setImpact(point.getX(), point.getY(), dir);
+    }
+
+    /**
+     * this method returns true as it is used when there is a collision occurred. (set this false to disable multi-ball)
+     *
+     * @param x this is the x coordinate of the point of impact between the entities.
+     * @param y this is the y coordinate of the point of impact between the entities.
+     * @param dir this is the direction of impact.
+     * @return this returns true.
+     */
+    public boolean setImpact(double x, double y, int dir){
         return true;
     }
 
@@ -67,25 +97,67 @@ public abstract class Entities {
      * this method is used to reset the position of the entity.
      */
     public void resetPosition(){
-        setBounds(new BoundingBox(fixedInitialPosition.getX(), fixedInitialPosition.getY(),width,height));
+        setPosition(initialX, initialY);
     }
 
     /**
-     * this method is used to get the bounding box of the entity.
+     * this method is used to get the bounds of the entity, the bounds is a read only view which follows the entity when it moves.
      *
-     * @return this returns the bounding box object of the entity.
+     * @return this returns the bounds of the entity.
      */
-    public BoundingBox getBounds() {
+    public EntityBounds getBounds() {
         return bounds;
     }
 
     /**
-     * this method is used to set the bounding box of the entity into a variable for future reference.
+     * this method is used to set the position and size of the entity based on the bounds provided.
      *
-     * @param bounds this is the bounding box object used to set into a variable of the entity for future reference.
+     * @param bounds this is the bounds used to set the position and size of the entity.
      */
-    public void setBounds(BoundingBox bounds) {
-        this.bounds = bounds;
+    public void setBounds(Bounds bounds) {
+        setPosition(bounds.getMinX(), bounds.getMinY());
+        setWidth((int) bounds.getWidth());
+        setHeight((int) bounds.getHeight());
+    }
+
+    /**
+     * this method is used to set the top left position of the entity.
+     *
+     * @param x this is the x coordinate of the top left position.
+     * @param y this is the y coordinate of the top left position.
+     */
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * this method is used to move the entity by the amount provided.
+     *
+     * @param dx this is the distance moved on the x-axis.
+     * @param dy this is the distance moved on the y-axis.
+     */
+    public void moveBy(double dx, double dy) {
+        this.x += dx;
+        this.y += dy;
+    }
+
+    /**
+     * this method is used to get the x coordinate of the top left position of the entity.
+     *
+     * @return this returns the x coordinate of the entity.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * this method is used to get the y coordinate of the top left position of the entity.
+     *
+     * @return this returns the y coordinate of the entity.
+     */
+    public double getY() {
+        return y;
     }
 
     /**
@@ -94,7 +166,7 @@ public abstract class Entities {
      * @return this returns the top left position of the entity.
      */
     public Point2D getFixedInitialPosition() {
-        return fixedInitialPosition;
+        return new Point2D(initialX, initialY);
     }
 
     /**
@@ -103,7 +175,18 @@ public abstract class Entities {
      * @param fixedInitialPosition this is the position that is going to be set into a variable which is the initial position of the entity.
      */
     public void setFixedInitialPosition(Point2D fixedInitialPosition) {
-        this.fixedInitialPosition = fixedInitialPosition;
+        setFixedInitialPosition(fixedInitialPosition.getX(), fixedInitialPosition.getY());
+    }
+
+    /**
+     * this method is used to set the initial top left position of the entity, which is the position used when the entity is reset.
+     *
+     * @param x this is the x coordinate of the initial position.
+     * @param y this is the y coordinate of the initial position.
+     */
+    public void setFixedInitialPosition(double x, double y) {
+        this.initialX = x;
+        this.initialY = y;
     }
 
     /**
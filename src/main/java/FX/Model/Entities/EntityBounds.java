@@ -0,0 +1,160 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model.Entities;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+/**
+ * this class is a read only view of the position and size of an entity. it reads the values from the entity every time so it always follows the entity when it moves.
+ * the edges are inclusive the same way as the JavaFX bounding box.
+ */
+public final class EntityBounds {
+
+    private final Entities entity;
+
+    /**
+     * this constructor is used to create the bounds view for the entity.
+     *
+     * @param entity this is the entity which the bounds is going to read from.
+     */
+    EntityBounds(Entities entity){
+        this.entity = entity;
+    }
+
+    /**
+     * this method is used to get the x coordinate of the left side.
+     *
+     * @return this returns the minimum x coordinate.
+     */
+    public double getMinX() {
+        return entity.getX();
+    }
+
+    /**
+     * this method is used to get the y coordinate of the top side.
+     *
+     * @return this returns the minimum y coordinate.
+     */
+    public double getMinY() {
+        return entity.getY();
+    }
+
+    /**
+     * this method is used to get the x coordinate of the right side.
+     *
+     * @return this returns the maximum x coordinate.
+     */
+    public double getMaxX() {
+        return entity.getX() + entity.getWidth();
+    }
+
+    /**
+     * this method is used to get the y coordinate of the bottom side.
+     *
+     * @return this returns the maximum y coordinate.
+     */
+    public double getMaxY() {
+        return entity.getY() + entity.getHeight();
+    }
+
+    /**
+     * this method is used to get the width.
+     *
+     * @return this returns the width of the entity.
+     */
+    public double getWidth() {
+        return entity.getWidth();
+    }
+
+    /**
+     * this method is used to get the height.
+     *
+     * @return this returns the height of the entity.
+     */
+    public double getHeight() {
+        return entity.getHeight();
+    }
+
+    /**
+     * this method is used to check if the point is inside the bounds (including the edges).
+     *
+     * @param x this is the x coordinate of the point.
+     * @param y this is the y coordinate of the point.
+     * @return this returns true if the point is inside the bounds.
+     */
+    public boolean contains(double x, double y) {
+        if(isEmpty())
+            return false;
+        return x >= getMinX() && x <= getMaxX() && y >= getMinY() && y <= getMaxY();
+    }
+
+    /**
+     * this method is used to check if the area provided overlaps the bounds (including the edges).
+     *
+     * @param x this is the x coordinate of the top left of the area.
+     * @param y this is the y coordinate of the top left of the area.
+     * @param width this is the width of the area.
+     * @param height this is the height of the area.
+     * @return this returns true if the area overlaps the bounds.
+     */
+    public boolean intersects(double x, double y, double width, double height) {
+        if(isEmpty() || width < 0 || height < 0)
+            return false;
+        return x + width >= getMinX() && y + height >= getMinY() && x <= getMaxX() && y <= getMaxY();
+    }
+
+    /**
+     * this method is used to check if the bounds of another entity overlaps this bounds.
+     *
+     * @param other this is the bounds of the other entity.
+     * @return this returns true if the bounds overlaps.
+     */
+    public boolean intersects(EntityBounds other) {
+        return other != null && intersects(other.getMinX(), other.getMinY(), other.getWidth(), other.getHeight());
+    }
+
+    /**
+     * this method is used to check if a JavaFX bounds overlaps this bounds.
+     *
+     * @param other this is the JavaFX bounds.
+     * @return this returns true if the bounds overlaps.
+     */
+    public boolean intersects(Bounds other) {
+        return other != null && !other.isEmpty() && intersects(other.getMinX(), other.getMinY(), other.getWidth(), other.getHeight());
+    }
+
+    /**
+     * this method is used to check if the bounds have a negative size.
+     *
+     * @return this returns true if the width or height is negative.
+     */
+    public boolean isEmpty() {
+        return entity.getWidth() < 0 || entity.getHeight() < 0;
+    }
+
+    /**
+     * this method is used to make a JavaFX bounding box with the current position and size, which does not follow the entity afterwards.
+     *
+     * @return this returns a new bounding box object.
+     */
+    public BoundingBox toBoundingBox() {
+        return new BoundingBox(getMinX(), getMinY(), getWidth(), getHeight());
+    }
+}
@@ -18,7 +18,6 @@
 
 package FX.Model.Entities;
 
-import javafx.geometry.BoundingBox;
 import javafx.geometry.Point2D;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -42,27 +41,12 @@ public class Paddle extends Entities implements Movable {
     private int lowestXCoordinate;
     private int largestXCoordinate;
 
-    private static Paddle uniquePaddle;
-
-    /**
-     * this method is used to create and return the one and only paddle object.
-     *
-     * @param container this is the rectangle which is the play area of the game.
-     * @return this returns the one and only paddle object
-     */
-    public static Paddle singletonPaddle(Rectangle container){
-        if(getUniquePlayer() == null){
-            setUniquePlayer(new Paddle(container));
-        }
-        return getUniquePlayer();
-    }
-
     /**
      * this method is used to create a player object.
      *
      * @param playArea this is the information of the play area which will be used to calculate where the player will be created.
      */
-    private Paddle(Rectangle playArea) {
+    public Paddle(Rectangle playArea) {
         super(new Point2D(playerTopLeftXStartPoint,playerTopLeftYStartPoint),BORDER_COLOR,INNER_COLOR,PLAYER_WIDTH, PLAYER_HEIGHT);
         setMoveAmount(0);
         setLowestXCoordinate((int)playArea.getX());
@@ -73,9 +57,9 @@ public class Paddle extends Entities implements Movable {
      * this method is used to move the paddle (player).
      */
     public void move(){
-        if(getBounds().getMinX() + getMoveAmount() < getLowestXCoordinate() || getBounds().getMinX() + getMoveAmount() > getLargestXCoordinate())
+        if(getX() + getMoveAmount() < getLowestXCoordinate() || getX() + getMoveAmount() > getLargestXCoordinate())
             return;
-        setBounds(new BoundingBox(getBounds().getMinX() + getMoveAmount(), getBounds().getMinY(), getBounds().getWidth(), getBounds().getHeight()));
+        moveBy(getMoveAmount(), 0);
     }
 
     /**
@@ -140,22 +124,4 @@ public class Paddle extends Entities implements Movable {
     public int getDEF_MOVE_AMOUNT() {
         return DEF_MOVE_AMOUNT;
     }
-
-    /**
-     * this method is used to get the one and only player object.
-     *
-     * @return it returns a player object after the method singletonPlayer is called.
-     */
-    private static Paddle getUniquePlayer() {
-        return uniquePaddle;
-    }
-
-    /**
-     * this method is used to set the player object into a variable for future reference.
-     *
-     * @param uniquePaddle this is the Model.Player object used to store into a variable.
-     */
-    private static void setUniquePlayer(Paddle uniquePaddle) {
-        Paddle.uniquePaddle = uniquePaddle;
-    }
 }
@@ -29,23 +29,10 @@ public class Player {
     private boolean pauseMode;
     private int ballCount;
 
-    private static Player uniquePlayer;
-
-    /**
-     * this method is used to create and return the one and only player object.
-     *
-     * @return this returns the one and only player object.
-     */
-    public static Player singletonPlayer(){
-        if(getUniquePlayer() == null){
-            setUniquePlayer(new Player());
-        }
-        return getUniquePlayer();
-    }
     /**
      * this constructor is used to set the player initial values.
      */
-    private Player(){
+    public Player(){
         setPauseMode(true);
         setBotMode(false);
 
@@ -131,22 +118,4 @@ public class Player {
     public void resetBallCount(){
         setBallCount(MAX_BALL_COUNT);
     }
-
-    /**
-     * this method is used to return a one and only player object. as this is a single player game it makes sense to only have one player object.
-     *
-     * @return this is returns the one and only player object.
-     */
-    private static Player getUniquePlayer() {
-        return uniquePlayer;
-    }
-
-    /**
-     * this method is used to set a player object into a variable to be referenced in the future.
-     *
-     * @param uniquePlayer this is the player object used get the player object.
-     */
-    private static void setUniquePlayer(Player uniquePlayer) {
-        Player.uniquePlayer = uniquePlayer;
-    }
 }
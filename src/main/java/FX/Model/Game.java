@@ -18,15 +18,19 @@
 
 package FX.Model;
 
+import FX.Model.Bot.BotController;
+import FX.Model.Bot.FollowBallBot;
 import FX.Model.Entities.Ball.Ball;
 import FX.Model.Entities.Ball.BallClone;
 import FX.Model.Entities.Ball.RubberBall;
 import FX.Model.Entities.Brick.Brick;
 import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Entities.Brick.Crack;
 import FX.Model.Entities.Brick.Crackable;
 import FX.Model.Entities.Paddle;
 import FX.Model.Entities.Player;
-import FX.Model.Levels.LevelFactory;
+import FX.Model.Levels.LevelPack;
+import FX.Model.Levels.LevelSpec;
 import javafx.scene.shape.Rectangle;
 
 import java.util.ArrayList;
@@ -39,44 +43,86 @@ public class Game {
     private final int MAKE_LEVEL_BRICK_COUNT = 30;
     private final int MAKE_LEVEL_LINE_COUNT = 3;
 
-    private final int LEVELS_AMOUNT = 7;
-
     private Brick[] bricks;
-    private Brick[][] brickLevels;
+    private BrickGrid brickGrid;
+    private LevelLoader levelLoader;
+    private int wallVersion;
+    private int resetWallVersion;
+
+    private boolean[] touched;
+    private int[] touchedBricks;
+    private int touchedCount;
+    private int[] resetBricks;
+    private int resetCount;
 
     private int brickCount;
     private boolean ballLost;
 
-    private static Game uniqueGame;
     private ArrayList<BallClone> cloneBall;
     private Paddle paddle;
     private Ball mainBall;
     private Player player;
 
     private Rectangle playArea;
+    private GameRandom gameRandom;
+    private BotController botController;
+    private Crack crack;
 
     private boolean showPauseMenu;
 
     /**
-     * this method is used to create a game object based on the Singleton design pattern.
+     * this constructor is used to create a game which has its own player, paddle and randomness, so many games could be run at the same time (e.g. by the batch simulator).
      *
      * @param gameAreaWidth this is the game are width which is the game window boundary.
      * @param gameAreaHeight this is the game are height which is the game window boundary.
-     * @return this returns the one and only game object
+     * @param gameRandom this is the randomness of the game.
      */
-    public static Game singletonGame(double gameAreaWidth, double gameAreaHeight){
-        if(getUniqueGame() == null){
-            setUniqueGame(new Game(gameAreaWidth, gameAreaHeight));
-        }
-        return getUniqueGame();
+    public Game(double gameAreaWidth, double gameAreaHeight, GameRandom gameRandom){
+        this(gameAreaWidth, gameAreaHeight, gameRandom, null);
     }
 
     /**
-     * this constructor is used to generate an object which is the wall used for the levels.
+     * this constructor is used to create a game which plays the levels of a level pack instead of the built in levels.
+     *
+     * @param gameAreaWidth this is the game are width which is the game window boundary.
+     * @param gameAreaHeight this is the game are height which is the game window boundary.
+     * @param gameRandom this is the randomness of the game.
+     * @param levelPack this is the level pack, null to use the built in levels.
      */
-    private Game(double gameAreaWidth, double gameAreaHeight){
+    public Game(double gameAreaWidth, double gameAreaHeight, GameRandom gameRandom, LevelPack levelPack){
+        this(gameAreaWidth, gameAreaHeight, gameRandom, levelPack, 0, true);
+    }
+
+    /**
+     * this constructor is used to create a headless game (e.g. for the batch simulator) which starts on the level provided.
+     * only the starting level is created and nothing is prepared in the background, so many games could be created on different threads without waiting on each other.
+     *
+     * @param gameAreaWidth this is the game are width which is the game window boundary.
+     * @param gameAreaHeight this is the game are height which is the game window boundary.
+     * @param gameRandom this is the randomness of the game.
+     * @param startLevel this is the index of the first level played, starting from 0.
+     */
+    public Game(double gameAreaWidth, double gameAreaHeight, GameRandom gameRandom, int startLevel){
+        this(gameAreaWidth, gameAreaHeight, gameRandom, null, startLevel, false);
+    }
+
+    /**
+     * this constructor is used to create a game which starts on the level provided.
+     *
+     * @param gameAreaWidth this is the game are width which is the game window boundary.
+     * @param gameAreaHeight this is the game are height which is the game window boundary.
+     * @param gameRandom this is the randomness of the game.
+     * @param levelPack this is the level pack, null to use the built in levels. it must be made for the size of the game area.
+     * @param startLevel this is the index of the first level played, starting from 0.
+     * @param prefetchEnabled this is the boolean value used to determine if the next level is prepared in the background.
+     */
+    public Game(double gameAreaWidth, double gameAreaHeight, GameRandom gameRandom, LevelPack levelPack, int startLevel, boolean prefetchEnabled){
+        if(levelPack != null && !levelPack.matchesPlayArea(gameAreaWidth, gameAreaHeight))
+            throw new IllegalArgumentException("level pack is made for a " + levelPack.getDesignWidth() + " x " + levelPack.getDesignHeight() + " play area, not " + gameAreaWidth + " x " + gameAreaHeight);
         setCloneBall(new ArrayList<>());
-        setPlayer(Player.singletonPlayer());
+        setPlayer(new Player());
+        setGameRandom(gameRandom);
+        setCrack(new Crack(gameRandom.getStream(GameRandom.CRACK)));
 
         setShowPauseMenu(false);
 
@@ -84,57 +130,123 @@ public class Game {
 
         setBallLost(false);
 
-        setBrickLevels(makeLevels(getPlayArea(), MAKE_LEVEL_BRICK_COUNT,MAKE_LEVEL_LINE_COUNT,BRICK_DIMENSION_RATIO));
+        if(levelPack != null)
+            setLevelLoader(new LevelLoader(levelPack, getGameRandom()));
+        else
+            setLevelLoader(new LevelLoader(makeLevelSpecs(), getPlayArea(), MAKE_LEVEL_BRICK_COUNT, MAKE_LEVEL_LINE_COUNT, BRICK_DIMENSION_RATIO, getGameRandom()));
+        getLevelLoader().setPrefetchEnabled(prefetchEnabled);
 
+        if(startLevel < 0 || startLevel >= getLevelCount())
+            throw new IllegalArgumentException("level " + startLevel + " does not exist, there are " + getLevelCount() + " levels");
+        getPlayer().setCurrentLevel(startLevel);
         nextLevel();
 
-        setPaddle(Paddle.singletonPaddle(getPlayArea()));
-        setMainBall(new RubberBall());
+        setPaddle(new Paddle(getPlayArea()));
+        setBotController(new FollowBallBot());
+        setMainBall(new RubberBall(getGameRandom().getStream(GameRandom.BALL)));
+    }
+
+    /**
+     * this method is used to get the amount of built in levels without creating a game.
+     *
+     * @return this returns the amount of built in levels.
+     */
+    public static int getBuiltInLevelCount(){
+        return makeLevelSpecs().length;
     }
 
     /**
-     * this is used to generate the levels to be placed in a brick array.
+     * this is used to describe the levels of the game, the bricks of a level are only created when the level is reached.
      *
-     * @param drawArea this is the area where the bricks will be drawn.
-     * @param brickCount this is the amount bricks that will be generated in the level.
-     * @param lineCount this is the total amount of rows of bricks that is allowed.
-     * @param brickDimensionRatio this is the ratio for the bricks.
-     * @return the levels that are generated in the form of 2 dimension brick array.
+     * @return the description of every level in order.
      */
-    private Brick[][] makeLevels(Rectangle drawArea, int brickCount, int lineCount, double brickDimensionRatio){
-        Brick[][] tmp = new Brick[LEVELS_AMOUNT][];
-        LevelFactory levelFactory = new LevelFactory();
-        tmp[0] = levelFactory.makeLevel("CHAINLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, BrickFactory.CLAY, BrickFactory.CLAY);
-        tmp[1] = levelFactory.makeLevel("CHAINLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, BrickFactory.CLAY, BrickFactory.CEMENT);
-        tmp[2] = levelFactory.makeLevel("CHAINLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, BrickFactory.CLAY, BrickFactory.STEEL);
-        tmp[3] = levelFactory.makeLevel("CHAINLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, BrickFactory.STEEL, BrickFactory.CEMENT);
-        tmp[4] = levelFactory.makeLevel("STRAIGHTLINESLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, BrickFactory.REINFORCED_STEEL, BrickFactory.STEEL);
-        tmp[5] = levelFactory.makeLevel("CURLYLINESLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, BrickFactory.REINFORCED_STEEL, BrickFactory.STEEL);
-        tmp[6] = levelFactory.makeLevel("RANDOMLEVEL").level(drawArea,brickCount,lineCount,brickDimensionRatio, 0, 0);
-        return tmp;
+    private static LevelSpec[] makeLevelSpecs(){
+        return new LevelSpec[]{
+                new LevelSpec("CHAINLEVEL", BrickFactory.CLAY, BrickFactory.CLAY),
+                new LevelSpec("CHAINLEVEL", BrickFactory.CLAY, BrickFactory.CEMENT),
+                new LevelSpec("CHAINLEVEL", BrickFactory.CLAY, BrickFactory.STEEL),
+                new LevelSpec("CHAINLEVEL", BrickFactory.STEEL, BrickFactory.CEMENT),
+                new LevelSpec("STRAIGHTLINESLEVEL", BrickFactory.REINFORCED_STEEL, BrickFactory.STEEL),
+                new LevelSpec("CURLYLINESLEVEL", BrickFactory.REINFORCED_STEEL, BrickFactory.STEEL),
+                new LevelSpec("RANDOMLEVEL", 0, 0)
+        };
     }
 
     /**
-     * this is used to reset the wall (bricks) and the ball count (tries).
+     * this is used to reset the wall (bricks) and the ball count (tries). only the bricks touched since the last reset are reset, so the cost depends on the amount of bricks hit instead of the size of the wall.
      */
     public void wallReset(){
-        for(Brick b : getBricks()){
+        for (int i = 0; i < touchedCount; i++) {
+            int brickIndex = touchedBricks[i];
+            Brick b = getBricks()[brickIndex];
             b.setBroken(false);
             b.setCurrentStrength(b.getMaxStrength());
             if(b instanceof Crackable)
-                ((Crackable) b).setCrackPath(null);
+                ((Crackable) b).setCracked(false);
+            getBrickGrid().restore(brickIndex);
+            touched[brickIndex] = false;
         }
+        // the touched list becomes the list of the bricks reset, so the view only needs to draw those bricks again.
+        int[] emptyList = resetBricks;
+        resetBricks = touchedBricks;
+        resetCount = touchedCount;
+        touchedBricks = emptyList;
+        touchedCount = 0;
+
         setBrickCount(getBricks().length);
         getPlayer().resetBallCount();
+        setWallVersion(getWallVersion() + 1);
+        resetWallVersion = getWallVersion();
+    }
+
+    /**
+     * this method is used to remember that a brick is changed (hit, cracked or broken) so it is reset by the next wall reset. it should be called before the brick is changed.
+     *
+     * @param brickIndex this is the index of the brick in the brick array of the level.
+     */
+    public void markTouched(int brickIndex){
+        if(touched[brickIndex])
+            return;
+        touched[brickIndex] = true;
+        touchedBricks[touchedCount++] = brickIndex;
+    }
+
+    /**
+     * this method is used to get the amount of bricks reset by the last wall reset.
+     *
+     * @return this returns the amount of bricks reset.
+     */
+    public int getResetCount() {
+        return resetCount;
+    }
+
+    /**
+     * this method is used to get one of the bricks reset by the last wall reset.
+     *
+     * @param i this is the position in the list of bricks reset, from 0 to the reset count.
+     * @return this returns the index of the brick in the brick array of the level.
+     */
+    public int getResetBrick(int i) {
+        return resetBricks[i];
+    }
+
+    /**
+     * this method is used to get the version of the wall set by the last wall reset, if it is the same as the wall version the last change of the wall was a reset of the bricks in the reset list.
+     *
+     * @return this returns the wall version of the last reset.
+     */
+    public int getResetWallVersion() {
+        return resetWallVersion;
     }
 
     /**
      * this method is used to progress to the next level.
      */
     public void nextLevel(){
-        setBricks(getBrickLevels()[getPlayer().getCurrentLevel()]);
+        setBricks(getLevelLoader().getLevel(getPlayer().getCurrentLevel()));
         getPlayer().setCurrentLevel(getPlayer().getCurrentLevel()+1);
         setBrickCount(getBricks().length);
+        getLevelLoader().prefetch(getPlayer().getCurrentLevel());
     }
 
     /**
@@ -142,11 +254,7 @@ public class Game {
      */
     public void automation(){
         if(getPlayer().isBotMode()){
-            if(getMainBall().getBounds().getMinX() > getPaddle().getBounds().getMinX() + getPaddle().getBounds().getWidth()/2){
-                getPaddle().setMoveAmount(getPaddle().getDEF_MOVE_AMOUNT());
-            }else{
-                getPaddle().setMoveAmount(-getPaddle().getDEF_MOVE_AMOUNT());
-            }
+            getBotController().control(this);
         }
     }
 
@@ -199,39 +307,48 @@ public class Game {
     }
 
     /**
-     * this method is used to get the one and only one wall object based on singleton design after the singletonWall method is called.
+     * this method is used to get the bot which controls the paddle in the bot mode.
      *
-     * @return this returns the one and only wall object.
+     * @return this returns the bot controller.
      */
-    private static Game getUniqueGame() {
-        return uniqueGame;
+    public BotController getBotController() {
+        return botController;
     }
 
     /**
-     * this method is used to set the one and only wall object and enable it to be reused in the future. Singleton design.
+     * this method is used to set the bot which controls the paddle in the bot mode, the follow ball bot is used by default.
      *
-     * @param uniqueGame this is the variable used to set the wall object into a variable.
+     * @param botController this is the bot controller used to set into a variable.
      */
-    private static void setUniqueGame(Game uniqueGame) {
-        Game.uniqueGame = uniqueGame;
+    public void setBotController(BotController botController) {
+        this.botController = botController;
     }
 
     /**
-     * this method is used to get the generated brick levels for the game.
+     * this method is used to get the loader which creates the bricks of the levels when they are reached.
      *
-     * @return this returns a Brick 2 dimension array which the first array is the level and second array is the brick.
+     * @return this returns the level loader.
      */
-    public Brick[][] getBrickLevels() {
-        return brickLevels;
+    public LevelLoader getLevelLoader() {
+        return levelLoader;
     }
 
     /**
-     * this is the method used to set the brick levels for the game.
+     * this is the method used to set the level loader for the game.
      *
-     * @param brickLevels this is the brick levels used to be recorded for the game levels.
+     * @param levelLoader this is the level loader used to create the levels of the game.
      */
-    public void setBrickLevels(Brick[][] brickLevels) {
-        this.brickLevels = brickLevels;
+    public void setLevelLoader(LevelLoader levelLoader) {
+        this.levelLoader = levelLoader;
+    }
+
+    /**
+     * this method is used to get the amount of levels in the game.
+     *
+     * @return this returns the amount of levels.
+     */
+    public int getLevelCount() {
+        return getLevelLoader().getLevelCount();
     }
 
     /**
@@ -262,12 +379,62 @@ public class Game {
     }
 
     /**
-     * this method is used to set the bricks for the level.
+     * this method is used to set the bricks for the level, the random stream and the crack of the game are given to the bricks here since the bricks do not create their own.
      *
      * @param bricks this is the brick array used to set into a variable.
      */
     public void setBricks(Brick[] bricks) {
+        if(getCrack() == null)
+            throw new IllegalStateException("the crack of the game must be set before the bricks");
+        for (Brick brick : bricks) {
+            brick.setRnd(getGameRandom().getStream(GameRandom.BRICK));
+            if(brick instanceof Crackable)
+                ((Crackable) brick).setCrack(getCrack());
+        }
         this.bricks = bricks;
+        touched = new boolean[bricks.length];
+        touchedBricks = new int[bricks.length];
+        touchedCount = 0;
+        resetBricks = new int[bricks.length];
+        resetCount = 0;
+        setBrickGrid(new BrickGrid(bricks));
+        setWallVersion(getWallVersion() + 1);
+    }
+
+    /**
+     * this method is used to get the version of the wall, which changes every time the bricks of the level are replaced or reset, so the view knows when to redraw the wall.
+     *
+     * @return this returns the version of the wall.
+     */
+    public int getWallVersion() {
+        return wallVersion;
+    }
+
+    /**
+     * this method is used to set the version of the wall.
+     *
+     * @param wallVersion this is the version used to set into a variable.
+     */
+    public void setWallVersion(int wallVersion) {
+        this.wallVersion = wallVersion;
+    }
+
+    /**
+     * this method is used to get the grid of the bricks for the level, which is used to find the bricks near a ball.
+     *
+     * @return this returns the brick grid of the level.
+     */
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
+    /**
+     * this method is used to set the grid of the bricks for the level.
+     *
+     * @param brickGrid this is the brick grid used to set into a variable.
+     */
+    public void setBrickGrid(BrickGrid brickGrid) {
+        this.brickGrid = brickGrid;
     }
 
     /**
@@ -368,4 +535,40 @@ public class Game {
     public void setPlayer(Player player) {
         this.player = player;
     }
+
+    /**
+     * this method is used to get the randomness of the game.
+     *
+     * @return this returns the game random object.
+     */
+    public GameRandom getGameRandom() {
+        return gameRandom;
+    }
+
+    /**
+     * this method is used to set the randomness of the game.
+     *
+     * @param gameRandom this is the game random object used to set into a variable.
+     */
+    private void setGameRandom(GameRandom gameRandom) {
+        this.gameRandom = gameRandom;
+    }
+
+    /**
+     * this method is used to get the crack object used for the bricks of the game.
+     *
+     * @return this returns the crack object.
+     */
+    public Crack getCrack() {
+        return crack;
+    }
+
+    /**
+     * this method is used to set the crack object used for the bricks of the game.
+     *
+     * @param crack this is the crack object used to set into a variable.
+     */
+    private void setCrack(Crack crack) {
+        this.crack = crack;
+    }
 }
@@ -0,0 +1,466 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+import FX.Model.Entities.Ball.Ball;
+import FX.Model.Entities.Ball.BallClone;
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.EntityBounds;
+import FX.Model.Entities.Paddle;
+import FX.Model.Profiling.FrameProfiler;
+import FX.Model.Replay.ReplayRecorder;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+
+import java.util.ArrayList;
+
+/**
+ * this class is used to run the game logic (ball movement, collisions, clone balls, brick counting and level transitions) on a fixed time step.
+ * it does not need the JavaFX toolkit to be running, so it could be used by the game controller, tests and batch simulations.
+ */
+public class GameEngine {
+
+    /**
+     * this is the amount of game ticks done in a second of game time.
+     */
+    public static final int TICKS_PER_SECOND = 60;
+
+    /**
+     * this is the duration of a single game tick in seconds.
+     */
+    public static final double TICK_DURATION = 1.0 / TICKS_PER_SECOND;
+
+    private static final double MAX_FRAME_TIME = 0.25;
+
+    // the most hits handled for a ball in a single tick, the rest of the move is dropped after that so a ball stuck between bricks cannot stall the tick.
+    private static final int MAX_HITS_PER_MOVE = 4;
+
+    private static final GameEventListener NO_LISTENER = new GameEventListener() {};
+
+    private Game game;
+    private GameEventListener listener;
+    private Bounds playBounds;
+    private RandomStream rnd;
+    private ReplayRecorder replayRecorder;
+    private FrameProfiler profiler;
+    private final SweptCollision sweptCollision = new SweptCollision();
+
+    private double accumulator;
+    private long tickCount;
+    private boolean levelComplete;
+
+    /**
+     * this constructor is used to create a game engine which runs the logic for the game provided.
+     *
+     * @param game this is the game object which contains the bricks, balls, paddle and player.
+     */
+    public GameEngine(Game game){
+        setGame(game);
+        setListener(NO_LISTENER);
+        setPlayBounds(new BoundingBox(game.getPlayArea().getX(), game.getPlayArea().getY(), game.getPlayArea().getWidth(), game.getPlayArea().getHeight()));
+        setRnd(game.getGameRandom().getStream(GameRandom.CLONE));
+        setProfiler(new FrameProfiler());
+        setLevelComplete(false);
+    }
+
+    /**
+     * this method is used to advance the game by the amount of time passed, the game logic is run in fixed size ticks no matter the time passed between each call.
+     * the leftover time is kept for the next call, and no ticks are done once the ball is lost or the level is completed until it is resolved.
+     *
+     * @param dt this is the amount of time passed in seconds.
+     * @return this returns the amount of ticks done.
+     */
+    public int step(double dt){
+        accumulator += Math.min(Math.max(dt, 0), MAX_FRAME_TIME);
+        int ticks = 0;
+        while(accumulator >= TICK_DURATION && !isHalted()){
+            accumulator -= TICK_DURATION;
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * this method is used to run a single tick of the game logic.
+     */
+    public void tick(){
+        if(getReplayRecorder() != null)
+            getReplayRecorder().recordTick(getGame());
+
+        getProfiler().begin();
+        getGame().automation();
+        getProfiler().end(FrameProfiler.AUTOMATION);
+
+        getGame().getPaddle().move();
+
+        ArrayList<BallClone> cloneBalls = getGame().getCloneBall();
+        for (int i = 0; i < cloneBalls.size(); i++) {
+            BallClone cloneBall = cloneBalls.get(i);
+            cloneBall.impactEntity(getGame().getMainBall());
+            if(ballActions(cloneBall)) {
+                if (cloneBall.getBounds().getMaxY() < getPlayBounds().getMaxY()) {
+                    getListener().ballWindowCollision();
+                } else {
+                    cloneBalls.remove(i--);
+                }
+            }
+        }
+
+        Ball mainBall = getGame().getMainBall();
+        if(ballActions(mainBall)) {
+            if (mainBall.getBounds().getMaxY() < getPlayBounds().getMaxY()) {
+                getListener().ballWindowCollision();
+            } else {
+                getGame().getPlayer().setBallCount(getGame().getPlayer().getBallCount() - 1);
+                mainBall.resetPosition();
+                getGame().getPaddle().resetPosition();
+                mainBall.setRandomBallSpeed();
+                getGame().setBallLost(true);
+            }
+        }
+
+        if(getGame().getBrickCount() == 0)
+            setLevelComplete(true);
+
+        tickCount++;
+    }
+
+    /**
+     * this method is used to cause the ball to move and deals with any collision it will face.
+     *
+     * @param ball this is the ball object used to move and collide.
+     * @return returns a boolean if it collides with the game sides (top, left, right, bottom) false if not.
+     */
+    private boolean ballActions(Ball ball) {
+        getProfiler().begin();
+        moveBall(ball);
+        boolean windowCollision = ball.gameWindowCollision(getPlayBounds());
+        getProfiler().end(FrameProfiler.BALL_ACTIONS);
+        return windowCollision;
+    }
+
+    /**
+     * this method is used to move the ball by its speed, the path of the ball is swept so it stops at the first brick or the paddle it touches even if it moves further than their size in a tick.
+     * after every hit the ball bounces and moves for the rest of the tick with its new speed, the hits are handled in the order they happen.
+     *
+     * @param ball this is the ball object used to move and collide.
+     */
+    public void moveBall(Ball ball) {
+        Paddle paddle = getGame().getPaddle();
+        // the paddle could move into the ball, which cannot be found by sweeping the ball, so it is checked the same way as before.
+        if (overlaps(ball.getBounds(), paddle.getBounds()) && ball.impactEntity(paddle))
+            paddleHit(ball);
+        // the sweep does not find the bricks which already overlap the ball (e.g. a ball placed onto bricks), so they are collided first.
+        ballBrickCollision(ball);
+
+        BrickGrid brickGrid = getGame().getBrickGrid();
+        Brick[] bricks = brickGrid.getBricks();
+        double remaining = 1;
+        for (int hits = 0; hits < MAX_HITS_PER_MOVE && remaining > 0; hits++) {
+            double dx = ball.getSpeedX() * remaining;
+            double dy = ball.getSpeedY() * remaining;
+            EntityBounds bounds = ball.getBounds();
+
+            double hitTime = Double.POSITIVE_INFINITY;
+            int hitDirection = 0;
+            double impactX = 0;
+            double impactY = 0;
+            int hitBrick = -1;
+            if (sweptCollision.sweep(bounds, dx, dy, paddle.getBounds())) {
+                hitTime = sweptCollision.getTime();
+                hitDirection = sweptCollision.getDirection();
+                impactX = sweptCollision.getImpactX();
+                impactY = sweptCollision.getImpactY();
+            }
+            getProfiler().begin();
+            int candidateCount = brickGrid.query(bounds.getMinX() + Math.min(dx, 0), bounds.getMinY() + Math.min(dy, 0), bounds.getMaxX() + Math.max(dx, 0), bounds.getMaxY() + Math.max(dy, 0));
+            for (int i = 0; i < candidateCount; i++) {
+                int brickIndex = brickGrid.getCandidate(i);
+                Brick brick = bricks[brickIndex];
+                if (!brick.isBroken() && sweptCollision.sweep(bounds, dx, dy, brick.getBounds()) && sweptCollision.getTime() < hitTime) {
+                    hitTime = sweptCollision.getTime();
+                    hitDirection = sweptCollision.getDirection();
+                    impactX = sweptCollision.getImpactX();
+                    impactY = sweptCollision.getImpactY();
+                    hitBrick = brickIndex;
+                }
+            }
+            getProfiler().end(FrameProfiler.BRICK_COLLISION);
+
+            if (hitTime == Double.POSITIVE_INFINITY) {
+                ball.moveBy(dx, dy);
+                return;
+            }
+            ball.moveBy(dx * hitTime, dy * hitTime);
+            remaining *= 1 - hitTime;
+            ball.bounce(hitDirection);
+            if (hitBrick < 0) {
+                paddle.setImpact(impactX, impactY, hitDirection);
+                paddleHit(ball);
+            } else {
+                Brick brick = bricks[hitBrick];
+                getGame().markTouched(hitBrick);
+                getListener().ballBrickCollision(brick);
+                if (brick.setImpact(impactX, impactY, hitDirection)) {
+                    getGame().setBrickCount(getGame().getBrickCount() - 1);
+                    brickGrid.remove(hitBrick);
+                }
+                getListener().brickChanged(hitBrick);
+            }
+        }
+    }
+
+    /**
+     * this method is used to handle the ball hitting the paddle, the main ball could create a clone ball when it hits the paddle.
+     *
+     * @param ball this is the ball which hit the paddle.
+     */
+    private void paddleHit(Ball ball) {
+        if (ball == getGame().getMainBall()){
+            if(getRnd().nextDouble() < BallClone.CLONE_BALL_GENERATION_PROBABILITY && getGame().getCloneBall().size() < BallClone.MAX_CLONE_BALL){
+                getGame().addCloneBall(new BallClone(new Point2D(ball.getBounds().getMinX(), ball.getBounds().getMinY()), getGame().getGameRandom().getStream(GameRandom.BALL)));
+            }
+        }
+        getListener().ballPaddleCollision();
+    }
+
+    /**
+     * this method is used to check if two bounds overlap, touching sides are not counted.
+     *
+     * @param first this is the first bounds.
+     * @param second this is the second bounds.
+     * @return this returns true if the inside of the bounds overlap.
+     */
+    private static boolean overlaps(EntityBounds first, EntityBounds second) {
+        return first.getMaxX() > second.getMinX() && first.getMinX() < second.getMaxX() && first.getMaxY() > second.getMinY() && first.getMinY() < second.getMaxY();
+    }
+
+    /**
+     * this method is used to detect and collide with the bricks of the current level which already overlap the ball, only the bricks in the grid cells overlapped by the ball are checked.
+     * the ball moved by moveBall stops at the side of a brick, which is not counted as an overlap, so this only finds the bricks a ball is placed onto.
+     *
+     * @param ball this is the ball object used for the collision with the brick.
+     */
+    private void ballBrickCollision(Ball ball) {
+        BrickGrid brickGrid = getGame().getBrickGrid();
+        Brick[] bricks = brickGrid.getBricks();
+        int candidateCount = brickGrid.query(ball.getBounds().getMinX(), ball.getBounds().getMinY(), ball.getBounds().getMaxX(), ball.getBounds().getMaxY());
+        for (int i = 0; i < candidateCount; i++) {
+            int brickIndex = brickGrid.getCandidate(i);
+            Brick brick = bricks[brickIndex];
+            if (!brick.isBroken() && overlaps(ball.getBounds(), brick.getBounds())) {
+                getGame().markTouched(brickIndex);
+                getListener().ballBrickCollision(brick);
+                if (ball.impactEntity(brick)) {
+                    getGame().setBrickCount(getGame().getBrickCount() - 1);
+                    brickGrid.remove(brickIndex);
+                }
+                getListener().brickChanged(brickIndex);
+            }
+        }
+    }
+
+    /**
+     * this method is used to clear the lost ball status, which will remove the clone balls and refill the tries if there are no more tries.
+     *
+     * @return this returns true if there are no more tries left for the player (game over).
+     */
+    public boolean resolveBallLost(){
+        boolean gameOver = getGame().getPlayer().getBallCount() == 0;
+        getGame().setBallLost(false);
+        if(gameOver)
+            getGame().getPlayer().resetBallCount();
+        getGame().getCloneBall().clear();
+        return gameOver;
+    }
+
+    /**
+     * this method is used to check if the level completed is the last level of the game.
+     *
+     * @return this returns true if there are no more levels after the current level.
+     */
+    public boolean isLastLevel(){
+        return getGame().getPlayer().getCurrentLevel() >= getGame().getLevelCount();
+    }
+
+    /**
+     * this method is used to progress to the next level after the level is completed, and starts from the first level again once all the levels are completed.
+     */
+    public void advanceLevel(){
+        if(isLastLevel())
+            getGame().getPlayer().setCurrentLevel(0);
+        getGame().nextLevel();
+        getGame().restartStatus();
+        setLevelComplete(false);
+        resetClock();
+    }
+
+    /**
+     * this method is used to discard the time that is not yet used for a tick, used when the game is resumed after a pause.
+     */
+    public void resetClock(){
+        accumulator = 0;
+    }
+
+    /**
+     * this method is used to check if the engine stopped doing ticks because the ball is lost or the level is completed.
+     *
+     * @return this returns true if the engine is waiting for the ball lost or level complete to be resolved.
+     */
+    public boolean isHalted(){
+        return getGame().isBallLost() || isLevelComplete();
+    }
+
+    /**
+     * this method is used to get the total amount of ticks that is done by the engine.
+     *
+     * @return this returns the amount of ticks done.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * this method is used to check if all the bricks of the current level is destroyed.
+     *
+     * @return this returns true if the level is completed.
+     */
+    public boolean isLevelComplete() {
+        return levelComplete;
+    }
+
+    /**
+     * this method is used to set if the current level is completed.
+     *
+     * @param levelComplete this is the boolean value used to set if the level is completed.
+     */
+    public void setLevelComplete(boolean levelComplete) {
+        this.levelComplete = levelComplete;
+    }
+
+    /**
+     * this method is used to get the game object which the engine is running the logic on.
+     *
+     * @return this returns the game object.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * this method is used to set the game object which the engine is running the logic on.
+     *
+     * @param game this is the game object used to set into a variable.
+     */
+    public void setGame(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * this method is used to get the listener which receives the events during a tick.
+     *
+     * @return this returns the game event listener.
+     */
+    public GameEventListener getListener() {
+        return listener;
+    }
+
+    /**
+     * this method is used to set the listener which receives the events during a tick.
+     *
+     * @param listener this is the listener used to receive the events, null to ignore the events.
+     */
+    public void setListener(GameEventListener listener) {
+        this.listener = listener == null ? NO_LISTENER : listener;
+    }
+
+    /**
+     * this method is used to get the bounds of the play area used for the collision with the sides of the game.
+     *
+     * @return this returns the bounds of the play area.
+     */
+    public Bounds getPlayBounds() {
+        return playBounds;
+    }
+
+    /**
+     * this method is used to set the bounds of the play area used for the collision with the sides of the game.
+     *
+     * @param playBounds this is the bounds used to set into a variable.
+     */
+    public void setPlayBounds(Bounds playBounds) {
+        this.playBounds = playBounds;
+    }
+
+    /**
+     * this method is used to get the random stream which is used to decide if a clone ball is spawned.
+     *
+     * @return this returns a random stream.
+     */
+    public RandomStream getRnd() {
+        return rnd;
+    }
+
+    /**
+     * this method is used to set the random stream into a variable for future reference.
+     *
+     * @param rnd this is the random stream used to set into a variable.
+     */
+    public void setRnd(RandomStream rnd) {
+        this.rnd = rnd;
+    }
+
+    /**
+     * this method is used to get the recorder which records the input of every tick.
+     *
+     * @return this returns the replay recorder, null if the game is not being recorded.
+     */
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+
+    /**
+     * this method is used to set the recorder which records the input of every tick.
+     *
+     * @param replayRecorder this is the replay recorder, null to stop recording.
+     */
+    public void setReplayRecorder(ReplayRecorder replayRecorder) {
+        this.replayRecorder = replayRecorder;
+    }
+
+    /**
+     * this method is used to get the profiler which measures the time spent in the automation, ball actions and brick collisions.
+     *
+     * @return this returns the frame profiler.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * this method is used to set the profiler which measures the time spent in the automation, ball actions and brick collisions.
+     *
+     * @param profiler this is the frame profiler used to set into a variable.
+     */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+
+/**
+ * this interface is used to receive the events that happen during a game engine tick (collisions, lost balls), so that the view could react to them (sound effects, etc.).
+ * all the methods do nothing by default so a headless simulation does not need to implement them.
+ */
+public interface GameEventListener {
+
+    /**
+     * this method is called when a ball collides with the top, left or right side of the play area.
+     */
+    default void ballWindowCollision(){}
+
+    /**
+     * this method is called when a ball collides with the paddle.
+     */
+    default void ballPaddleCollision(){}
+
+    /**
+     * this method is called when a ball comes in contact with a brick which is not broken.
+     *
+     * @param brick this is the brick that is collided by the ball.
+     */
+    default void ballBrickCollision(Brick brick){}
+
+    /**
+     * this method is called after a ball has hit a brick, the brick may have been cracked or broken by the hit.
+     *
+     * @param brickIndex this is the index of the brick in the brick array of the level.
+     */
+    default void brickChanged(int brickIndex){}
+}
@@ -0,0 +1,147 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+/**
+ * this class is used to give every part of the game which needs randomness its own random stream, all of them come from one seed.
+ * every stream has its own seed made from the game seed, so the numbers used by one part (e.g. the sound) do not change the numbers of the others.
+ * the same seed gives the same game as long as the same inputs are given, which is used for benchmarking and replays.
+ */
+public class GameRandom {
+
+    /**
+     * this is the stream used for the ball speed and bounces.
+     */
+    public static final int BALL = 0;
+
+    /**
+     * this is the stream used to decide if a brick is hit.
+     */
+    public static final int BRICK = 1;
+
+    /**
+     * this is the stream used for the crack of the bricks.
+     */
+    public static final int CRACK = 2;
+
+    /**
+     * this is the stream used to decide when the clone balls are made.
+     */
+    public static final int CLONE = 3;
+
+    /**
+     * this is the stream used to select the sound effects.
+     */
+    public static final int SOUND = 4;
+
+    /**
+     * this is the stream id used for the level generation, every level gets its own stream from it.
+     */
+    public static final int LEVEL = 5;
+
+    private static final int STREAM_COUNT = 6;
+
+    // the constant used to spread the stream ids over the seeds (the same one used by SplittableRandom).
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * this is the name of the system property which could be used to set the seed of the game when it starts.
+     */
+    public static final String SEED_PROPERTY = "brickdestroy.seed";
+
+    private final RandomStream[] streams = new RandomStream[STREAM_COUNT];
+    private volatile long seed;
+
+    /**
+     * this constructor is used to create the random streams from a seed.
+     *
+     * @param seed this is the seed of the game.
+     */
+    public GameRandom(long seed){
+        for (int i = 0; i < STREAM_COUNT; i++) {
+            streams[i] = new RandomStream(0);
+        }
+        reseed(seed);
+    }
+
+    /**
+     * this method is used to restart all the streams from a new seed, the objects holding the streams keep using them.
+     *
+     * @param seed this is the seed of the game.
+     */
+    public void reseed(long seed){
+        this.seed = seed;
+        for (int i = 0; i < STREAM_COUNT; i++) {
+            streams[i].reseed(streamSeed(seed, i));
+        }
+    }
+
+    /**
+     * this method is used to get the stream of a part of the game.
+     *
+     * @param streamId this is the part of the game (BALL, BRICK, CRACK, CLONE, SOUND).
+     * @return this returns the stream of that part.
+     */
+    public RandomStream getStream(int streamId){
+        return streams[streamId];
+    }
+
+    /**
+     * this method is used to create a new stream for the generation of a level. the stream only depends on the seed and the level so the level is the same whichever thread creates it.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns a new stream for the level.
+     */
+    public RandomStream levelStream(int level){
+        return new RandomStream(mix(streamSeed(getSeed(), LEVEL) + level));
+    }
+
+    /**
+     * this method is used to get the seed of the game.
+     *
+     * @return this returns the seed which the streams started from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * this method is used to make the seed of a stream from the seed of the game.
+     *
+     * @param seed this is the seed of the game.
+     * @param streamId this is the id of the stream.
+     * @return this returns the seed of the stream.
+     */
+    private static long streamSeed(long seed, int streamId){
+        return mix(seed + GOLDEN_GAMMA * (streamId + 1));
+    }
+
+    /**
+     * this method is used to scramble the bits of a number so seeds that are close to each other give very different streams.
+     *
+     * @param z this is the number to be scrambled.
+     * @return this returns the scrambled number.
+     */
+    private static long mix(long z){
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -19,10 +19,13 @@
 package FX.Model;
 
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * this class is used to record the user game score for each level.
@@ -37,28 +40,20 @@ public class GameScore {
     private boolean canGetTime;
 
     //for the level saving
+    private static final String SCORES_PATH = "scores/";
+    private static final ExecutorService SCORE_IO_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "score-io");
+        thread.setDaemon(true);
+        return thread;
+    });
     private String levelFileName;
-    private String levelFilePathName;
+    private final HashMap<String, ScoreBoard> scoreBoards = new HashMap<>();
     private ArrayList<String> lastLevelCompletionRecord;
 
-    private static GameScore uniqueGameScore;
-
-    /**
-     * this method is used to create the one and only game score object based on singleton design.
-     *
-     * @return it returns the one and only game score object.
-     */
-    public static GameScore singletonGameScore(){
-        if(getUniqueGameScore() == null){
-            setUniqueGameScore(new GameScore());
-        }
-        return getUniqueGameScore();
-    }
-
     /**
      * this constructor is to create an object and set the variable that count is used to record the time score to 0.
      */
-    private GameScore(){
+    public GameScore(){
         setStartTime(0);
         setTotalTime(0);
         setPauseTime(0);
@@ -162,18 +157,61 @@ public class GameScore {
     }
 
     /**
-     * This method is used to save the user record in a .txt save file.
+     * This method is used to save the user record (time used) in the .txt save file of the current level, the record is appended to the end of the file.
      *
-     * @param sorted this is the arraylist of string to store inside the save file.
      * @throws IOException This is in case if there is a problem writing the file.
      */
-    public void updateSaveFile(ArrayList<String> sorted) throws IOException {
-        File file = new File(levelFilePathName);
-        FileWriter overwrite = new FileWriter(file,false);
-        for (int i = 0; i < sorted.size()-1; i++)
-            overwrite.write(sorted.get(i)+"\n");
-        overwrite.write(sorted.get(sorted.size()-1));
-        overwrite.close();
+    public void updateSaveFile() throws IOException {
+        getScoreBoard().add(System.getProperty("user.name"), getTimerString());
+    }
+
+    /**
+     * this method is used to get the score board of the current level, the save file is only read the first time the level is used.
+     *
+     * @return this returns the score board of the current level.
+     * @throws IOException this is an exception used when there is a problem reading the save file.
+     */
+    public ScoreBoard getScoreBoard() throws IOException {
+        return getScoreBoard(getLevelFileName());
+    }
+
+    /**
+     * this method is used to get the score board of a level, the save file is only read the first time the level is used.
+     *
+     * @param levelFileName this is the name of the save file of the level.
+     * @return this returns the score board of the level.
+     * @throws IOException this is an exception used when there is a problem reading the save file.
+     */
+    public synchronized ScoreBoard getScoreBoard(String levelFileName) throws IOException {
+        ScoreBoard scoreBoard = scoreBoards.get(levelFileName);
+        if(scoreBoard == null){
+            scoreBoard = new ScoreBoard(new File(SCORES_PATH, levelFileName));
+            scoreBoards.put(levelFileName, scoreBoard);
+        }
+        return scoreBoard;
+    }
+
+    /**
+     * this method is used to rank and save the user record (time used) of the current level on the score saving thread, so the game does not wait for the save file.
+     * the level and the time are taken when this method is called, so the timer could be restarted straight after.
+     *
+     * @return this returns a future which completes with the ranked records (including the user record) once the record is saved.
+     */
+    public CompletableFuture<ArrayList<String>> saveHighScoreAsync(){
+        String levelFileName = getLevelFileName();
+        String name = System.getProperty("user.name");
+        String time = getTimerString();
+        long totalTime = getTotalTime();
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                ScoreBoard scoreBoard = getScoreBoard(levelFileName);
+                ArrayList<String> records = scoreBoard.getRecordsWith(name, time, totalTime);
+                scoreBoard.add(name, time);
+                return records;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, SCORE_IO_EXECUTOR);
     }
 
     /**
@@ -212,24 +250,6 @@ public class GameScore {
         this.pauseTime = pauseTime;
     }
 
-    /**
-     * this method is used to check if the game score is created. if it is then it will return the game score object (singleton design).
-     *
-     * @return returns a game score object if it is present.
-     */
-    private static GameScore getUniqueGameScore() {
-        return uniqueGameScore;
-    }
-
-    /**
-     * this method is used to set a game score object into a variable for future reference. (singleton design).
-     *
-     * @param uniqueGameScore this is the game score used to set into a variable.
-     */
-    private static void setUniqueGameScore(GameScore uniqueGameScore) {
-        GameScore.uniqueGameScore = uniqueGameScore;
-    }
-
     /**
      * this method is used to set the variable if it can get the time to set to a scoring variable.
      *
@@ -255,45 +275,7 @@ public class GameScore {
      * @throws IOException this is an exception used when there is a problem with the input and output file.
      */
     public ArrayList<String> getHighScore() throws IOException {
-
-        boolean placed = false;
-
-        ArrayList<String> Completed = new ArrayList<>();
-
-        String path = "scores/";
-
-        File savedFile = new File(path);
-        if(!savedFile.exists()){
-            savedFile.mkdir();
-        }
-
-        savedFile = new File(path,getLevelFileName());
-
-        savedFile.createNewFile();
-        Scanner scan = new Scanner(savedFile);
-
-        levelFilePathName = savedFile.getPath();
-
-        while (scan.hasNextLine()){
-            String[] line = scan.nextLine().split(",",2);
-            String name = line[0];
-            String time = line[1];
-
-            String[] preTime = time.split(":",2);
-            int minute = Integer.parseInt(preTime[0]);
-            int second = Integer.parseInt(preTime[1]);
-
-            int total_millisecond = (minute * 60 + second) * 1000;
-            if ((getTotalTime() < total_millisecond) && !placed){
-                Completed.add(System.getProperty("user.name") + ',' + getTimerString());
-                placed = true;
-            }
-            Completed.add(name + ',' + time);
-        }
-        if(!placed){
-            Completed.add(System.getProperty("user.name") + ',' + getTimerString());
-        }
-        return Completed;
+        return getScoreBoard().getRecordsWith(System.getProperty("user.name"), getTimerString(), getTotalTime());
     }
 
     /**
@@ -0,0 +1,181 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+import FX.Model.Levels.LevelPack;
+import FX.Model.Profiling.FrameProfiler;
+import FX.Model.Replay.ReplayRecorder;
+
+import java.io.IOException;
+
+/**
+ * this class is used to hold everything that belongs to one play session (the game with its player, paddle and randomness, and the game score).
+ * the controllers get the session when they are created instead of using global objects, so many sessions could be used in the same program (e.g. by tests)
+ * and everything of a session could be garbage collected once the session is closed and no longer used.
+ */
+public class GameSession {
+
+    /**
+     * this is the width of the play area of the game window.
+     */
+    public static final double DEF_PLAY_AREA_WIDTH = 600;
+
+    /**
+     * this is the height of the play area of the game window.
+     */
+    public static final double DEF_PLAY_AREA_HEIGHT = 450;
+
+    private final Game game;
+    private final GameScore gameScore;
+    private ReplayRecorder replayRecorder;
+    private final FrameProfiler frameProfiler;
+    private SoundEffects soundEffects;
+    private boolean closed;
+
+    /**
+     * this constructor is used to create a session for the game window, the seed is taken from the system property if it is set, otherwise a seed based on the time is used.
+     * the levels are read from the level pack in the system property if it is set, otherwise the built in levels are used.
+     */
+    public GameSession(){
+        this(DEF_PLAY_AREA_WIDTH, DEF_PLAY_AREA_HEIGHT, new GameRandom(Long.getLong(GameRandom.SEED_PROPERTY, System.nanoTime())), LevelPack.openConfigured(DEF_PLAY_AREA_WIDTH, DEF_PLAY_AREA_HEIGHT));
+    }
+
+    /**
+     * this constructor is used to create a session with its own game and game score.
+     *
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @param gameRandom this is the randomness of the game.
+     */
+    public GameSession(double playAreaWidth, double playAreaHeight, GameRandom gameRandom){
+        this(playAreaWidth, playAreaHeight, gameRandom, null);
+    }
+
+    /**
+     * this constructor is used to create a session which plays the levels of a level pack.
+     *
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @param gameRandom this is the randomness of the game.
+     * @param levelPack this is the level pack, null to use the built in levels.
+     */
+    public GameSession(double playAreaWidth, double playAreaHeight, GameRandom gameRandom, LevelPack levelPack){
+        this.game = new Game(playAreaWidth, playAreaHeight, gameRandom, levelPack);
+        this.gameScore = new GameScore();
+        this.frameProfiler = new FrameProfiler();
+        this.closed = false;
+    }
+
+    /**
+     * this method is used to record an event into the replay of the session, nothing is done if the session is not being recorded.
+     *
+     * @param eventType this is the type of the event (EVENT_RESTART_LEVEL, EVENT_SKIP_LEVEL, etc.).
+     * @param values this is the values of the event.
+     */
+    public void recordReplayEvent(int eventType, int... values){
+        if(getReplayRecorder() != null)
+            getReplayRecorder().recordEvent(eventType, values);
+    }
+
+    /**
+     * this method is used to end the session, the replay is written and closed and the level prepared in the background is dropped.
+     * the session should not be used after it is closed.
+     */
+    public void close(){
+        if(isClosed())
+            return;
+        closed = true;
+        getGame().getLevelLoader().cancelPrefetch();
+        if(getReplayRecorder() != null){
+            try {
+                getReplayRecorder().close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            setReplayRecorder(null);
+        }
+    }
+
+    /**
+     * this method is used to check if the session is ended.
+     *
+     * @return this returns true if the session is closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * this method is used to get the game of the session.
+     *
+     * @return this returns the game object.
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * this method is used to get the game score of the session.
+     *
+     * @return this returns the game score object.
+     */
+    public GameScore getGameScore() {
+        return gameScore;
+    }
+
+    /**
+     * this method is used to get the sound effects of the session, they are created the first time they are needed so a session without sound does not need the audio clips.
+     * the same sound effects are used when the game is resumed.
+     *
+     * @return this returns the sound effects.
+     */
+    public SoundEffects getSoundEffects() {
+        if(soundEffects == null)
+            soundEffects = new SoundEffects(getGame().getGameRandom().getStream(GameRandom.SOUND));
+        return soundEffects;
+    }
+
+    /**
+     * this method is used to get the profiler of the session, which measures the time spent on each part of the frames when it is enabled.
+     *
+     * @return this returns the frame profiler.
+     */
+    public FrameProfiler getFrameProfiler() {
+        return frameProfiler;
+    }
+
+    /**
+     * this method is used to get the recorder of the session.
+     *
+     * @return this returns the replay recorder, null if the session is not being recorded.
+     */
+    public ReplayRecorder getReplayRecorder() {
+        return replayRecorder;
+    }
+
+    /**
+     * this method is used to set the recorder of the session.
+     *
+     * @param replayRecorder this is the replay recorder used to set into a variable.
+     */
+    public void setReplayRecorder(ReplayRecorder replayRecorder) {
+        this.replayRecorder = replayRecorder;
+    }
+}
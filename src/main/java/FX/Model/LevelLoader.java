@@ -0,0 +1,194 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Levels.BrickSink;
+import FX.Model.Levels.LevelPack;
+import FX.Model.Levels.LevelSpec;
+import javafx.scene.shape.Rectangle;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * this class is used to create the bricks of a level only when the level is reached, and can prepare the next level on a background thread while the current level is played.
+ * only the level being played and the level being prepared are kept in memory.
+ * the levels are either generated from their description or read from a level pack file.
+ */
+public class LevelLoader {
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "level-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LevelSpec[] levelSpecs;
+    private final LevelPack levelPack;
+    private final Rectangle drawArea;
+    private final int brickCount;
+    private final int lineCount;
+    private final double brickSizeRatio;
+    private final GameRandom gameRandom;
+
+    private boolean prefetchEnabled;
+    private int prefetchedLevel;
+    private CompletableFuture<Brick[]> prefetchedBricks;
+
+    /**
+     * this constructor is used to create the loader for the levels described, the random levels take their randomness from the game random provided.
+     *
+     * @param levelSpecs this is the description of every level in order.
+     * @param drawArea this is the area where the bricks will be drawn.
+     * @param brickCount this is the amount bricks that will be generated in a level.
+     * @param lineCount this is the total amount of rows of bricks that is allowed.
+     * @param brickSizeRatio this is the ratio for the bricks.
+     * @param gameRandom this is the randomness of the game which the levels belong to.
+     */
+    public LevelLoader(LevelSpec[] levelSpecs, Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, GameRandom gameRandom){
+        this.levelSpecs = levelSpecs;
+        this.levelPack = null;
+        this.drawArea = drawArea;
+        this.brickCount = brickCount;
+        this.lineCount = lineCount;
+        this.brickSizeRatio = brickSizeRatio;
+        this.gameRandom = gameRandom;
+        this.prefetchedLevel = -1;
+        setPrefetchEnabled(true);
+    }
+
+    /**
+     * this constructor is used to create the loader for the levels of a level pack, the bricks are read from the pack instead of being generated.
+     *
+     * @param levelPack this is the level pack which contains every level in order.
+     * @param gameRandom this is the randomness of the game which the levels belong to.
+     */
+    public LevelLoader(LevelPack levelPack, GameRandom gameRandom){
+        this.levelSpecs = null;
+        this.levelPack = levelPack;
+        this.drawArea = null;
+        this.brickCount = 0;
+        this.lineCount = 0;
+        this.brickSizeRatio = 0;
+        this.gameRandom = gameRandom;
+        this.prefetchedLevel = -1;
+        setPrefetchEnabled(true);
+    }
+
+    /**
+     * this method is used to get the bricks of a level, the level prepared in the background is used if it is the same level, otherwise the level is created straight away.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns a new brick array of the level.
+     */
+    public Brick[] getLevel(int level){
+        if(level == prefetchedLevel && prefetchedBricks != null){
+            CompletableFuture<Brick[]> bricks = prefetchedBricks;
+            prefetchedBricks = null;
+            prefetchedLevel = -1;
+            return bricks.join();
+        }
+        return build(level);
+    }
+
+    /**
+     * this method is used to start preparing a level on the background thread, nothing is done if prefetching is disabled or the level does not exist.
+     *
+     * @param level this is the index of the level, starting from 0.
+     */
+    public void prefetch(int level){
+        if(!isPrefetchEnabled() || level < 0 || level >= getLevelCount() || level == prefetchedLevel)
+            return;
+        prefetchedLevel = level;
+        prefetchedBricks = CompletableFuture.supplyAsync(() -> build(level), PREFETCH_EXECUTOR);
+    }
+
+    /**
+     * this method is used to drop the level prepared in the background, used when the randomness is seeded again so the level would be different.
+     */
+    public void cancelPrefetch(){
+        if(prefetchedBricks != null)
+            prefetchedBricks.cancel(false);
+        prefetchedBricks = null;
+        prefetchedLevel = -1;
+    }
+
+    /**
+     * this method is used to check if a level is being prepared or is already prepared in the background.
+     *
+     * @return this returns true if a prefetched level is waiting to be used.
+     */
+    public boolean hasPrefetch(){
+        return prefetchedBricks != null;
+    }
+
+    /**
+     * this method is used to create the bricks of a level. the level gets its own random stream so it is the same whichever thread creates it.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns a new brick array of the level.
+     */
+    private Brick[] build(int level){
+        if(levelPack != null)
+            return levelPack.loadBricks(level);
+        return levelSpecs[level].build(drawArea, brickCount, lineCount, brickSizeRatio, gameRandom.levelStream(level));
+    }
+
+    /**
+     * this method is used to create the bricks of a level into the sink provided (e.g. a compact wall or a level pack writer), the level is the same as the one returned by get level.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @param sink this is where the bricks are added to.
+     */
+    public void load(int level, BrickSink sink){
+        if(levelPack != null)
+            levelPack.load(level, sink);
+        else
+            levelSpecs[level].build(drawArea, brickCount, lineCount, brickSizeRatio, gameRandom.levelStream(level), sink);
+    }
+
+    /**
+     * this method is used to get the amount of levels.
+     *
+     * @return this returns the amount of levels.
+     */
+    public int getLevelCount(){
+        return levelPack != null ? levelPack.getLevelCount() : levelSpecs.length;
+    }
+
+    /**
+     * this method is used to check if the next level is prepared in the background.
+     *
+     * @return this returns true if prefetching is enabled.
+     */
+    public boolean isPrefetchEnabled() {
+        return prefetchEnabled;
+    }
+
+    /**
+     * this method is used to set if the next level is prepared in the background, a headless simulation could turn it off to keep everything on one thread.
+     *
+     * @param prefetchEnabled this is the boolean value used to set into a variable.
+     */
+    public void setPrefetchEnabled(boolean prefetchEnabled) {
+        this.prefetchEnabled = prefetchEnabled;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model.Levels;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+
+/**
+ * this class is used to create the brick objects of the level through the brick factory.
+ */
+class BrickArraySink implements IndexedBrickSink {
+
+    private final BrickFactory brickFactory = new BrickFactory();
+    private Brick[] bricks;
+    private int size;
+
+    /**
+     * this method is used to create the brick array for the level.
+     *
+     * @param brickCount this is the amount of bricks which is going to be added.
+     */
+    @Override
+    public void begin(int brickCount) {
+        bricks = new Brick[brickCount];
+        size = 0;
+    }
+
+    /**
+     * this method is used to create the brick and place it into the brick array.
+     *
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick.
+     */
+    @Override
+    public void addBrick(double x, double y, double width, double height, int type) {
+        setBrick(size++, x, y, width, height, type);
+    }
+
+    /**
+     * this method is used to create the brick and place it at an index of the brick array.
+     *
+     * @param index this is the index of the brick.
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick.
+     */
+    @Override
+    public void setBrick(int index, double x, double y, double width, double height, int type) {
+        bricks[index] = brickFactory.makeBrick(x, y, (int) width, (int) height, type);
+    }
+
+    /**
+     * this method is used to set the amount of bricks created by their index.
+     *
+     * @param brickCount this is the amount of bricks which is set.
+     */
+    @Override
+    public void finish(int brickCount) {
+        size = brickCount;
+    }
+
+    /**
+     * this method is used to get the bricks created.
+     *
+     * @return this returns the brick array of the level.
+     */
+    public Brick[] getBricks() {
+        return bricks;
+    }
+}
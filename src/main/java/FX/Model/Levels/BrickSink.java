@@ -0,0 +1,43 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model.Levels;
+
+/**
+ * this interface is used to receive the bricks generated by a level template one by one, so the level could be stored as brick objects or as primitive arrays.
+ */
+public interface BrickSink {
+
+    /**
+     * this method is called once before any brick is added.
+     *
+     * @param brickCount this is the amount of bricks which is going to be added.
+     */
+    void begin(int brickCount);
+
+    /**
+     * this method is called for every brick of the level in order.
+     *
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick (BrickFactory.CLAY, BrickFactory.STEEL, etc.).
+     */
+    void addBrick(double x, double y, double width, double height, int type);
+}
@@ -18,10 +18,6 @@
 
 package FX.Model.Levels;
 
-import FX.Model.Entities.Brick.Brick;
-import FX.Model.Entities.Brick.BrickFactory;
-import javafx.geometry.Dimension2D;
-import javafx.geometry.Point2D;
 import javafx.scene.shape.Rectangle;
 
 
@@ -38,41 +34,19 @@ public class CurlyLinesWallLevel extends FullWallRowsLevels {
      * @param brickSizeRatio this is the size ratio of the brick.
      * @param typeA this is one of the type of brick used for this level.
      * @param typeB this is one of the type of brick used for this level.
-     * @return it returns the bricks for the wall (level) in the form of a brick array.
+     * @param sink this is where the bricks are added to.
      */
-    public Brick[] level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB){
-        BrickFactory brickFactory = new BrickFactory();
-        brickCount -= brickCount % lineCount;
-
-        int centerLeft = getBrickOnLine(brickCount,lineCount) / 2 - 1;
-        int centerRight = getBrickOnLine(brickCount,lineCount) / 2 + 1;
-
-        brickCount += lineCount / 2;
-
-        Brick[] brickArray  = createBrickArray(brickCount);
-
-        Dimension2D brickSize = new Dimension2D((int) getDrawBrickLength(drawArea, lineCount, brickCount),(int) getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio));
-
-        int i;
-        for(i = 0; i < brickArray.length; i++){
-            int line = i / getBrickOnLine(brickCount,lineCount);
-            if(line == lineCount)
-                break;
-            int posX = i % getBrickOnLine(brickCount,lineCount);
-            double x = posX * getDrawBrickLength(drawArea, lineCount, brickCount);
-            x = (line % 2 == 0) ? x : (x - (getDrawBrickLength(drawArea, lineCount, brickCount) / 2));
-            double y = (line) * getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio);
-
-            boolean b = ((i % 2 == 0) || (posX > centerLeft && posX <= centerRight));
-            brickArray[i] = b ? brickFactory.makeBrick(new Point2D(x,y),brickSize,typeA) : brickFactory.makeBrick(new Point2D(x,y),brickSize,typeB);
-        }
-
-        for(double y = getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio);i < brickArray.length;i++, y += 2*getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio)){
-            double x = (getBrickOnLine(brickCount,lineCount) * getDrawBrickLength(drawArea, lineCount, brickCount)) - (getDrawBrickLength(drawArea, lineCount, brickCount) / 2);
-            brickArray[i] = brickFactory.makeBrick(new Point2D(x,y),brickSize,typeA);
-        }
-
-        return brickArray;
+    public void level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB, BrickSink sink){
+        WallLayout layout = new WallLayout(drawArea, brickCount, lineCount, brickSizeRatio, true);
+
+        int centerLeft = layout.getBricksOnLine() / 2 - 1;
+        int centerRight = layout.getBricksOnLine() / 2 + 1;
+
+        generate(layout, (index, line, column) -> {
+            if(column == layout.getBricksOnLine())
+                return typeA;
+            boolean b = ((index % 2 == 0) || (column > centerLeft && column <= centerRight));
+            return b ? typeA : typeB;
+        }, sink);
     }
 }
-
@@ -16,59 +16,81 @@
  *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 
+
 package FX.Model.Levels;
 
-import FX.Model.Entities.Brick.*;
-import javafx.scene.shape.Rectangle;
+import java.util.stream.IntStream;
 
 /**
- * this abstract class is used to call methods which are used in multiple classes.
+ * this abstract class is used to generate the walls made of full rows of bricks, the level templates only choose the layout and the type of every brick.
  */
 public abstract class FullWallRowsLevels implements WallLevelTemplates{
 
     /**
-     * this method is used to create a brick array which is used to store the bricks for the level templates
-     *
-     * @param brickCount the amount of bricks that is going to be set for the array.
-     * @return it returns a new empty brick array.
+     * this is the amount of bricks from which the rows are generated on many threads, when the sink could receive the bricks by their index.
      */
-    public Brick[] createBrickArray(int brickCount){
-        return new Brick[brickCount];
-    }
+    static final int PARALLEL_BRICK_COUNT = 4096;
 
     /**
-     * this method is used to get the length of each brick that is going to be shown on the level.
-     *
-     * @param drawArea this is the draw area for the window.
-     * @param lineCount this is the total amount of lines for the specific level.
-     * @param brickCount this is the amount of bricks for the level.
-     * @return it returns a double value for the length of the brick.
+     * this interface is used by the level templates to choose the type of every brick of the layout.
      */
-    double getDrawBrickLength(Rectangle drawArea, int lineCount, int brickCount){
-        return drawArea.getWidth() / getBrickOnLine(brickCount,lineCount);
+    interface BrickTypeRule {
+
+        /**
+         * this method is used to get the type of a brick, it could be called from many threads at the same time.
+         *
+         * @param index this is the index of the brick.
+         * @param line this is the row of the brick, the extra bricks are in the odd rows.
+         * @param column this is the column of the brick, the extra bricks are after the last column.
+         * @return this returns the type of the brick.
+         */
+        int brickType(int index, int line, int column);
     }
 
     /**
-     * this is the method used to get the height of each brick that is going to be shown on the level.
+     * this method is used to add every brick of the layout into the sink. the rows are generated in parallel for a large wall if the sink could receive the bricks by their index, otherwise the bricks are added in order.
      *
-     * @param drawArea this is the draw area which the bricks are going to be drawn.
-     * @param brickCount this is the amount of bricks that is going to be on that level.
-     * @param lineCount this is the amount of lines that are going to be on that level.
-     * @param brickSizeRatio this is the brick size ratio used to determine the height of the brick.
-     * @return it returns a double value for the height of the brick.
+     * @param layout this is the precomputed layout of the wall.
+     * @param rule this is used to choose the type of every brick.
+     * @param sink this is where the bricks are added to.
      */
-    double getDrawBrickHeight(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio){
-        return getDrawBrickLength(drawArea, lineCount, brickCount) / brickSizeRatio;
+    void generate(WallLayout layout, BrickTypeRule rule, BrickSink sink){
+        sink.begin(layout.getBrickCount());
+        if(sink instanceof IndexedBrickSink && layout.getBrickCount() >= PARALLEL_BRICK_COUNT){
+            IndexedBrickSink indexedSink = (IndexedBrickSink) sink;
+            IntStream.range(0, layout.getLineCount()).parallel().forEach(line -> generateLine(layout, rule, line, indexedSink));
+            for (int edge = 0; edge < layout.getEdgeBrickCount(); edge++) {
+                int index = layout.getRowBrickCount() + edge;
+                indexedSink.setBrick(index, layout.getEdgeX(), layout.getEdgeY(edge), layout.getDrawBrickWidth(), layout.getDrawBrickHeight(), rule.brickType(index, 2 * edge + 1, layout.getBricksOnLine()));
+            }
+            indexedSink.finish(layout.getBrickCount());
+            return;
+        }
+        int index = 0;
+        for (int line = 0; line < layout.getLineCount(); line++) {
+            double y = layout.getY(line);
+            for (int column = 0; column < layout.getBricksOnLine(); column++, index++) {
+                sink.addBrick(layout.getX(line, column), y, layout.getDrawBrickWidth(), layout.getDrawBrickHeight(), rule.brickType(index, line, column));
+            }
+        }
+        for (int edge = 0; edge < layout.getEdgeBrickCount(); edge++, index++) {
+            sink.addBrick(layout.getEdgeX(), layout.getEdgeY(edge), layout.getDrawBrickWidth(), layout.getDrawBrickHeight(), rule.brickType(index, 2 * edge + 1, layout.getBricksOnLine()));
+        }
     }
 
     /**
-     * this method is used to get the total amount of brick on a line. (for full horizontal lines)
+     * this method is used to set the bricks of one row by their index.
      *
-     * @param brickCount total amount of bricks.
-     * @param lineCount total amount of lines.
-     * @return returns an amount of bricks for a single line.
+     * @param layout this is the precomputed layout of the wall.
+     * @param rule this is used to choose the type of every brick.
+     * @param line this is the row to be generated.
+     * @param sink this is where the bricks are set.
      */
-    int getBrickOnLine(int brickCount, int lineCount){
-        return brickCount/lineCount;
+    private void generateLine(WallLayout layout, BrickTypeRule rule, int line, IndexedBrickSink sink){
+        double y = layout.getY(line);
+        int index = layout.getLineStart(line);
+        for (int column = 0; column < layout.getBricksOnLine(); column++, index++) {
+            sink.setBrick(index, layout.getX(line, column), y, layout.getDrawBrickWidth(), layout.getDrawBrickHeight(), rule.brickType(index, line, column));
+        }
     }
 }
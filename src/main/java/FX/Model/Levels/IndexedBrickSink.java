@@ -0,0 +1,45 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Levels;
+
+/**
+ * this interface is used by the sinks which could receive the bricks by their index instead of in order, so the rows of a large wall could be generated on many threads at the same time.
+ */
+public interface IndexedBrickSink extends BrickSink {
+
+    /**
+     * this method is used to set the brick at an index, it is called once for every index after begin and could be called from many threads for different indexes.
+     *
+     * @param index this is the index of the brick, from 0 to the brick count given to begin.
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick (BrickFactory.CLAY, BrickFactory.STEEL, etc.).
+     */
+    void setBrick(int index, double x, double y, double width, double height, int type);
+
+    /**
+     * this method is called once after every brick is set by its index.
+     *
+     * @param brickCount this is the amount of bricks which is set.
+     */
+    void finish(int brickCount);
+}
@@ -18,24 +18,27 @@
 
 package FX.Model.Levels;
 
+import FX.Model.RandomStream;
+
 /**
  * this class is used to get the level template for wall level generation.
  */
 public class LevelFactory {
 
     /**
-     * this method is used to return a level template object for level creation.
+     * this method is used to return a level template object for level creation, the random level template uses the random stream provided.
      *
      * @param levelType this is the string used to determine which level template to return.
+     * @param rnd this is the random stream used by the random level template.
      * @return this is the level template used to be returned.
      */
-    public WallLevelTemplates makeLevel(String levelType){
+    public WallLevelTemplates makeLevel(String levelType, RandomStream rnd){
         if (levelType.equalsIgnoreCase("CHAINLEVEL")) {
             return new ChainWallLevel();
         } else if (levelType.equalsIgnoreCase("CURLYLINESLEVEL")) {
             return new CurlyLinesWallLevel();
         } else if (levelType.equalsIgnoreCase("RANDOMLEVEL")) {
-            return new RandomWallLevel();
+            return new RandomWallLevel(rnd);
         } else if (levelType.equalsIgnoreCase("STRAIGHTLINESLEVEL")){
             return new StraightLinesLevel();
         }
@@ -0,0 +1,242 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Levels;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * this class is used to read the levels from a level pack file, which is a header followed by the bricks of every level as packed records.
+ * the file is memory mapped and only the level table and the design size are checked when the pack is opened, the records of a level are only read (and their brick types checked) when the level is loaded and they are passed straight into a brick sink.
+ * a compact wall takes the records as they are, the game still creates its brick objects from them through a brick array sink.
+ * <p>
+ * the format (big endian):
+ * <pre>
+ * int   magic ("BDLP")
+ * int   version
+ * int   level count
+ * float design width, float design height (the play area which the levels are made for)
+ * level count * (int offset of the first record, int brick count)
+ * records: float x, float y, float width, float height, byte type
+ * </pre>
+ */
+public class LevelPack {
+
+    /**
+     * this is the name of the system property which could hold the path of a level pack to be played instead of the built in levels.
+     */
+    public static final String PATH_PROPERTY = "brickdestroy.levelPack";
+
+    static final int MAGIC = 0x42444C50;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 20;
+    static final int TABLE_ENTRY_SIZE = 8;
+    static final int RECORD_SIZE = 17;
+
+    private final ByteBuffer buffer;
+    private final int levelCount;
+    private final float designWidth;
+    private final float designHeight;
+
+    /**
+     * this constructor is used to read the header of the level pack in the buffer and check every level is inside the buffer.
+     *
+     * @param buffer this is the content of the level pack, the absolute read methods are used so the position of the buffer is not changed.
+     * @throws IOException this is an exception used when the buffer is not a level pack or it is cut short.
+     */
+    public LevelPack(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new IOException("not a level pack");
+        if(buffer.getInt(4) != VERSION)
+            throw new IOException("unsupported level pack version " + buffer.getInt(4));
+        this.levelCount = buffer.getInt(8);
+        this.designWidth = buffer.getFloat(12);
+        this.designHeight = buffer.getFloat(16);
+        if(!(designWidth > 0) || !(designHeight > 0) || Float.isInfinite(designWidth) || Float.isInfinite(designHeight))
+            throw new IOException("design size " + designWidth + " x " + designHeight + " is not valid");
+        if(levelCount <= 0)
+            throw new IOException("level pack has no levels");
+        if((long) HEADER_SIZE + (long) levelCount * TABLE_ENTRY_SIZE > buffer.capacity())
+            throw new IOException("level table is outside the level pack");
+        for (int level = 0; level < levelCount; level++) {
+            long end = (long) getOffset(level) + (long) getBrickCount(level) * RECORD_SIZE;
+            if(getOffset(level) < 0 || getBrickCount(level) < 0 || end > buffer.capacity())
+                throw new IOException("level " + level + " is outside the level pack");
+        }
+    }
+
+    /**
+     * this method is used to open a level pack file by memory mapping it, the mapping stays valid after the file channel is closed.
+     *
+     * @param path this is the path of the level pack file.
+     * @return this returns the level pack.
+     * @throws IOException this is an exception used when the file could not be read or is not a level pack.
+     */
+    public static LevelPack open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new LevelPack(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * this method is used to open a level pack file which is going to be played on the play area provided.
+     *
+     * @param path this is the path of the level pack file.
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @return this returns the level pack.
+     * @throws IOException this is an exception used when the file could not be read, is not a level pack or is made for another play area.
+     */
+    public static LevelPack open(Path path, double playAreaWidth, double playAreaHeight) throws IOException {
+        LevelPack levelPack = open(path);
+        if(!levelPack.matchesPlayArea(playAreaWidth, playAreaHeight))
+            throw new IOException("level pack is made for a " + levelPack.getDesignWidth() + " x " + levelPack.getDesignHeight() + " play area, not " + playAreaWidth + " x " + playAreaHeight);
+        return levelPack;
+    }
+
+    /**
+     * this method is used to open the level pack set in the system property, which is going to be played on the play area provided.
+     *
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @return this returns the level pack, null if the property is not set or the file could not be opened (the built in levels are used instead).
+     */
+    public static LevelPack openConfigured(double playAreaWidth, double playAreaHeight){
+        String path = System.getProperty(PATH_PROPERTY);
+        if(path == null || path.isEmpty())
+            return null;
+        try {
+            return open(Paths.get(path), playAreaWidth, playAreaHeight);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * this method is used to pass the bricks of a level into the sink, the records are read straight from the mapped file.
+     * it could be called from many threads at the same time since the buffer is only read.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @param sink this is where the bricks are added to (e.g. a brick array or a compact wall).
+     * @throws IllegalStateException this is thrown when a brick of the level has a brick type which does not exist.
+     */
+    public void load(int level, BrickSink sink){
+        int brickCount = getBrickCount(level);
+        int position = getOffset(level);
+        sink.begin(brickCount);
+        for (int i = 0; i < brickCount; i++, position += RECORD_SIZE) {
+            byte type = buffer.get(position + 16);
+            if(type < BrickFactory.CLAY || type > BrickFactory.brickTypes.length)
+                throw new IllegalStateException("brick " + i + " of level " + level + " has an unknown type " + type);
+            sink.addBrick(buffer.getFloat(position), buffer.getFloat(position + 4), buffer.getFloat(position + 8), buffer.getFloat(position + 12), type);
+        }
+    }
+
+    /**
+     * this method is used to create the brick objects of a level.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns a new brick array of the level.
+     */
+    public Brick[] loadBricks(int level){
+        BrickArraySink brickArraySink = new BrickArraySink();
+        load(level, brickArraySink);
+        return brickArraySink.getBricks();
+    }
+
+    /**
+     * this method is used to get the amount of bricks of a level without reading its records.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns the amount of bricks.
+     */
+    public int getBrickCount(int level){
+        return buffer.getInt(tableEntry(level) + 4);
+    }
+
+    /**
+     * this method is used to get the position of the first record of a level.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns the offset from the start of the file.
+     */
+    private int getOffset(int level){
+        return buffer.getInt(tableEntry(level));
+    }
+
+    /**
+     * this method is used to get the position of the entry of a level in the level table.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @return this returns the offset from the start of the file.
+     */
+    private int tableEntry(int level){
+        if(level < 0 || level >= getLevelCount())
+            throw new IndexOutOfBoundsException("level " + level + " is not in the level pack");
+        return HEADER_SIZE + level * TABLE_ENTRY_SIZE;
+    }
+
+    /**
+     * this method is used to check if the levels are made for the play area provided, the bricks are not moved or scaled to another play area.
+     *
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @return this returns true if the design size is the same as the play area.
+     */
+    public boolean matchesPlayArea(double playAreaWidth, double playAreaHeight){
+        return getDesignWidth() == (float) playAreaWidth && getDesignHeight() == (float) playAreaHeight;
+    }
+
+    /**
+     * this method is used to get the amount of levels in the pack.
+     *
+     * @return this returns the amount of levels.
+     */
+    public int getLevelCount() {
+        return levelCount;
+    }
+
+    /**
+     * this method is used to get the width of the play area which the levels are made for.
+     *
+     * @return this returns the design width.
+     */
+    public float getDesignWidth() {
+        return designWidth;
+    }
+
+    /**
+     * this method is used to get the height of the play area which the levels are made for.
+     *
+     * @return this returns the design height.
+     */
+    public float getDesignHeight() {
+        return designHeight;
+    }
+}
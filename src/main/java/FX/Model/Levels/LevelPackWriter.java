@@ -0,0 +1,178 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Levels;
+
+import FX.Model.Game;
+import FX.Model.GameRandom;
+import FX.Model.GameSession;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * this class is used to write a level pack file. it is a brick sink, every call of begin starts a new level, so the level templates (or a level editor) could generate the levels straight into it.
+ * the format is described in the level pack class.
+ */
+public class LevelPackWriter implements BrickSink {
+
+    private final float designWidth;
+    private final float designHeight;
+    private final List<byte[]> levels = new ArrayList<>();
+    private final List<Integer> brickCounts = new ArrayList<>();
+    private ByteArrayOutputStream currentLevel;
+    private DataOutputStream currentRecords;
+
+    /**
+     * this constructor is used to create the writer for the levels of a play area size.
+     *
+     * @param designWidth this is the width of the play area which the levels are made for.
+     * @param designHeight this is the height of the play area which the levels are made for.
+     */
+    public LevelPackWriter(float designWidth, float designHeight){
+        this.designWidth = designWidth;
+        this.designHeight = designHeight;
+    }
+
+    /**
+     * this method is used to start a new level.
+     *
+     * @param brickCount this is the amount of bricks which is going to be added.
+     */
+    @Override
+    public void begin(int brickCount) {
+        finishLevel();
+        currentLevel = new ByteArrayOutputStream(brickCount * LevelPack.RECORD_SIZE);
+        currentRecords = new DataOutputStream(currentLevel);
+        brickCounts.add(0);
+    }
+
+    /**
+     * this method is used to add a brick record into the current level.
+     *
+     * @param x this is the x coordinate of the top left of the brick.
+     * @param y this is the y coordinate of the top left of the brick.
+     * @param width this is the width of the brick.
+     * @param height this is the height of the brick.
+     * @param type this is the type of the brick.
+     */
+    @Override
+    public void addBrick(double x, double y, double width, double height, int type) {
+        if(currentRecords == null)
+            throw new IllegalStateException("begin must be called before adding bricks");
+        try {
+            currentRecords.writeFloat((float) x);
+            currentRecords.writeFloat((float) y);
+            currentRecords.writeFloat((float) width);
+            currentRecords.writeFloat((float) height);
+            currentRecords.writeByte(type);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        int last = brickCounts.size() - 1;
+        brickCounts.set(last, brickCounts.get(last) + 1);
+    }
+
+    /**
+     * this method is used to keep the records of the current level.
+     */
+    private void finishLevel(){
+        if(currentLevel == null)
+            return;
+        levels.add(currentLevel.toByteArray());
+        currentLevel = null;
+        currentRecords = null;
+    }
+
+    /**
+     * this method is used to write the header, the level table and the records of every level added.
+     *
+     * @param out this is where the level pack is written to.
+     * @throws IOException this is an exception used when the level pack could not be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        finishLevel();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(LevelPack.MAGIC);
+        data.writeInt(LevelPack.VERSION);
+        data.writeInt(levels.size());
+        data.writeFloat(designWidth);
+        data.writeFloat(designHeight);
+        int offset = LevelPack.HEADER_SIZE + levels.size() * LevelPack.TABLE_ENTRY_SIZE;
+        for (int level = 0; level < levels.size(); level++) {
+            data.writeInt(offset);
+            data.writeInt(brickCounts.get(level));
+            offset += levels.get(level).length;
+        }
+        for (byte[] records : levels) {
+            data.write(records);
+        }
+        data.flush();
+    }
+
+    /**
+     * this method is used to write the level pack into a file.
+     *
+     * @param path this is the path of the file, it is replaced if it exists.
+     * @throws IOException this is an exception used when the file could not be written.
+     */
+    public void write(Path path) throws IOException {
+        try (OutputStream out = Files.newOutputStream(path)) {
+            write(out);
+        }
+    }
+
+    /**
+     * this method is used to get the amount of levels added.
+     *
+     * @return this returns the amount of levels.
+     */
+    public int getLevelCount(){
+        return brickCounts.size();
+    }
+
+    /**
+     * this method is used to export the built in levels into a level pack, so they could be edited or used as a starting point for new levels.
+     *
+     * @param args this is the path of the level pack file and the seed used for the random levels (optional).
+     * @throws IOException this is an exception used when the file could not be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 1){
+            System.out.println("usage: LevelPackWriter <level pack file> [seed]");
+            return;
+        }
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 0;
+        Game game = new Game(GameSession.DEF_PLAY_AREA_WIDTH, GameSession.DEF_PLAY_AREA_HEIGHT, new GameRandom(seed));
+        game.getLevelLoader().cancelPrefetch();
+        LevelPackWriter writer = new LevelPackWriter((float) GameSession.DEF_PLAY_AREA_WIDTH, (float) GameSession.DEF_PLAY_AREA_HEIGHT);
+        for (int level = 0; level < game.getLevelCount(); level++) {
+            game.getLevelLoader().load(level, writer);
+        }
+        writer.write(Paths.get(args[0]));
+        System.out.println("wrote " + writer.getLevelCount() + " levels to " + args[0]);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model.Levels;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.RandomStream;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * this class is used to describe a level (the template and the brick types) without creating the bricks, so the bricks are only created when the level is needed.
+ */
+public class LevelSpec {
+
+    private final String levelType;
+    private final int typeA;
+    private final int typeB;
+
+    /**
+     * this constructor is used to create the description of a level.
+     *
+     * @param levelType this is the name of the level template used by the level factory (CHAINLEVEL, STRAIGHTLINESLEVEL, etc.).
+     * @param typeA this is one of the type of brick used for this level.
+     * @param typeB this is one of the type of brick used for this level.
+     */
+    public LevelSpec(String levelType, int typeA, int typeB){
+        this.levelType = levelType;
+        this.typeA = typeA;
+        this.typeB = typeB;
+    }
+
+    /**
+     * this method is used to create the bricks of the level, the random choices of the level are taken from the random stream provided.
+     *
+     * @param drawArea this is the area which the bricks could be placed.
+     * @param brickCount this is the amount of bricks which will be in for the level.
+     * @param lineCount this is the number of rows of bricks for the level.
+     * @param brickSizeRatio this is the size ratio of the brick.
+     * @param rnd this is the random stream of the level.
+     * @return it returns the bricks for the level in the form of a brick array.
+     */
+    public Brick[] build(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, RandomStream rnd){
+        return new LevelFactory().makeLevel(getLevelType(), rnd).level(drawArea, brickCount, lineCount, brickSizeRatio, getTypeA(), getTypeB());
+    }
+
+    /**
+     * this method is used to create the bricks of the level into the sink provided, the random choices of the level are taken from the random stream provided.
+     *
+     * @param drawArea this is the area which the bricks could be placed.
+     * @param brickCount this is the amount of bricks which will be in for the level.
+     * @param lineCount this is the number of rows of bricks for the level.
+     * @param brickSizeRatio this is the size ratio of the brick.
+     * @param rnd this is the random stream of the level.
+     * @param sink this is where the bricks are added to.
+     */
+    public void build(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, RandomStream rnd, BrickSink sink){
+        new LevelFactory().makeLevel(getLevelType(), rnd).level(drawArea, brickCount, lineCount, brickSizeRatio, getTypeA(), getTypeB(), sink);
+    }
+
+    /**
+     * this method is used to get the name of the level template.
+     *
+     * @return this returns the level template name.
+     */
+    public String getLevelType() {
+        return levelType;
+    }
+
+    /**
+     * this method is used to get one of the brick types of the level.
+     *
+     * @return this returns the first brick type.
+     */
+    public int getTypeA() {
+        return typeA;
+    }
+
+    /**
+     * this method is used to get one of the brick types of the level.
+     *
+     * @return this returns the second brick type.
+     */
+    public int getTypeB() {
+        return typeB;
+    }
+}
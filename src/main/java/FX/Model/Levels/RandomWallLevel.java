@@ -18,20 +18,25 @@
 
 package FX.Model.Levels;
 
-import FX.Model.Entities.Brick.Brick;
 import FX.Model.Entities.Brick.BrickFactory;
-import javafx.geometry.Dimension2D;
-import javafx.geometry.Point2D;
+import FX.Model.RandomStream;
 import javafx.scene.shape.Rectangle;
 
-import java.util.Random;
-
 /**
  * this class is used to create one of the wall level.
  */
 public class RandomWallLevel extends FullWallRowsLevels {
 
-    Random rnd = new Random();
+    private final RandomStream rnd;
+
+    /**
+     * this constructor is used to create the random level template which picks the brick types from the random stream provided.
+     *
+     * @param rnd this is the random stream used to pick the brick types.
+     */
+    public RandomWallLevel(RandomStream rnd){
+        this.rnd = rnd;
+    }
 
     /**
      * this method is one of the template used for the wall (level). this creates a random brick level.
@@ -40,33 +45,20 @@ public class RandomWallLevel extends FullWallRowsLevels {
      * @param brickCount this is the amount of bricks which will be in for the level.
      * @param lineCount this is the number of rows of bricks for the level.
      * @param brickSizeRatio this is the size ratio of the brick.
-     * @return it returns the bricks for the wall (level) in the form of a brick array.
+     * @param sink this is where the bricks are added to.
      */
-    public Brick[] level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB){
-        BrickFactory brickFactory = new BrickFactory();
-        brickCount -= brickCount % lineCount;
+    public void level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB, BrickSink sink){
+        WallLayout layout = new WallLayout(drawArea, brickCount, lineCount, brickSizeRatio, true);
 
-        brickCount += lineCount / 2;
-
-        Brick[] brickArray  = createBrickArray(brickCount);
-
-        Dimension2D brickSize = new Dimension2D((int) getDrawBrickLength(drawArea, lineCount, brickCount),(int) getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio));
-
-        int i;
-        for(i = 0; i < brickArray.length; i++){
-            int line = i / getBrickOnLine(brickCount,lineCount);
-            if(line == lineCount)
-                break;
-            double x = (i % getBrickOnLine(brickCount,lineCount)) * getDrawBrickLength(drawArea, lineCount, brickCount);
-            x = (line % 2 == 0) ? x : (x - (getDrawBrickLength(drawArea, lineCount, brickCount) / 2));
-            double y = (line) * getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio);
-            brickArray[i] = brickFactory.makeBrick(new Point2D(x,y),brickSize, rnd.nextInt(4)+1);
+        // the types are drawn in order first so the level is the same for a seed however the rows are generated.
+        byte[] types = new byte[layout.getBrickCount()];
+        for (int i = 0; i < layout.getRowBrickCount(); i++) {
+            types[i] = (byte) (rnd.nextInt(4)+1);
         }
-
-        for(double y = getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio); i < brickArray.length; i++, y += 2 * getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio)){
-            double x = (getBrickOnLine(brickCount,lineCount) * getDrawBrickLength(drawArea, lineCount, brickCount)) - (getDrawBrickLength(drawArea, lineCount, brickCount) / 2);
-            brickArray[i] = brickFactory.makeBrick(new Point2D(x,y),brickSize, rnd.nextInt(BrickFactory.brickTypes.length)+1);
+        for (int i = layout.getRowBrickCount(); i < types.length; i++) {
+            types[i] = (byte) (rnd.nextInt(BrickFactory.brickTypes.length)+1);
         }
-        return brickArray;
+
+        generate(layout, (index, line, column) -> types[index], sink);
     }
 }
@@ -18,10 +18,6 @@
 
 package FX.Model.Levels;
 
-import FX.Model.Entities.Brick.Brick;
-import FX.Model.Entities.Brick.BrickFactory;
-import javafx.geometry.Dimension2D;
-import javafx.geometry.Point2D;
 import javafx.scene.shape.Rectangle;
 
 /**
@@ -37,26 +33,11 @@ public class StraightLinesLevel extends FullWallRowsLevels {
      * @param brickSizeRatio this is the size ratio of the brick.
      * @param typeA this is one of the type of brick used for this level.
      * @param typeB this is one of the type of brick used for this level.
-     * @return it returns the bricks for the wall (level) in the form of a brick array.
+     * @param sink this is where the bricks are added to.
      */
-    public Brick[] level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB){
-        BrickFactory brickFactory = new BrickFactory();
-        brickCount -= brickCount % lineCount;
+    public void level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB, BrickSink sink){
+        WallLayout layout = new WallLayout(drawArea, brickCount, lineCount, brickSizeRatio, false);
 
-        Brick[] brickArray  = createBrickArray(brickCount);
-
-        Dimension2D brickSize = new Dimension2D((int) getDrawBrickLength(drawArea, lineCount, brickCount),(int) getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio));
-
-        for(int i = 0; i < brickArray.length; i++){
-            int line = i / getBrickOnLine(brickCount,lineCount);
-            int posX = i % getBrickOnLine(brickCount,lineCount);
-            double x = posX * getDrawBrickLength(drawArea, lineCount, brickCount);
-            double y = (line) * getDrawBrickHeight(drawArea, brickCount, lineCount, brickSizeRatio);
-
-            brickArray[i] = (i % 2 == 0) ? brickFactory.makeBrick(new Point2D(x,y),brickSize,typeA) : brickFactory.makeBrick(new Point2D(x,y),brickSize,typeB);
-        }
-
-        return brickArray;
+        generate(layout, (index, line, column) -> (index % 2 == 0) ? typeA : typeB, sink);
     }
 }
-
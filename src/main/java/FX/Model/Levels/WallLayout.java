@@ -0,0 +1,211 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Levels;
+
+import javafx.scene.shape.Rectangle;
+
+/**
+ * this class is used to compute the geometry of a wall of full rows once (the brick size, the x coordinate of every column and the y coordinate of every row) so the level templates only look the values up for every brick.
+ * a staggered wall has every odd row moved left by half a brick, with an extra brick placed at the right end of those rows.
+ */
+public final class WallLayout {
+
+    private final int lineCount;
+    private final int bricksOnLine;
+    private final int rowBrickCount;
+    private final int edgeBrickCount;
+    private final double brickLength;
+    private final double brickHeight;
+    private final int drawBrickWidth;
+    private final int drawBrickHeight;
+    private final double[] columnX;
+    private final double[] oddColumnX;
+    private final double[] lineY;
+    private final double edgeX;
+    private final double[] edgeY;
+
+    /**
+     * this constructor is used to compute the layout of the wall.
+     *
+     * @param drawArea this is the area which the bricks could be placed.
+     * @param brickCount this is the amount of bricks wanted, it is rounded down to full rows.
+     * @param lineCount this is the number of rows of bricks.
+     * @param brickSizeRatio this is the ratio of the length to the height of a brick.
+     * @param staggered this is true if the odd rows are moved by half a brick.
+     */
+    public WallLayout(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, boolean staggered){
+        this.lineCount = lineCount;
+        this.bricksOnLine = brickCount / lineCount;
+        this.rowBrickCount = bricksOnLine * lineCount;
+        this.edgeBrickCount = staggered ? lineCount / 2 : 0;
+        this.brickLength = drawArea.getWidth() / bricksOnLine;
+        this.brickHeight = brickLength / brickSizeRatio;
+        this.drawBrickWidth = (int) brickLength;
+        this.drawBrickHeight = (int) brickHeight;
+
+        columnX = new double[bricksOnLine];
+        oddColumnX = new double[bricksOnLine];
+        for (int column = 0; column < bricksOnLine; column++) {
+            columnX[column] = column * brickLength;
+            oddColumnX[column] = staggered ? columnX[column] - (brickLength / 2) : columnX[column];
+        }
+        lineY = new double[lineCount];
+        for (int line = 0; line < lineCount; line++) {
+            lineY[line] = line * brickHeight;
+        }
+        edgeX = (bricksOnLine * brickLength) - (brickLength / 2);
+        edgeY = new double[edgeBrickCount];
+        double y = brickHeight;
+        for (int edge = 0; edge < edgeBrickCount; edge++, y += 2 * brickHeight) {
+            edgeY[edge] = y;
+        }
+    }
+
+    /**
+     * this method is used to get the x coordinate of a brick in a row.
+     *
+     * @param line this is the row of the brick.
+     * @param column this is the column of the brick in the row.
+     * @return this returns the x coordinate of the top left of the brick.
+     */
+    public double getX(int line, int column){
+        return (line % 2 == 0) ? columnX[column] : oddColumnX[column];
+    }
+
+    /**
+     * this method is used to get the y coordinate of a row.
+     *
+     * @param line this is the row.
+     * @return this returns the y coordinate of the top of the row.
+     */
+    public double getY(int line){
+        return lineY[line];
+    }
+
+    /**
+     * this method is used to get the x coordinate of the extra bricks at the right end of the odd rows.
+     *
+     * @return this returns the x coordinate of the top left of the extra bricks.
+     */
+    public double getEdgeX(){
+        return edgeX;
+    }
+
+    /**
+     * this method is used to get the y coordinate of an extra brick at the right end of the odd rows.
+     *
+     * @param edge this is the index of the extra brick, starting from 0.
+     * @return this returns the y coordinate of the top of the extra brick.
+     */
+    public double getEdgeY(int edge){
+        return edgeY[edge];
+    }
+
+    /**
+     * this method is used to get the index of the first brick of a row, the bricks are ordered row by row and the extra bricks come last.
+     *
+     * @param line this is the row.
+     * @return this returns the index of the first brick of the row.
+     */
+    public int getLineStart(int line){
+        return line * bricksOnLine;
+    }
+
+    /**
+     * this method is used to get the total amount of bricks of the wall, including the extra bricks.
+     *
+     * @return this returns the amount of bricks.
+     */
+    public int getBrickCount() {
+        return rowBrickCount + edgeBrickCount;
+    }
+
+    /**
+     * this method is used to get the amount of bricks in the full rows.
+     *
+     * @return this returns the amount of bricks without the extra bricks.
+     */
+    public int getRowBrickCount() {
+        return rowBrickCount;
+    }
+
+    /**
+     * this method is used to get the amount of extra bricks at the right end of the odd rows.
+     *
+     * @return this returns the amount of extra bricks.
+     */
+    public int getEdgeBrickCount() {
+        return edgeBrickCount;
+    }
+
+    /**
+     * this method is used to get the number of rows.
+     *
+     * @return this returns the number of rows.
+     */
+    public int getLineCount() {
+        return lineCount;
+    }
+
+    /**
+     * this method is used to get the amount of bricks on a full row.
+     *
+     * @return this returns the amount of bricks on a row.
+     */
+    public int getBricksOnLine() {
+        return bricksOnLine;
+    }
+
+    /**
+     * this method is used to get the length of a brick used for its position.
+     *
+     * @return this returns the length of a brick.
+     */
+    public double getBrickLength() {
+        return brickLength;
+    }
+
+    /**
+     * this method is used to get the height of a brick used for its position.
+     *
+     * @return this returns the height of a brick.
+     */
+    public double getBrickHeight() {
+        return brickHeight;
+    }
+
+    /**
+     * this method is used to get the width of a brick which is created.
+     *
+     * @return this returns the width of a brick in whole pixels.
+     */
+    public int getDrawBrickWidth() {
+        return drawBrickWidth;
+    }
+
+    /**
+     * this method is used to get the height of a brick which is created.
+     *
+     * @return this returns the height of a brick in whole pixels.
+     */
+    public int getDrawBrickHeight() {
+        return drawBrickHeight;
+    }
+}
@@ -27,7 +27,7 @@ import javafx.scene.shape.Rectangle;
 public interface WallLevelTemplates {
 
     /**
-     * this abstraction method is used to be implemented in the child classes. for the wall levels.
+     * this method is used to create the bricks of the wall (level) as brick objects.
      *
      * @param drawArea this is the area which the bricks could be placed
      * @param brickCount this is the amount of bricks which will be in for the level.
@@ -37,6 +37,23 @@ public interface WallLevelTemplates {
      * @param typeB this is one of the type of brick used for this level.
      * @return it returns the bricks for the wall (level) in the form of a brick array.
      */
-    Brick[] level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB);
+    default Brick[] level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB){
+        BrickArraySink brickArraySink = new BrickArraySink();
+        level(drawArea, brickCount, lineCount, brickSizeRatio, typeA, typeB, brickArraySink);
+        return brickArraySink.getBricks();
+    }
+
+    /**
+     * this abstraction method is used to be implemented in the child classes. it generates the bricks of the wall (level) one by one into the sink provided.
+     *
+     * @param drawArea this is the area which the bricks could be placed
+     * @param brickCount this is the amount of bricks which will be in for the level.
+     * @param lineCount this is the number of rows of bricks for the level.
+     * @param brickSizeRatio this is the size ratio of the brick.
+     * @param typeA this is one of the type of brick used for this level.
+     * @param typeB this is one of the type of brick used for this level.
+     * @param sink this is where the bricks are added to.
+     */
+    void level(Rectangle drawArea, int brickCount, int lineCount, double brickSizeRatio, int typeA, int typeB, BrickSink sink);
 
 }
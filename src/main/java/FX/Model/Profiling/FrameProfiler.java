@@ -0,0 +1,310 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Profiling;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * this class is used to measure how long each part of a frame takes, so the slow frames could be traced to the part of the game causing them.
+ * the time of every phase is added up during a frame and recorded into the histogram of the phase when the frame ends.
+ * phases could be nested, the time of a nested phase is not counted in the phase around it, so the phases of a frame add up to the time of the frame.
+ * phases nested deeper than the maximum depth are not measured on their own, their time is counted in the phase around them.
+ * nothing is measured while the profiler is disabled.
+ */
+public class FrameProfiler {
+
+    /**
+     * this is the phase for handling the keyboard input.
+     */
+    public static final int INPUT = 0;
+
+    /**
+     * this is the phase for the bot moving the paddle.
+     */
+    public static final int AUTOMATION = 1;
+
+    /**
+     * this is the phase for moving the balls and colliding them with the paddle, each other and the sides of the game.
+     */
+    public static final int BALL_ACTIONS = 2;
+
+    /**
+     * this is the phase for finding and colliding with the bricks in the path of the balls.
+     */
+    public static final int BRICK_COLLISION = 3;
+
+    /**
+     * this is the phase for starting the sound effects asked for during the frame.
+     */
+    public static final int SOUND = 4;
+
+    /**
+     * this is the phase for the rest of the game logic (paddle movement, lost balls, level completion).
+     */
+    public static final int UPDATE = 5;
+
+    /**
+     * this is the phase for drawing the bricks.
+     */
+    public static final int DRAW_BRICKS = 6;
+
+    /**
+     * this is the phase for drawing the main ball and the clone balls.
+     */
+    public static final int DRAW_BALLS = 7;
+
+    /**
+     * this is the phase for drawing the paddle.
+     */
+    public static final int DRAW_PADDLE = 8;
+
+    /**
+     * this is the phase for clearing the canvas and drawing the text and the profiler overlay.
+     */
+    public static final int DRAW_OTHER = 9;
+
+    /**
+     * this is the amount of phases.
+     */
+    public static final int PHASE_COUNT = 10;
+
+    private static final String[] PHASE_NAMES = {"input", "automation", "ballActions", "ballBrickCollision", "sound", "update", "drawBricks", "drawBalls", "drawPaddle", "drawOther"};
+
+    private static final int MAX_DEPTH = 8;
+
+    private final LatencyHistogram[] phaseHistograms = new LatencyHistogram[PHASE_COUNT];
+    private final LatencyHistogram frameHistogram = new LatencyHistogram();
+    private final LatencyHistogram intervalHistogram = new LatencyHistogram();
+    private final long[] frameTimes = new long[PHASE_COUNT];
+    private final LongSupplier clock;
+
+    private final long[] startTimes = new long[MAX_DEPTH];
+    private final long[] startMeasured = new long[MAX_DEPTH];
+    private int depth;
+    private int skippedDepth;
+    private long measured;
+
+    private long frameStart;
+    private long lastFrameStart;
+    private boolean enabled;
+
+    /**
+     * this constructor is used to create a disabled profiler which measures with System.nanoTime.
+     */
+    public FrameProfiler(){
+        this(System::nanoTime);
+    }
+
+    /**
+     * this constructor is used to create a disabled profiler which measures with the clock provided (e.g. a fake clock for testing).
+     *
+     * @param clock this is the clock giving the current time in nanoseconds.
+     */
+    public FrameProfiler(LongSupplier clock){
+        this.clock = clock;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        setEnabled(false);
+    }
+
+    /**
+     * this method is used to start measuring a frame.
+     */
+    public void beginFrame(){
+        if(!isEnabled())
+            return;
+        long now = clock.getAsLong();
+        if(lastFrameStart != 0)
+            intervalHistogram.record(now - lastFrameStart);
+        lastFrameStart = now;
+        frameStart = now;
+        depth = 0;
+        skippedDepth = 0;
+        measured = 0;
+    }
+
+    /**
+     * this method is used to forget when the last frame started, so the time the frames were stopped (e.g. while the game is paused) is not recorded as a frame interval.
+     */
+    public void resetFrameInterval(){
+        lastFrameStart = 0;
+    }
+
+    /**
+     * this method is used to end the frame, the time of every phase in the frame is recorded into its histogram.
+     */
+    public void endFrame(){
+        if(!isEnabled() || frameStart == 0)
+            return;
+        frameHistogram.record(clock.getAsLong() - frameStart);
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i].record(frameTimes[i]);
+            frameTimes[i] = 0;
+        }
+        frameStart = 0;
+    }
+
+    /**
+     * this method is used to start measuring a phase, it must be followed by a call to end.
+     */
+    public void begin(){
+        if(!isEnabled())
+            return;
+        if(depth == MAX_DEPTH){
+            skippedDepth++;
+            return;
+        }
+        startTimes[depth] = clock.getAsLong();
+        startMeasured[depth] = measured;
+        depth++;
+    }
+
+    /**
+     * this method is used to stop measuring the last phase started, the time of the phases nested inside it is taken away.
+     *
+     * @param phase this is the phase which the time is added to (INPUT, AUTOMATION, etc.).
+     */
+    public void end(int phase){
+        if(!isEnabled() || depth == 0)
+            return;
+        if(skippedDepth > 0){
+            skippedDepth--;
+            return;
+        }
+        depth--;
+        long exclusive = clock.getAsLong() - startTimes[depth] - (measured - startMeasured[depth]);
+        frameTimes[phase] += exclusive;
+        measured += exclusive;
+    }
+
+    /**
+     * this method is used to remove everything measured.
+     */
+    public void reset(){
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseHistograms[i].reset();
+            frameTimes[i] = 0;
+        }
+        frameHistogram.reset();
+        intervalHistogram.reset();
+        depth = 0;
+        skippedDepth = 0;
+        measured = 0;
+        frameStart = 0;
+        lastFrameStart = 0;
+    }
+
+    /**
+     * this method is used to write the summary of every phase and the whole frame as CSV, all the times are in microseconds.
+     *
+     * @param writer this is where the CSV is written to.
+     * @throws IOException this is thrown when the writer fails.
+     */
+    public void writeCsv(Writer writer) throws IOException {
+        writer.write("phase,frames,mean_us,p50_us,p90_us,p99_us,p99_9_us,max_us\n");
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            writeCsvRow(writer, PHASE_NAMES[i], phaseHistograms[i]);
+        }
+        writeCsvRow(writer, "frame", frameHistogram);
+        writeCsvRow(writer, "frameInterval", intervalHistogram);
+    }
+
+    /**
+     * this method is used to write the summary of a histogram as a CSV row.
+     *
+     * @param writer this is where the row is written to.
+     * @param name this is the name of the row.
+     * @param histogram this is the histogram summarised.
+     * @throws IOException this is thrown when the writer fails.
+     */
+    private void writeCsvRow(Writer writer, String name, LatencyHistogram histogram) throws IOException {
+        writer.write(String.format(Locale.ROOT, "%s,%d,%.1f,%.1f,%.1f,%.1f,%.1f,%.1f%n", name, histogram.getTotalCount(), histogram.getMean() / 1000,
+                histogram.getValueAtPercentile(50) / 1000.0, histogram.getValueAtPercentile(90) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0, histogram.getMax() / 1000.0));
+    }
+
+    /**
+     * this method is used to get the name of a phase.
+     *
+     * @param phase this is the phase (INPUT, AUTOMATION, etc.).
+     * @return this returns the name of the phase.
+     */
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    /**
+     * this method is used to get the histogram of the time spent in a phase per frame.
+     *
+     * @param phase this is the phase (INPUT, AUTOMATION, etc.).
+     * @return this returns the histogram of the phase.
+     */
+    public LatencyHistogram getPhaseHistogram(int phase) {
+        return phaseHistograms[phase];
+    }
+
+    /**
+     * this method is used to get the histogram of the time spent on whole frames.
+     *
+     * @return this returns the histogram of the frames.
+     */
+    public LatencyHistogram getFrameHistogram() {
+        return frameHistogram;
+    }
+
+    /**
+     * this method is used to get the histogram of the time between the start of frames, which shows the dropped frames.
+     *
+     * @return this returns the histogram of the frame intervals.
+     */
+    public LatencyHistogram getIntervalHistogram() {
+        return intervalHistogram;
+    }
+
+    /**
+     * this method is used to check if the profiler is measuring.
+     *
+     * @return this returns true if it is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * this method is used to start or stop measuring, the unfinished frame is dropped.
+     *
+     * @param enabled this is the boolean value used to set into a variable.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        depth = 0;
+        skippedDepth = 0;
+        measured = 0;
+        frameStart = 0;
+        lastFrameStart = 0;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            frameTimes[i] = 0;
+        }
+    }
+}
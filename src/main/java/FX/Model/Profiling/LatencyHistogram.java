@@ -0,0 +1,161 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Profiling;
+
+import java.util.Arrays;
+
+/**
+ * this class is used to count how many times each duration happened, with a fixed relative precision instead of a fixed bucket size (the same idea as an HDR histogram).
+ * values below 32 are counted exactly, bigger values are counted in 16 buckets for every doubling, so a bucket is at most 6.25% of its values wide and a few hundred buckets cover from nanoseconds to minutes.
+ * recording a value does not create any object.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    private static final int MAX_VALUE_BITS = 40;
+
+    /**
+     * this is the biggest value which could be recorded, bigger values are recorded as this value.
+     */
+    public static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+    private final long[] counts = new long[bucketIndex(MAX_VALUE) + 1];
+    private long totalCount;
+    private long sum;
+    private long min;
+    private long max;
+
+    /**
+     * this constructor is used to create an empty histogram.
+     */
+    public LatencyHistogram(){
+        reset();
+    }
+
+    /**
+     * this method is used to add a value into the histogram, negative values are recorded as 0.
+     *
+     * @param value this is the value recorded, e.g. a duration in nanoseconds.
+     */
+    public void record(long value){
+        long clamped = Math.min(Math.max(value, 0), MAX_VALUE);
+        counts[bucketIndex(clamped)]++;
+        totalCount++;
+        sum += clamped;
+        min = Math.min(min, clamped);
+        max = Math.max(max, clamped);
+    }
+
+    /**
+     * this method is used to remove all the values recorded.
+     */
+    public void reset(){
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * this method is used to get the value which the percentage of the recorded values are at or below, the value is the top of the bucket it falls into.
+     *
+     * @param percentile this is the percentage from 0 to 100.
+     * @return this returns the value at the percentile, 0 if nothing is recorded.
+     */
+    public long getValueAtPercentile(double percentile){
+        if(totalCount == 0)
+            return 0;
+        long target = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentile, 0), 100) / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if(seen >= target)
+                return Math.min(highestValueOf(i), max);
+        }
+        return max;
+    }
+
+    /**
+     * this method is used to get the average of the recorded values.
+     *
+     * @return this returns the mean value, 0 if nothing is recorded.
+     */
+    public double getMean(){
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * this method is used to get the amount of values recorded.
+     *
+     * @return this returns the count of the values.
+     */
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * this method is used to get the smallest value recorded.
+     *
+     * @return this returns the minimum value, 0 if nothing is recorded.
+     */
+    public long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * this method is used to get the biggest value recorded.
+     *
+     * @return this returns the maximum value.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * this method is used to find the bucket which the value is counted in.
+     *
+     * @param value this is the value, from 0 to MAX_VALUE.
+     * @return this returns the index of the bucket.
+     */
+    private static int bucketIndex(long value){
+        if(value < SUB_BUCKET_COUNT)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+        int top = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (top - HALF_SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * this method is used to get the biggest value which is counted in the bucket.
+     *
+     * @param index this is the index of the bucket.
+     * @return this returns the top value of the bucket.
+     */
+    private static long highestValueOf(int index){
+        if(index < SUB_BUCKET_COUNT)
+            return index;
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long top = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+import java.util.SplittableRandom;
+
+/**
+ * this class is used to get random numbers for one part of the game. the numbers come from a seed so the same seed always gives the same numbers.
+ * the random number generator is only replaced when the stream is seeded again, so getting a number does not create any object.
+ * a stream is not thread safe, it should only be used by one thread.
+ */
+public class RandomStream {
+
+    private SplittableRandom random;
+
+    /**
+     * this constructor is used to create a stream starting from the seed.
+     *
+     * @param seed this is the seed of the stream.
+     */
+    public RandomStream(long seed){
+        reseed(seed);
+    }
+
+    /**
+     * this method is used to restart the stream from a seed, the objects holding the stream keep using it.
+     *
+     * @param seed this is the seed of the stream.
+     */
+    public void reseed(long seed){
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * this method is used to get a random integer from 0 (inclusive) to the bound (exclusive).
+     *
+     * @param bound this is the upper bound, it has to be positive.
+     * @return this returns the random integer.
+     */
+    public int nextInt(int bound){
+        return random.nextInt(bound);
+    }
+
+    /**
+     * this method is used to get a random double from 0 (inclusive) to 1 (exclusive).
+     *
+     * @return this returns the random double.
+     */
+    public double nextDouble(){
+        return random.nextDouble();
+    }
+
+    /**
+     * this method is used to get a random boolean.
+     *
+     * @return this returns true or false with the same probability.
+     */
+    public boolean nextBoolean(){
+        return random.nextBoolean();
+    }
+
+    /**
+     * this method is used to get a random long.
+     *
+     * @return this returns the random long.
+     */
+    public long nextLong(){
+        return random.nextLong();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Replay;
+
+import FX.Model.Game;
+
+/**
+ * this class contains the layout of the replay file and the steps used to put the game into the starting state of a replay.
+ * a replay file starts with a header (magic number, version, seed, level, play area size) followed by records.
+ * a tick record is a byte with the input of the tick (LEFT, RIGHT, BOT) followed by the amount of ticks in a row with that input.
+ * an event record is a byte with EVENT_FLAG and the event type followed by its values, used for the changes made outside the game loop (pause menu, debug console).
+ * the numbers after the first byte of a record are written as variable length integers so short runs take a single byte.
+ */
+public final class ReplayFormat {
+
+    /**
+     * this is the number at the start of every replay file ("BDRP").
+     */
+    public static final int MAGIC = 0x42445250;
+
+    /**
+     * this is the version of the replay file layout.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * this is the input bit for the paddle moving left.
+     */
+    public static final int LEFT = 1;
+
+    /**
+     * this is the input bit for the paddle moving right.
+     */
+    public static final int RIGHT = 2;
+
+    /**
+     * this is the input bit for the bot controlling the paddle, the direction bits are not used when it is set.
+     */
+    public static final int BOT = 4;
+
+    /**
+     * this is the bit which marks the record as an event instead of ticks.
+     */
+    public static final int EVENT_FLAG = 0x80;
+
+    /**
+     * this is the event for the level being restarted (from the pause menu).
+     */
+    public static final int EVENT_RESTART_LEVEL = 1;
+
+    /**
+     * this is the event for a level being selected (from the debug console), the value is the index of the level.
+     */
+    public static final int EVENT_SKIP_LEVEL = 2;
+
+    /**
+     * this is the event for the balls (tries) being refilled (from the debug console).
+     */
+    public static final int EVENT_RESET_BALLS = 3;
+
+    /**
+     * this is the event for the ball speed being changed (from the debug console), the values are the x-axis and y-axis speed.
+     */
+    public static final int EVENT_BALL_SPEED = 4;
+
+    private ReplayFormat(){
+    }
+
+    /**
+     * this method is used to put the game into the starting state of a replay, the randomness is seeded and the level is created again from the start.
+     * the recorder and the player both use this method so the recorded game and the replayed game start the same way.
+     *
+     * @param game this is the game object.
+     * @param seed this is the seed of the randomness of the game.
+     * @param level this is the index of the level, starting from 0.
+     */
+    public static void prepareGame(Game game, long seed, int level){
+        game.getGameRandom().reseed(seed);
+        game.getLevelLoader().cancelPrefetch();
+        game.setBallLost(false);
+        game.getPlayer().setCurrentLevel(level);
+        game.nextLevel();
+        game.restartStatus();
+        game.getPaddle().setMoveAmount(0);
+    }
+
+    /**
+     * this method is used to get the input bits of the current tick from the game.
+     *
+     * @param game this is the game object.
+     * @return this returns the input bits (LEFT, RIGHT, BOT).
+     */
+    public static int inputOf(Game game){
+        if(game.getPlayer().isBotMode())
+            return BOT;
+        int moveAmount = game.getPaddle().getMoveAmount();
+        if(moveAmount < 0)
+            return LEFT;
+        if(moveAmount > 0)
+            return RIGHT;
+        return 0;
+    }
+
+    /**
+     * this method is used to set the input bits of a tick into the game.
+     *
+     * @param game this is the game object.
+     * @param input this is the input bits (LEFT, RIGHT, BOT).
+     */
+    public static void applyInput(Game game, int input){
+        game.getPlayer().setBotMode((input & BOT) != 0);
+        if((input & LEFT) != 0)
+            game.getPaddle().setMoveAmount(-game.getPaddle().getDEF_MOVE_AMOUNT());
+        else if((input & RIGHT) != 0)
+            game.getPaddle().setMoveAmount(game.getPaddle().getDEF_MOVE_AMOUNT());
+        else
+            game.getPaddle().setMoveAmount(0);
+    }
+}
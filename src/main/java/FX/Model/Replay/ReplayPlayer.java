@@ -0,0 +1,264 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Replay;
+
+import FX.Model.Game;
+import FX.Model.GameEngine;
+import FX.Model.GameRandom;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * this class is used to play a replay file on a game engine without drawing anything, so a session could be run many times faster than real time.
+ * the ball lost and level complete are resolved the same way as the game controller does it, so the game follows the recorded session tick by tick.
+ */
+public class ReplayPlayer {
+
+    private final DataInputStream input;
+    private final long seed;
+    private final int level;
+    private final double playAreaWidth;
+    private final double playAreaHeight;
+
+    private int runInput;
+    private long runRemaining;
+    private long tickCount;
+    private boolean finished;
+
+    /**
+     * this constructor is used to read the header of a replay.
+     *
+     * @param input this is where the replay is read from.
+     * @throws IOException this is an exception used when the input is not a replay file or could not be read.
+     */
+    public ReplayPlayer(InputStream input) throws IOException {
+        this.input = new DataInputStream(input);
+        if(this.input.readInt() != ReplayFormat.MAGIC)
+            throw new IOException("not a replay file");
+        int version = this.input.readUnsignedByte();
+        if(version != ReplayFormat.VERSION)
+            throw new IOException("unsupported replay version " + version);
+        seed = this.input.readLong();
+        level = this.input.readInt();
+        playAreaWidth = this.input.readDouble();
+        playAreaHeight = this.input.readDouble();
+    }
+
+    /**
+     * this method is used to put the game of the engine into the starting state of the replay.
+     *
+     * @param engine this is the engine which the replay is played on.
+     */
+    public void prepare(GameEngine engine){
+        ReplayFormat.prepareGame(engine.getGame(), getSeed(), getLevel());
+        engine.setLevelComplete(false);
+        engine.resetClock();
+    }
+
+    /**
+     * this method is used to play the replay until it ends or the amount of ticks is reached, the engine has to be prepared before the first call.
+     * it could be called again to continue from where it stopped, which is used to stop at the tick where a problem happened.
+     *
+     * @param engine this is the engine which the replay is played on.
+     * @param maxTicks this is the maximum amount of ticks to be played in this call.
+     * @return this returns the amount of ticks played in this call.
+     * @throws IOException this is an exception used when there is a problem reading the replay.
+     */
+    public long play(GameEngine engine, long maxTicks) throws IOException {
+        Game game = engine.getGame();
+        long played = 0;
+        while(played < maxTicks && nextRecord(game)){
+            ReplayFormat.applyInput(game, runInput);
+            engine.tick();
+            if(game.isBallLost())
+                engine.resolveBallLost();
+            if(engine.isLevelComplete())
+                engine.advanceLevel();
+            runRemaining--;
+            played++;
+            tickCount++;
+        }
+        return played;
+    }
+
+    /**
+     * this method is used to read records until there is a tick to be played, the events read are applied to the game.
+     *
+     * @param game this is the game object.
+     * @return this returns false if the replay has ended.
+     * @throws IOException this is an exception used when there is a problem reading the replay.
+     */
+    private boolean nextRecord(Game game) throws IOException {
+        while(runRemaining == 0){
+            if(finished)
+                return false;
+            int record = input.read();
+            if(record < 0){
+                finished = true;
+                return false;
+            }
+            if((record & ReplayFormat.EVENT_FLAG) != 0){
+                applyEvent(game, record & ~ReplayFormat.EVENT_FLAG);
+            }else{
+                runInput = record;
+                runRemaining = readVarLong();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * this method is used to make the same change to the game as the event recorded.
+     *
+     * @param game this is the game object.
+     * @param eventType this is the type of the event.
+     * @throws IOException this is an exception used when the event is not known or could not be read.
+     */
+    private void applyEvent(Game game, int eventType) throws IOException {
+        switch (eventType) {
+            case ReplayFormat.EVENT_RESTART_LEVEL -> {
+                game.restartStatus();
+                game.wallReset();
+            }
+            case ReplayFormat.EVENT_SKIP_LEVEL -> {
+                int selectedLevel = readVarInt();
+                game.restartStatus();
+                game.wallReset();
+                game.getPlayer().setCurrentLevel(selectedLevel);
+                game.nextLevel();
+            }
+            case ReplayFormat.EVENT_RESET_BALLS -> game.getPlayer().resetBallCount();
+            case ReplayFormat.EVENT_BALL_SPEED -> {
+                game.getMainBall().setSpeedX(readVarInt());
+                game.getMainBall().setSpeedY(readVarInt());
+            }
+            default -> throw new IOException("unknown replay event " + eventType);
+        }
+    }
+
+    /**
+     * this method is used to read a signed number written by the recorder.
+     *
+     * @return this returns the number.
+     * @throws IOException this is an exception used when there is a problem reading the replay.
+     */
+    private int readVarInt() throws IOException {
+        int value = (int) readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * this method is used to read a positive number stored using 7 bits per byte.
+     *
+     * @return this returns the number.
+     * @throws IOException this is an exception used when the replay ends in the middle of the number.
+     */
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = input.read();
+            if(b < 0)
+                throw new EOFException("replay ends in the middle of a record");
+            value |= (long) (b & 0x7F) << shift;
+            if((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("malformed replay record");
+    }
+
+    /**
+     * this method is used to get the seed of the replay.
+     *
+     * @return this returns the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * this method is used to get the level the replay starts on.
+     *
+     * @return this returns the index of the level, starting from 0.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * this method is used to get the width of the play area of the recorded game.
+     *
+     * @return this returns the width.
+     */
+    public double getPlayAreaWidth() {
+        return playAreaWidth;
+    }
+
+    /**
+     * this method is used to get the height of the play area of the recorded game.
+     *
+     * @return this returns the height.
+     */
+    public double getPlayAreaHeight() {
+        return playAreaHeight;
+    }
+
+    /**
+     * this method is used to get the total amount of ticks played.
+     *
+     * @return this returns the amount of ticks played.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * this method is used to play a replay file as fast as possible and print where the game ended, a tick could be given to stop the replay there.
+     * usage: ReplayPlayer (replay file) [ticks]
+     *
+     * @param args this is the replay file and the optional amount of ticks.
+     * @throws IOException this is an exception used when the replay file could not be read.
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 1){
+            System.err.println("usage: ReplayPlayer <replay file> [ticks]");
+            System.exit(2);
+        }
+        long maxTicks = args.length > 1 ? Long.parseLong(args[1]) : Long.MAX_VALUE;
+        try(InputStream file = new BufferedInputStream(new FileInputStream(args[0]))){
+            ReplayPlayer replayPlayer = new ReplayPlayer(file);
+            GameEngine engine = new GameEngine(new Game(replayPlayer.getPlayAreaWidth(), replayPlayer.getPlayAreaHeight(), new GameRandom(replayPlayer.getSeed()), replayPlayer.getLevel()));
+            replayPlayer.prepare(engine);
+
+            long start = System.nanoTime();
+            long ticks = replayPlayer.play(engine, maxTicks);
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            double gameSeconds = ticks * GameEngine.TICK_DURATION;
+
+            Game game = engine.getGame();
+            System.out.printf("seed %d, %d ticks (%.1f s of game time) replayed in %.3f s (%.0fx real time)%n", replayPlayer.getSeed(), ticks, gameSeconds, seconds, seconds > 0 ? gameSeconds / seconds : 0);
+            System.out.printf("level %d, bricks %d, balls %d, ball at (%.1f, %.1f), paddle at %.1f%n", game.getPlayer().getCurrentLevel(), game.getBrickCount(), game.getPlayer().getBallCount(), game.getMainBall().getX(), game.getMainBall().getY(), game.getPaddle().getX());
+        }
+    }
+}
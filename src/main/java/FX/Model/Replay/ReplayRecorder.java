@@ -0,0 +1,183 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model.Replay;
+
+import FX.Model.Game;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * this class is used to record the seed, the starting level and the input of every tick of a game session into a replay file.
+ * the ticks with the same input in a row are stored as a single record, and the records are kept in memory until the recording is flushed so the game loop does not wait for the disk.
+ */
+public class ReplayRecorder {
+
+    /**
+     * this is the name of the system property used to turn on the recording, its value is the folder where the replay files are saved.
+     */
+    public static final String REPLAY_DIRECTORY_PROPERTY = "brickdestroy.replay";
+
+    private final OutputStream output;
+    private final ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+    private int runInput;
+    private long runLength;
+    private long tickCount;
+
+    /**
+     * this constructor is used to start a recording and write the header of the replay file.
+     *
+     * @param output this is where the replay is written to.
+     * @param seed this is the seed of the randomness of the game.
+     * @param level this is the index of the level the recording starts on.
+     * @param playAreaWidth this is the width of the play area of the game.
+     * @param playAreaHeight this is the height of the play area of the game.
+     * @throws IOException this is an exception used when there is a problem writing the header.
+     */
+    public ReplayRecorder(OutputStream output, long seed, int level, double playAreaWidth, double playAreaHeight) throws IOException {
+        this.output = output;
+        DataOutputStream header = new DataOutputStream(output);
+        header.writeInt(ReplayFormat.MAGIC);
+        header.writeByte(ReplayFormat.VERSION);
+        header.writeLong(seed);
+        header.writeInt(level);
+        header.writeDouble(playAreaWidth);
+        header.writeDouble(playAreaHeight);
+        header.flush();
+    }
+
+    /**
+     * this method is used to start recording the game into a new replay file in the folder provided, the current level of the game is started again with a new seed.
+     *
+     * @param game this is the game object to be recorded.
+     * @param directory this is the folder where the replay file is saved.
+     * @return this returns the recorder of the game.
+     * @throws IOException this is an exception used when the replay file could not be created.
+     */
+    public static ReplayRecorder startRecording(Game game, File directory) throws IOException {
+        directory.mkdirs();
+        File file = new File(directory, "replay-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date()) + ".bdr");
+        long seed = System.nanoTime();
+        int level = Math.max(game.getPlayer().getCurrentLevel() - 1, 0);
+        ReplayFormat.prepareGame(game, seed, level);
+        return new ReplayRecorder(new FileOutputStream(file), seed, level, game.getPlayArea().getWidth(), game.getPlayArea().getHeight());
+    }
+
+    /**
+     * this method is used to record the input of the game for the tick which is about to be done.
+     *
+     * @param game this is the game object.
+     */
+    public void recordTick(Game game){
+        int input = ReplayFormat.inputOf(game);
+        if(input != runInput && runLength > 0)
+            endRun();
+        runInput = input;
+        runLength++;
+        tickCount++;
+    }
+
+    /**
+     * this method is used to record a change made to the game outside the game loop.
+     *
+     * @param eventType this is the type of the event (EVENT_RESTART_LEVEL, EVENT_SKIP_LEVEL, etc.).
+     * @param values this is the values of the event.
+     */
+    public void recordEvent(int eventType, int... values){
+        if(runLength > 0)
+            endRun();
+        pending.write(ReplayFormat.EVENT_FLAG | eventType);
+        for (int value : values) {
+            writeVarLong(pending, ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+        }
+    }
+
+    /**
+     * this method is used to write the records kept in memory into the replay file.
+     *
+     * @throws IOException this is an exception used when there is a problem writing the replay file.
+     */
+    public void flush() throws IOException {
+        if(runLength > 0)
+            endRun();
+        pending.writeTo(output);
+        pending.reset();
+        output.flush();
+    }
+
+    /**
+     * this method is used to write the remaining records and close the replay file.
+     *
+     * @throws IOException this is an exception used when there is a problem writing the replay file.
+     */
+    public void close() throws IOException {
+        flush();
+        output.close();
+    }
+
+    /**
+     * this method is used to get the total amount of ticks recorded.
+     *
+     * @return this returns the amount of ticks recorded.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * this method is used to store the ticks with the same input in a row as a record.
+     */
+    private void endRun(){
+        pending.write(runInput);
+        writeVarLong(pending, runLength);
+        runLength = 0;
+    }
+
+    /**
+     * this method is used to write a positive number using 7 bits per byte, the highest bit of a byte is set when more bytes follow.
+     *
+     * @param output this is where the number is written to.
+     * @param value this is the number to be written.
+     */
+    private static void writeVarLong(ByteArrayOutputStream output, long value){
+        while((value & ~0x7FL) != 0){
+            output.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    /**
+     * this method is used to get the folder where the replay files are saved.
+     *
+     * @return this returns the folder, null if the recording is not turned on.
+     */
+    public static File getReplayDirectory(){
+        String directory = System.getProperty(REPLAY_DIRECTORY_PROPERTY);
+        return directory == null || directory.isBlank() ? null : new File(directory);
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.TreeSet;
+
+/**
+ * this class is used to keep the records of a level save file sorted in memory, so a new record is added without reading the file again.
+ * a new record is appended to the end of the save file, and the file is rewritten in the sorted order once enough records are appended.
+ * the save file keeps the same (name,minutes:seconds) line format with every record ended by a new line, so a record cut off by a crash during an append is found and dropped. the methods are synchronized so the score board could be used from the score saving thread.
+ */
+public class ScoreBoard {
+
+    private static final int MIN_COMPACTION_APPENDS = 64;
+
+    private final File file;
+    private final TreeSet<ScoreEntry> entries;
+    private long nextSequence;
+    private int appendedSinceCompaction;
+
+    /**
+     * this constructor is used to read the save file into the sorted records, an empty score board is created if the save file does not exist.
+     *
+     * @param file this is the save file of the level.
+     * @throws IOException this is thrown when there is a problem reading the save file.
+     */
+    public ScoreBoard(File file) throws IOException {
+        this.file = file;
+        this.entries = new TreeSet<>();
+        load();
+    }
+
+    /**
+     * this method is used to read every record of the save file.
+     *
+     * @throws IOException this is thrown when there is a problem reading the save file.
+     */
+    private void load() throws IOException {
+        if(!file.exists())
+            return;
+        boolean endsWithNewLine = true;
+        try(RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")){
+            if(randomAccessFile.length() > 0){
+                randomAccessFile.seek(randomAccessFile.length() - 1);
+                endsWithNewLine = randomAccessFile.read() == '\n';
+            }
+        }
+        boolean sorted = true;
+        ScoreEntry previous = null;
+        try(BufferedReader reader = new BufferedReader(new FileReader(file))){
+            String line = reader.readLine();
+            while(line != null){
+                String next = reader.readLine();
+                // every record is ended by a new line, so a last record without one was cut off by a crash during an append (e.g. bob,1:23 saved as bob,1:2) and is dropped.
+                if(next == null && !endsWithNewLine)
+                    break;
+                ScoreEntry entry = parse(line);
+                line = next;
+                if(entry == null)
+                    continue;
+                if(previous != null && previous.getSeconds() > entry.getSeconds())
+                    sorted = false;
+                previous = entry;
+                entries.add(entry);
+            }
+        }
+        if(!sorted)
+            appendedSinceCompaction = entries.size();
+        if(!endsWithNewLine)
+            compact();
+    }
+
+    /**
+     * this method is used to read a record of the save file.
+     *
+     * @param line this is the line of the record in the form of (name,minutes:seconds).
+     * @return this returns the record, null if the line is blank or not a record.
+     */
+    private ScoreEntry parse(String line){
+        if(line.isBlank())
+            return null;
+        String[] record = line.split(",",2);
+        try{
+            return new ScoreEntry(record[0], record[1], nextSequence++);
+        }catch(NumberFormatException | ArrayIndexOutOfBoundsException e){
+            return null;
+        }
+    }
+
+    /**
+     * this method is used to get the records in the ranked order with a record which is not saved placed into its rank, used to show the score of the player before it is saved.
+     *
+     * @param name this is the name of the player.
+     * @param time this is the time used in the form of (minutes:seconds).
+     * @param totalTime this is the time used in milliseconds, a record is ranked lower than the new record if it took longer.
+     * @return this returns the records in the form of (name,minutes:seconds), the first being the fastest.
+     */
+    public synchronized ArrayList<String> getRecordsWith(String name, String time, long totalTime){
+        ArrayList<String> records = new ArrayList<>(entries.size() + 1);
+        boolean placed = false;
+        for(ScoreEntry entry : entries){
+            if(!placed && totalTime < entry.getSeconds() * 1000L){
+                records.add(name + ',' + time);
+                placed = true;
+            }
+            records.add(entry.toRecord());
+        }
+        if(!placed)
+            records.add(name + ',' + time);
+        return records;
+    }
+
+    /**
+     * this method is used to get the records in the ranked order.
+     *
+     * @return this returns the records in the form of (name,minutes:seconds), the first being the fastest.
+     */
+    public synchronized ArrayList<String> getRecords(){
+        ArrayList<String> records = new ArrayList<>(entries.size());
+        for(ScoreEntry entry : entries)
+            records.add(entry.toRecord());
+        return records;
+    }
+
+    /**
+     * this method is used to add a record into the sorted records and append it to the end of the save file.
+     *
+     * @param name this is the name of the player.
+     * @param time this is the time used in the form of (minutes:seconds).
+     * @throws IOException this is thrown when there is a problem writing the save file.
+     */
+    public synchronized void add(String name, String time) throws IOException {
+        ScoreEntry entry = new ScoreEntry(name, time, nextSequence++);
+        entries.add(entry);
+        if(entries.last() != entry)
+            appendedSinceCompaction++;
+
+        File parent = file.getParentFile();
+        if(parent != null && !parent.exists())
+            parent.mkdirs();
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(file, true))){
+            writer.write(entry.toRecord());
+            writer.write('\n');
+        }
+
+        if(needsCompaction())
+            compact();
+    }
+
+    /**
+     * this method is used to check if enough records are appended out of order for the save file to be rewritten.
+     *
+     * @return this returns true if the save file should be rewritten in the sorted order.
+     */
+    public synchronized boolean needsCompaction(){
+        return appendedSinceCompaction >= Math.max(MIN_COMPACTION_APPENDS, entries.size() / 4);
+    }
+
+    /**
+     * this method is used to rewrite the save file with the records in the sorted order.
+     * the records are written to a temporary file which then replaces the save file, so the save file is never left half written.
+     *
+     * @throws IOException this is thrown when there is a problem writing the save file.
+     */
+    public synchronized void compact() throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        parent.mkdirs();
+        Path tempFile = Files.createTempFile(parent.toPath(), file.getName(), ".tmp");
+        try{
+            try(BufferedWriter writer = Files.newBufferedWriter(tempFile)){
+                for(ScoreEntry entry : entries){
+                    writer.write(entry.toRecord());
+                    writer.write('\n');
+                }
+            }
+            try{
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }catch(AtomicMoveNotSupportedException e){
+                Files.move(tempFile, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }finally{
+            Files.deleteIfExists(tempFile);
+        }
+        appendedSinceCompaction = 0;
+    }
+
+    /**
+     * this method is used to get the amount of records.
+     *
+     * @return this returns the amount of records.
+     */
+    public synchronized int size(){
+        return entries.size();
+    }
+
+    /**
+     * this method is used to get the save file of the score board.
+     *
+     * @return this returns the save file.
+     */
+    public File getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.Model;
+
+/**
+ * this class is used to store a single record of the score board, which is the name of the player and the time used to complete the level.
+ */
+public class ScoreEntry implements Comparable<ScoreEntry> {
+
+    private final String name;
+    private final String time;
+    private final int seconds;
+    private final long sequence;
+
+    /**
+     * this constructor is used to create a record of the score board.
+     *
+     * @param name this is the name of the player.
+     * @param time this is the time used in the form of (minutes:seconds).
+     * @param sequence this is the order the record is added in, used to keep the older record first when the times are the same.
+     */
+    public ScoreEntry(String name, String time, long sequence){
+        this.name = name;
+        this.time = time;
+        this.seconds = parseSeconds(time);
+        this.sequence = sequence;
+    }
+
+    /**
+     * this method is used to change the time in the form of (minutes:seconds) into seconds.
+     *
+     * @param time this is the time in the form of (minutes:seconds).
+     * @return this returns the total seconds.
+     */
+    public static int parseSeconds(String time){
+        String[] preTime = time.split(":",2);
+        return Integer.parseInt(preTime[0].trim()) * 60 + Integer.parseInt(preTime[1].trim());
+    }
+
+    /**
+     * this method is used to compare the records by time, and by the order they are added if the times are the same.
+     *
+     * @param other this is the record compared with.
+     * @return this returns a negative number if this record is ranked higher, positive if lower.
+     */
+    @Override
+    public int compareTo(ScoreEntry other){
+        if(seconds != other.seconds)
+            return Integer.compare(seconds, other.seconds);
+        return Long.compare(sequence, other.sequence);
+    }
+
+    /**
+     * this method is used to get the record in the form stored in the save file.
+     *
+     * @return this returns the record in the form of (name,minutes:seconds).
+     */
+    public String toRecord(){
+        return name + ',' + time;
+    }
+
+    /**
+     * this method is used to get the name of the player.
+     *
+     * @return this returns the name of the player.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * this method is used to get the time used in the form of (minutes:seconds).
+     *
+     * @return this returns the time used.
+     */
+    public String getTime() {
+        return time;
+    }
+
+    /**
+     * this method is used to get the time used in seconds.
+     *
+     * @return this returns the time used in seconds.
+     */
+    public int getSeconds() {
+        return seconds;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+import FX.Model.Bot.BotController;
+import FX.Model.Bot.FollowBallBot;
+
+/**
+ * this class is used to store the outcome of a single headless game played by the bot on one level.
+ */
+public class SimulationResult {
+
+    private final int level;
+    private final long seed;
+    private final long ticks;
+    private final boolean completed;
+    private final int ballsLost;
+    private final int gameOvers;
+    private final int bricksRemaining;
+
+    /**
+     * this constructor is used to create the outcome of a game.
+     *
+     * @param level this is the index of the level played, starting from 0.
+     * @param seed this is the seed of the game.
+     * @param ticks this is the amount of ticks played.
+     * @param completed this is true if all the bricks were destroyed.
+     * @param ballsLost this is the amount of balls lost.
+     * @param gameOvers this is the amount of times all the balls were lost.
+     * @param bricksRemaining this is the amount of bricks left when the game ended.
+     */
+    public SimulationResult(int level, long seed, long ticks, boolean completed, int ballsLost, int gameOvers, int bricksRemaining){
+        this.level = level;
+        this.seed = seed;
+        this.ticks = ticks;
+        this.completed = completed;
+        this.ballsLost = ballsLost;
+        this.gameOvers = gameOvers;
+        this.bricksRemaining = bricksRemaining;
+    }
+
+    /**
+     * this method is used to play a level with the bot on a new game until the level is completed or the amount of ticks is reached.
+     * the game has its own player, paddle and randomness so many levels could be played at the same time on different threads.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @param seed this is the seed of the game.
+     * @param maxTicks this is the maximum amount of ticks to be played.
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @return this returns the outcome of the game.
+     */
+    public static SimulationResult simulate(int level, long seed, long maxTicks, double playAreaWidth, double playAreaHeight){
+        return simulate(level, seed, maxTicks, playAreaWidth, playAreaHeight, new FollowBallBot());
+    }
+
+    /**
+     * this method is used to play a level with the bot provided on a new game until the level is completed or the amount of ticks is reached.
+     *
+     * @param level this is the index of the level, starting from 0.
+     * @param seed this is the seed of the game.
+     * @param maxTicks this is the maximum amount of ticks to be played.
+     * @param playAreaWidth this is the width of the play area.
+     * @param playAreaHeight this is the height of the play area.
+     * @param botController this is the bot which plays the game, it should only be used by this game.
+     * @return this returns the outcome of the game.
+     */
+    public static SimulationResult simulate(int level, long seed, long maxTicks, double playAreaWidth, double playAreaHeight, BotController botController){
+        Game game = new Game(playAreaWidth, playAreaHeight, new GameRandom(seed), level);
+        game.setBotController(botController);
+        game.restartStatus();
+        game.getPlayer().setBotMode(true);
+
+        GameEngine engine = new GameEngine(game);
+        int ballsLost = 0;
+        int gameOvers = 0;
+        long ticks = 0;
+        while(ticks < maxTicks && !engine.isLevelComplete()){
+            engine.tick();
+            ticks++;
+            if(game.isBallLost()){
+                ballsLost++;
+                if(engine.resolveBallLost())
+                    gameOvers++;
+            }
+        }
+        return new SimulationResult(level, seed, ticks, engine.isLevelComplete(), ballsLost, gameOvers, game.getBrickCount());
+    }
+
+    /**
+     * this method is used to get the index of the level played.
+     *
+     * @return this returns the level index, starting from 0.
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * this method is used to get the seed of the game.
+     *
+     * @return this returns the seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * this method is used to get the amount of ticks played.
+     *
+     * @return this returns the amount of ticks.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * this method is used to get the time played in seconds of game time.
+     *
+     * @return this returns the seconds played.
+     */
+    public double getSeconds() {
+        return getTicks() * GameEngine.TICK_DURATION;
+    }
+
+    /**
+     * this method is used to check if all the bricks were destroyed.
+     *
+     * @return this returns true if the level was completed.
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /**
+     * this method is used to get the amount of balls lost.
+     *
+     * @return this returns the amount of balls lost.
+     */
+    public int getBallsLost() {
+        return ballsLost;
+    }
+
+    /**
+     * this method is used to get the amount of times all the balls were lost.
+     *
+     * @return this returns the amount of game overs.
+     */
+    public int getGameOvers() {
+        return gameOvers;
+    }
+
+    /**
+     * this method is used to get the amount of bricks left when the game ended.
+     *
+     * @return this returns the amount of bricks left.
+     */
+    public int getBricksRemaining() {
+        return bricksRemaining;
+    }
+}
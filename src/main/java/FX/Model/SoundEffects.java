@@ -1,14 +1,53 @@
 package FX.Model;
 
 import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
 import javafx.scene.media.AudioClip;
 
-import java.util.Random;
+import java.util.function.Supplier;
 
 /**
  * this class contains all the sound effects for the gameplay.
  */
 public class SoundEffects {
+
+    /**
+     * this is the id of the sound of the ball hitting a clay brick.
+     */
+    public static final int CLAY_HIT = 0;
+
+    /**
+     * this is the id of the sound of the ball hitting a steel or reinforced steel brick.
+     */
+    public static final int STEEL_HIT = 1;
+
+    /**
+     * this is the id of the sound of the ball hitting a cement brick which is not cracked.
+     */
+    public static final int CEMENT_HIT = 2;
+
+    /**
+     * this is the id of the sound of the ball hitting a cracked cement brick.
+     */
+    public static final int CEMENT_BREAK = 3;
+
+    /**
+     * this is the id of the sound of the ball hitting the side of the game window.
+     */
+    public static final int WINDOW_HIT = 4;
+
+    /**
+     * this is the id of the sound of the ball hitting the paddle.
+     */
+    public static final int PADDLE_HIT = 5;
+
+    private static final int SOUND_COUNT = 6;
+    private static final int MAX_VOICES = 4;
+    private static final long VOICE_DURATION = 250_000_000L;
+    private static final long HIT_COOLDOWN = 50_000_000L;
+
+    private final SoundMixer soundMixer;
+
     private AudioClip clayBrickCollisionSound1;
     private AudioClip clayBrickCollisionSound2;
     private AudioClip gameWindowCollisionSound1;
@@ -23,24 +62,20 @@ public class SoundEffects {
     private AudioClip victorySound;
     private AudioClip lostSound;
 
-    private Random rnd = new Random();
+    private RandomStream rnd;
 
     /**
-     * this constructor is used to set all the sound effects into a variable for future reference.
+     * this constructor is used to set all the sound effects into a variable for future reference, the sound effects are picked with the random stream provided.
+     * the audio clips are taken from the shared audio assets when they are first played, so creating the sound effects does not wait for the clips to load.
+     *
+     * @param rnd this is the random stream used to pick between the sound effects.
      */
-    public SoundEffects(){
-        setClayBrickCollisionSound1(new AudioClip(getClass().getResource("/SoundEffects/ClayImpactSound1.mp3").toExternalForm()));
-        setClayBrickCollisionSound2(new AudioClip(getClass().getResource("/SoundEffects/ClayImpactSound2.mp3").toExternalForm()));
-        setSteelBrickCollisionSound1(new AudioClip(getClass().getResource("/SoundEffects/SteelImpactSound1.mp3").toExternalForm()));
-        setSteelBrickCollisionSound2(new AudioClip(getClass().getResource("/SoundEffects/SteelImpactSound2.mp3").toExternalForm()));
-        setVictorySound(new AudioClip(getClass().getResource("/SoundEffects/VictorySound.wav").toExternalForm()));
-        setLostSound(new AudioClip(getClass().getResource("/SoundEffects/DefeatSound.wav").toExternalForm()));
-        setGameWindowCollisionSound1(new AudioClip(getClass().getResource("/SoundEffects/WindowImpact1.mp3").toExternalForm()));
-        setGameWindowCollisionSound2(new AudioClip(getClass().getResource("/SoundEffects/WindowImpact2.mp3").toExternalForm()));
-        setBallPlayerCollisionSound1(new AudioClip(getClass().getResource("/SoundEffects/BallPlayerImpactSound1.mp3").toExternalForm()));
-        setBallPlayerCollisionSound2(new AudioClip(getClass().getResource("/SoundEffects/BallPlayerImpactSound2.mp3").toExternalForm()));
-        setCementBrickCollisionSound(new AudioClip(getClass().getResource("/SoundEffects/CementImpactSound.wav").toExternalForm()));
-        setCementBrickDestroyedSound(new AudioClip(getClass().getResource("/SoundEffects/CementBreak.mp3").toExternalForm()));
+    public SoundEffects(RandomStream rnd){
+        this.rnd = rnd;
+        soundMixer = new SoundMixer(SOUND_COUNT, MAX_VOICES, VOICE_DURATION, this::playNow);
+        for (int sound = 0; sound < SOUND_COUNT; sound++) {
+            soundMixer.setCooldown(sound, HIT_COOLDOWN);
+        }
     }
 
     /**
@@ -157,6 +192,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the clay brick is being collided.
      */
     public AudioClip getClayBrickCollisionSound1() {
+        if(clayBrickCollisionSound1 == null)
+            setClayBrickCollisionSound1(AudioAssets.getClip("/SoundEffects/ClayImpactSound1.mp3"));
         return clayBrickCollisionSound1;
     }
 
@@ -166,6 +203,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the clay brick is collided.
      */
     public AudioClip getClayBrickCollisionSound2() {
+        if(clayBrickCollisionSound2 == null)
+            setClayBrickCollisionSound2(AudioAssets.getClip("/SoundEffects/ClayImpactSound2.mp3"));
         return clayBrickCollisionSound2;
     }
 
@@ -175,6 +214,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the game window have been impacted.
      */
     public AudioClip getGameWindowCollisionSound1() {
+        if(gameWindowCollisionSound1 == null)
+            setGameWindowCollisionSound1(AudioAssets.getClip("/SoundEffects/WindowImpact1.mp3"));
         return gameWindowCollisionSound1;
     }
 
@@ -184,6 +225,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the game window have been impacted.
      */
     public AudioClip getGameWindowCollisionSound2() {
+        if(gameWindowCollisionSound2 == null)
+            setGameWindowCollisionSound2(AudioAssets.getClip("/SoundEffects/WindowImpact2.mp3"));
         return gameWindowCollisionSound2;
     }
 
@@ -193,6 +236,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the player paddle have been impacted.
      */
     public AudioClip getBallPlayerCollisionSound1() {
+        if(ballPlayerCollisionSound1 == null)
+            setBallPlayerCollisionSound1(AudioAssets.getClip("/SoundEffects/BallPlayerImpactSound1.mp3"));
         return ballPlayerCollisionSound1;
     }
 
@@ -202,6 +247,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the player paddle have been impacted.
      */
     public AudioClip getBallPlayerCollisionSound2() {
+        if(ballPlayerCollisionSound2 == null)
+            setBallPlayerCollisionSound2(AudioAssets.getClip("/SoundEffects/BallPlayerImpactSound2.mp3"));
         return ballPlayerCollisionSound2;
     }
 
@@ -211,6 +258,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the steel brick or the reinforced steel brick is collided.
      */
     public AudioClip getSteelBrickCollisionSound1() {
+        if(steelBrickCollisionSound1 == null)
+            setSteelBrickCollisionSound1(AudioAssets.getClip("/SoundEffects/SteelImpactSound1.mp3"));
         return steelBrickCollisionSound1;
     }
 
@@ -220,6 +269,8 @@ public class SoundEffects {
      * @return this is the audio clip being returned to be used to indicate that the steel brick or the reinforced steel brick is collided.
      */
     public AudioClip getSteelBrickCollisionSound2() {
+        if(steelBrickCollisionSound2 == null)
+            setSteelBrickCollisionSound2(AudioAssets.getClip("/SoundEffects/SteelImpactSound2.mp3"));
         return steelBrickCollisionSound2;
     }
 
@@ -229,6 +280,8 @@ public class SoundEffects {
      * @return this is the audio clip used when the cement brick is being collided.
      */
     public AudioClip getCementBrickCollisionSound() {
+        if(cementBrickCollisionSound == null)
+            setCementBrickCollisionSound(AudioAssets.getClip("/SoundEffects/CementImpactSound.wav"));
         return cementBrickCollisionSound;
     }
 
@@ -238,6 +291,8 @@ public class SoundEffects {
      * @return this is the audio clip used when the cement brick is broken.
      */
     public AudioClip getCementBrickDestroyedSound() {
+        if(cementBrickDestroyedSound == null)
+            setCementBrickDestroyedSound(AudioAssets.getClip("/SoundEffects/CementBreak.mp3"));
         return cementBrickDestroyedSound;
     }
 
@@ -247,6 +302,8 @@ public class SoundEffects {
      * @return this is the audio clip used when the user successfully beat a level.
      */
     public AudioClip getVictorySound() {
+        if(victorySound == null)
+            setVictorySound(AudioAssets.getClip("/SoundEffects/VictorySound.wav"));
         return victorySound;
     }
 
@@ -256,42 +313,76 @@ public class SoundEffects {
      * @return this is the audio clip used when the user failed to beat a level.
      */
     public AudioClip getLostSound() {
+        if(lostSound == null)
+            setLostSound(AudioAssets.getClip("/SoundEffects/DefeatSound.wav"));
         return lostSound;
     }
 
     /**
-     * this method is used to play a random sound effect when there is a collision from the ball.
+     * this method is used to play a random sound effect when there is a collision from the ball, only the audio clip selected is loaded.
      *  @param soundEffect1 this is one of the sound effect which might be selected based on a random probability
      * @param soundEffect2 this is the other sound effect which might be selected based on a random probability
      */
-    public void ballCollisionRandomSound(AudioClip soundEffect1, AudioClip soundEffect2) {
+    public void ballCollisionRandomSound(Supplier<AudioClip> soundEffect1, Supplier<AudioClip> soundEffect2) {
         if (rnd.nextBoolean())
-            soundEffect1.play();
+            soundEffect1.get().play();
         else
-            soundEffect2.play();
+            soundEffect2.get().play();
     }
 
     /**
-     * this method is used to play a sound effect when the brick collides with a brick.
+     * this method is used to ask for the sound effect of the ball hitting a brick, the sound is started on the next flush.
      *
      * @param b this is the brick which is being collided by the ball.
      */
     public void playBrickSoundEffect(Brick b){
-        switch (b.getBrickName()){
-            case "Clay Brick":
-                ballCollisionRandomSound(getClayBrickCollisionSound1(), getClayBrickCollisionSound2());
-                break;
-            case "Reinforced Steel Brick":
-            case "Steel Brick":
-                ballCollisionRandomSound(getSteelBrickCollisionSound1(), getSteelBrickCollisionSound2());
-                break;
-            case "Cement Brick":
-                if(b.getCurrentStrength() == b.getMaxStrength())
-                    getCementBrickCollisionSound().play();
-                else
-                    getCementBrickDestroyedSound().play();
-                break;
-            default:
+        switch (b.getBrickType()) {
+            case BrickFactory.CLAY -> play(CLAY_HIT);
+            case BrickFactory.STEEL, BrickFactory.REINFORCED_STEEL -> play(STEEL_HIT);
+            case BrickFactory.CEMENT -> play(b.getCurrentStrength() == b.getMaxStrength() ? CEMENT_HIT : CEMENT_BREAK);
+        }
+    }
+
+    /**
+     * this method is used to ask for a sound effect, the sound is started on the next flush unless it is coalesced, cooling down or all the voices are playing.
+     *
+     * @param sound this is the id of the sound (CLAY_HIT, STEEL_HIT, etc.).
+     */
+    public void play(int sound){
+        soundMixer.request(sound);
+    }
+
+    /**
+     * this method is used to start the sound effects asked for since the last flush, it is called once a frame.
+     *
+     * @param now this is the current time in nanoseconds.
+     */
+    public void flush(long now){
+        soundMixer.flush(now);
+    }
+
+    /**
+     * this method is used to start the audio clip of a sound, picking randomly between the audio clips of the sound when there are two.
+     *
+     * @param sound this is the id of the sound.
+     */
+    private void playNow(int sound){
+        switch (sound) {
+            case CLAY_HIT -> ballCollisionRandomSound(this::getClayBrickCollisionSound1, this::getClayBrickCollisionSound2);
+            case STEEL_HIT -> ballCollisionRandomSound(this::getSteelBrickCollisionSound1, this::getSteelBrickCollisionSound2);
+            case CEMENT_HIT -> getCementBrickCollisionSound().play();
+            case CEMENT_BREAK -> getCementBrickDestroyedSound().play();
+            case WINDOW_HIT -> ballCollisionRandomSound(this::getGameWindowCollisionSound1, this::getGameWindowCollisionSound2);
+            case PADDLE_HIT -> ballCollisionRandomSound(this::getBallPlayerCollisionSound1, this::getBallPlayerCollisionSound2);
         }
     }
+
+    /**
+     * this method is used to get the mixer which limits the sound effects started.
+     *
+     * @return this returns the sound mixer.
+     */
+    public SoundMixer getSoundMixer() {
+        return soundMixer;
+    }
 }
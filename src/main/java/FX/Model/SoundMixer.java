@@ -0,0 +1,156 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+import java.util.Arrays;
+
+/**
+ * this class is used to limit how many sound effects are started, so many collisions in the same moment do not flood the audio thread.
+ * the sounds requested during a frame are only started when the frame is flushed, the same sound requested many times in a frame is started once,
+ * a sound is not started again before its cooldown is over, and no sound is started when all the voices are still playing.
+ */
+public class SoundMixer {
+
+    /**
+     * this interface is used to start a sound effect once the mixer lets it through.
+     */
+    public interface Output {
+
+        /**
+         * this method is used to start the sound effect.
+         *
+         * @param sound this is the id of the sound effect.
+         */
+        void play(int sound);
+    }
+
+    private final Output output;
+    private final long[] cooldowns;
+    private final long[] lastPlayed;
+    private final boolean[] pending;
+    private final int[] pendingSounds;
+    private int pendingCount;
+
+    private final long[] voiceEnds;
+    private final long voiceDuration;
+
+    private long playedCount;
+    private long droppedCount;
+
+    /**
+     * this constructor is used to create a mixer for the sound ids from 0 to the sound count.
+     *
+     * @param soundCount this is the amount of different sounds.
+     * @param voiceCount this is the most sounds which could be playing at the same time.
+     * @param voiceDuration this is how long a started sound is counted as playing, in nanoseconds.
+     * @param output this is used to start the sounds let through.
+     */
+    public SoundMixer(int soundCount, int voiceCount, long voiceDuration, Output output){
+        this.output = output;
+        this.cooldowns = new long[soundCount];
+        this.lastPlayed = new long[soundCount];
+        this.pending = new boolean[soundCount];
+        this.pendingSounds = new int[soundCount];
+        this.voiceEnds = new long[voiceCount];
+        this.voiceDuration = voiceDuration;
+        Arrays.fill(lastPlayed, Long.MIN_VALUE);
+        Arrays.fill(voiceEnds, Long.MIN_VALUE);
+    }
+
+    /**
+     * this method is used to ask for a sound to be started on the next flush, asking again before the flush does nothing.
+     *
+     * @param sound this is the id of the sound.
+     */
+    public void request(int sound){
+        if(pending[sound])
+            return;
+        pending[sound] = true;
+        pendingSounds[pendingCount++] = sound;
+    }
+
+    /**
+     * this method is used to start the sounds requested since the last flush, in the order they were requested, the sounds which are cooling down or find no free voice are dropped.
+     *
+     * @param now this is the current time in nanoseconds.
+     */
+    public void flush(long now){
+        for (int i = 0; i < pendingCount; i++) {
+            int sound = pendingSounds[i];
+            pending[sound] = false;
+            if(lastPlayed[sound] != Long.MIN_VALUE && now - lastPlayed[sound] < cooldowns[sound]){
+                droppedCount++;
+                continue;
+            }
+            int voice = freeVoice(now);
+            if(voice < 0){
+                droppedCount++;
+                continue;
+            }
+            voiceEnds[voice] = now + voiceDuration;
+            lastPlayed[sound] = now;
+            playedCount++;
+            output.play(sound);
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * this method is used to find a voice which is not playing.
+     *
+     * @param now this is the current time in nanoseconds.
+     * @return this returns the index of the voice, -1 if all the voices are playing.
+     */
+    private int freeVoice(long now){
+        for (int i = 0; i < voiceEnds.length; i++) {
+            if(voiceEnds[i] == Long.MIN_VALUE || voiceEnds[i] <= now)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * this method is used to set the shortest time between two starts of the same sound.
+     *
+     * @param sound this is the id of the sound.
+     * @param cooldown this is the cooldown in nanoseconds.
+     */
+    public void setCooldown(int sound, long cooldown){
+        cooldowns[sound] = cooldown;
+    }
+
+    /**
+     * this method is used to get the amount of sounds started.
+     *
+     * @return this returns the count of sounds started.
+     */
+    public long getPlayedCount() {
+        return playedCount;
+    }
+
+    /**
+     * this method is used to get the amount of requested sounds which were not started because of their cooldown or because no voice was free.
+     *
+     * @return this returns the count of sounds dropped.
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
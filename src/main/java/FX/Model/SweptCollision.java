@@ -0,0 +1,155 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.Model;
+
+import FX.Model.Entities.Brick.Crackable;
+import FX.Model.Entities.EntityBounds;
+
+/**
+ * this class is used to find when a moving box (the ball) first touches a box which is not moving (a brick or the paddle) during a move, so fast balls cannot pass through thin bricks.
+ * the result of the last sweep is kept in the object so no object is created for every check.
+ */
+public class SweptCollision {
+
+    private double time;
+    private int direction;
+    private double impactX;
+    private double impactY;
+
+    /**
+     * this method is used to check if the moving box touches the target during the move, the box is not moved.
+     * a box which already overlaps the target or only slides along its side is not counted as a hit.
+     *
+     * @param bounds this is the bounds of the moving box at the start of the move.
+     * @param dx this is the distance moved on the x-axis.
+     * @param dy this is the distance moved on the y-axis.
+     * @param target this is the bounds of the box which is not moving.
+     * @return this returns true if the box touches the target during the move, the time, direction and point of impact are then set.
+     */
+    public boolean sweep(EntityBounds bounds, double dx, double dy, EntityBounds target){
+        return sweep(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(), dx, dy,
+                target.getMinX(), target.getMinY(), target.getMaxX(), target.getMaxY());
+    }
+
+    /**
+     * this method is used to check if the moving box touches the target during the move, the box is not moved.
+     * a box which already overlaps the target or only slides along its side is not counted as a hit.
+     *
+     * @param minX this is the left side of the moving box.
+     * @param minY this is the top side of the moving box.
+     * @param maxX this is the right side of the moving box.
+     * @param maxY this is the bottom side of the moving box.
+     * @param dx this is the distance moved on the x-axis.
+     * @param dy this is the distance moved on the y-axis.
+     * @param targetMinX this is the left side of the target.
+     * @param targetMinY this is the top side of the target.
+     * @param targetMaxX this is the right side of the target.
+     * @param targetMaxY this is the bottom side of the target.
+     * @return this returns true if the box touches the target during the move, the time, direction and point of impact are then set.
+     */
+    public boolean sweep(double minX, double minY, double maxX, double maxY, double dx, double dy,
+                         double targetMinX, double targetMinY, double targetMaxX, double targetMaxY){
+        double entryX;
+        double exitX;
+        if(dx > 0){
+            entryX = (targetMinX - maxX) / dx;
+            exitX = (targetMaxX - minX) / dx;
+        }else if(dx < 0){
+            entryX = (targetMaxX - minX) / dx;
+            exitX = (targetMinX - maxX) / dx;
+        }else{
+            if(maxX <= targetMinX || minX >= targetMaxX)
+                return false;
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        }
+
+        double entryY;
+        double exitY;
+        if(dy > 0){
+            entryY = (targetMinY - maxY) / dy;
+            exitY = (targetMaxY - minY) / dy;
+        }else if(dy < 0){
+            entryY = (targetMaxY - minY) / dy;
+            exitY = (targetMinY - maxY) / dy;
+        }else{
+            if(maxY <= targetMinY || minY >= targetMaxY)
+                return false;
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        }
+
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        if(entry >= exit || entry < 0 || entry > 1)
+            return false;
+
+        time = entry;
+        double centerX = (minX + maxX) / 2 + dx * entry;
+        double centerY = (minY + maxY) / 2 + dy * entry;
+        // when both sides are reached at the same time (a corner) the hit is taken as a top or bottom hit.
+        if(entryX > entryY){
+            direction = dx > 0 ? Crackable.RIGHT : Crackable.LEFT;
+            impactX = dx > 0 ? targetMinX : targetMaxX;
+            impactY = Math.min(Math.max(centerY, targetMinY), targetMaxY);
+        }else{
+            direction = dy > 0 ? Crackable.UP : Crackable.DOWN;
+            impactX = Math.min(Math.max(centerX, targetMinX), targetMaxX);
+            impactY = dy > 0 ? targetMinY : targetMaxY;
+        }
+        return true;
+    }
+
+    /**
+     * this method is used to get the time of impact of the last hit, as a fraction of the move.
+     *
+     * @return this returns the time of impact from 0 (the start of the move) to 1 (the end of the move).
+     */
+    public double getTime() {
+        return time;
+    }
+
+    /**
+     * this method is used to get the direction of the last hit, which is the same direction used by the impact of the entities.
+     *
+     * @return this returns the direction of impact (UP, DOWN, LEFT, RIGHT from Crackable).
+     */
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * this method is used to get the x coordinate of the point of impact on the side of the target.
+     *
+     * @return this returns the x coordinate of the point of impact.
+     */
+    public double getImpactX() {
+        return impactX;
+    }
+
+    /**
+     * this method is used to get the y coordinate of the point of impact on the side of the target.
+     *
+     * @return this returns the y coordinate of the point of impact.
+     */
+    public double getImpactY() {
+        return impactY;
+    }
+}
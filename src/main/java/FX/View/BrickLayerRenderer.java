@@ -0,0 +1,212 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package FX.View;
+
+import FX.Model.BrickGrid;
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.Crackable;
+import FX.Model.Game;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * this class is used to draw the bricks on their own canvas layer, which is kept between frames.
+ * only the bricks which are hit or reset are drawn again, the whole wall is only drawn again when the bricks of the level are replaced.
+ */
+public class BrickLayerRenderer {
+
+    private static final double LINE_WIDTH = 2;
+
+    // the border is stroked 1 pixel outside the brick with a line width of 2, so it (and the crack) reaches at most 2 pixels outside the brick.
+    private static final double BORDER_REACH = 1 + LINE_WIDTH / 2;
+
+    private final Canvas brickLayer;
+    private final GraphicsContext graphicsContext;
+
+    private Brick[] bricks;
+    private BrickGrid brickGrid;
+    private int wallVersion;
+    private boolean wallDrawn;
+
+    private boolean[] dirty;
+    private int[] dirtyBricks;
+    private int dirtyCount;
+
+    /**
+     * this constructor is used to create the renderer which draws on the canvas provided.
+     *
+     * @param brickLayer this is the canvas used only for the bricks, placed under the canvas of the balls and paddle.
+     */
+    public BrickLayerRenderer(Canvas brickLayer){
+        this.brickLayer = brickLayer;
+        this.graphicsContext = brickLayer.getGraphicsContext2D();
+        setWallDrawn(false);
+    }
+
+    /**
+     * this method is used to mark a brick to be drawn again on the next render.
+     *
+     * @param brickIndex this is the index of the brick in the brick array of the level.
+     */
+    public void markDirty(int brickIndex){
+        if(dirty == null || brickIndex < 0 || brickIndex >= dirty.length || dirty[brickIndex])
+            return;
+        dirty[brickIndex] = true;
+        dirtyBricks[dirtyCount++] = brickIndex;
+    }
+
+    /**
+     * this method is used to cause the whole wall to be drawn again on the next render.
+     */
+    public void invalidate(){
+        setWallDrawn(false);
+    }
+
+    /**
+     * this method is used to bring the brick layer up to date with the bricks of the game, the whole wall is drawn if it was replaced and only the marked (or reset) bricks otherwise.
+     *
+     * @param game this is the game object which contains the bricks of the current level.
+     */
+    public void render(Game game){
+        if(isWallDrawn() && game.getBricks() == bricks && game.getWallVersion() == wallVersion + 1 && game.getResetWallVersion() == game.getWallVersion()){
+            // the only change since the last render is a wall reset, so only the bricks reset are drawn again.
+            for (int i = 0; i < game.getResetCount(); i++)
+                markDirty(game.getResetBrick(i));
+            wallVersion = game.getWallVersion();
+        }
+        if(!isWallDrawn() || game.getBricks() != bricks || game.getWallVersion() != wallVersion){
+            drawWall(game);
+            return;
+        }
+        for (int i = 0; i < dirtyCount; i++) {
+            int brickIndex = dirtyBricks[i];
+            dirty[brickIndex] = false;
+            redrawArea(bricks[brickIndex]);
+        }
+        dirtyCount = 0;
+    }
+
+    /**
+     * this method is used to clear the brick layer and draw all the bricks which are not broken, the broken bricks are skipped through the live bricks of the grid.
+     *
+     * @param game this is the game object which contains the bricks of the current level.
+     */
+    private void drawWall(Game game){
+        bricks = game.getBricks();
+        brickGrid = game.getBrickGrid();
+        wallVersion = game.getWallVersion();
+        if(dirty == null || dirty.length != bricks.length){
+            dirty = new boolean[bricks.length];
+            dirtyBricks = new int[bricks.length];
+        }else{
+            for (int i = 0; i < dirtyCount; i++)
+                dirty[dirtyBricks[i]] = false;
+        }
+        dirtyCount = 0;
+
+        graphicsContext.clearRect(0, 0, brickLayer.getWidth(), brickLayer.getHeight());
+        graphicsContext.setLineWidth(LINE_WIDTH);
+        for (int i = brickGrid.nextLiveBrick(0); i >= 0; i = brickGrid.nextLiveBrick(i + 1)) {
+            drawBrick(bricks[i]);
+        }
+        setWallDrawn(true);
+    }
+
+    /**
+     * this method is used to draw again the area covered by a brick and its border, the bricks next to it are drawn again inside the area since their borders overlap it.
+     *
+     * @param changedBrick this is the brick which has changed.
+     */
+    private void redrawArea(Brick changedBrick){
+        double minX = changedBrick.getX() - BORDER_REACH;
+        double minY = changedBrick.getY() - BORDER_REACH;
+        double maxX = changedBrick.getX() + changedBrick.getWidth() + BORDER_REACH;
+        double maxY = changedBrick.getY() + changedBrick.getHeight() + BORDER_REACH;
+
+        graphicsContext.save();
+        graphicsContext.beginPath();
+        graphicsContext.rect(minX, minY, maxX - minX, maxY - minY);
+        graphicsContext.clip();
+        graphicsContext.clearRect(minX, minY, maxX - minX, maxY - minY);
+        graphicsContext.setLineWidth(LINE_WIDTH);
+
+        // the bricks are drawn in the same order as the whole wall so the overlapping borders look the same.
+        int candidateCount = brickGrid.query(minX - BORDER_REACH, minY - BORDER_REACH, maxX + BORDER_REACH, maxY + BORDER_REACH);
+        for (int i = 0; i < candidateCount; i++) {
+            drawBrick(bricks[brickGrid.getCandidate(i)]);
+        }
+        graphicsContext.restore();
+    }
+
+    /**
+     * this method is used to draw a brick with its crack, nothing is drawn if the brick is broken.
+     *
+     * @param brick this is the brick to be drawn.
+     */
+    private void drawBrick(Brick brick){
+        if(brick.isBroken())
+            return;
+        graphicsContext.setFill(brick.getInnerColor());
+        graphicsContext.fillRect(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
+
+        graphicsContext.setStroke(brick.getBorderColor());
+        graphicsContext.strokeRect(brick.getX() - 1, brick.getY() - 1, brick.getWidth() + 2, brick.getHeight() + 2);
+
+        drawCrack(brick);
+    }
+
+    /**
+     * this method is used to draw the crack on the brick.
+     *
+     * @param brick this is the brick which the crack is drawn on.
+     */
+    private void drawCrack(Brick brick){
+        if (!(brick instanceof Crackable))
+            return;
+        if (!((Crackable) brick).isCracked())
+            return;
+        float[] points = ((Crackable) brick).getCrackPoints();
+        graphicsContext.setStroke(brick.getBorderColor().darker());
+        graphicsContext.beginPath();
+        graphicsContext.moveTo(points[0], points[1]);
+        for (int i = 2; i < points.length; i += 2) {
+            graphicsContext.lineTo(points[i], points[i + 1]);
+        }
+        graphicsContext.closePath();
+        graphicsContext.stroke();
+    }
+
+    /**
+     * this method is used to check if the whole wall is already drawn on the brick layer.
+     *
+     * @return this returns true if the wall is drawn.
+     */
+    public boolean isWallDrawn() {
+        return wallDrawn;
+    }
+
+    /**
+     * this method is used to set if the whole wall is drawn on the brick layer.
+     *
+     * @param wallDrawn this is the boolean value used to set into a variable.
+     */
+    public void setWallDrawn(boolean wallDrawn) {
+        this.wallDrawn = wallDrawn;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Brick Destroy - A simple Arcade video game
+ *   Copyright (C) 2021  Leong Chang Yung
+ *
+ *  This program is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  This program is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package FX.View;
+
+import FX.Model.Profiling.FrameProfiler;
+import FX.Model.Profiling.LatencyHistogram;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.Locale;
+
+/**
+ * this class is used to draw the times measured by the frame profiler on top of the game, the text is only made again every few frames so the overlay itself costs little.
+ */
+public class ProfilerOverlay {
+
+    private static final int REFRESH_FRAMES = 30;
+    private static final double LINE_HEIGHT = 13;
+    private static final double PADDING = 4;
+    private static final double WIDTH = 290;
+    private static final Font FONT = Font.font("Monospaced", 11);
+    private static final Color BACKGROUND = Color.rgb(0, 0, 0, 0.6);
+
+    private final FrameProfiler profiler;
+    private final String[] lines = new String[FrameProfiler.PHASE_COUNT + 3];
+    private int framesSinceRefresh;
+
+    /**
+     * this constructor is used to create the overlay which shows the times of the profiler provided.
+     *
+     * @param profiler this is the profiler which the times are taken from.
+     */
+    public ProfilerOverlay(FrameProfiler profiler){
+        this.profiler = profiler;
+        refresh();
+    }
+
+    /**
+     * this method is used to draw the overlay on the top left of the canvas.
+     *
+     * @param graphicsContext this is the graphics context of the canvas drawn on.
+     */
+    public void draw(GraphicsContext graphicsContext){
+        if(++framesSinceRefresh >= REFRESH_FRAMES)
+            refresh();
+
+        graphicsContext.save();
+        graphicsContext.setFill(BACKGROUND);
+        graphicsContext.fillRect(0, 0, WIDTH, lines.length * LINE_HEIGHT + 2 * PADDING);
+        graphicsContext.setFill(Color.WHITE);
+        graphicsContext.setFont(FONT);
+        graphicsContext.setTextAlign(TextAlignment.LEFT);
+        graphicsContext.setTextBaseline(VPos.TOP);
+        for (int i = 0; i < lines.length; i++) {
+            graphicsContext.fillText(lines[i], PADDING, PADDING + i * LINE_HEIGHT);
+        }
+        graphicsContext.restore();
+    }
+
+    /**
+     * this method is used to make the text of the overlay again from the histograms of the profiler.
+     */
+    private void refresh(){
+        framesSinceRefresh = 0;
+        lines[0] = String.format(Locale.ROOT, "%-18s %7s %7s %7s", "us per frame", "p50", "p99", "max");
+        for (int i = 0; i < FrameProfiler.PHASE_COUNT; i++) {
+            lines[i + 1] = line(FrameProfiler.getPhaseName(i), profiler.getPhaseHistogram(i));
+        }
+        lines[FrameProfiler.PHASE_COUNT + 1] = line("frame", profiler.getFrameHistogram());
+        lines[FrameProfiler.PHASE_COUNT + 2] = line("frameInterval", profiler.getIntervalHistogram());
+    }
+
+    /**
+     * this method is used to make a line of the overlay.
+     *
+     * @param name this is the name shown at the start of the line.
+     * @param histogram this is the histogram which the times are taken from.
+     * @return this returns the text of the line.
+     */
+    private static String line(String name, LatencyHistogram histogram){
+        return String.format(Locale.ROOT, "%-18s %7d %7d %7d", name, histogram.getValueAtPercentile(50) / 1000, histogram.getValueAtPercentile(99) / 1000, histogram.getMax() / 1000);
+    }
+}
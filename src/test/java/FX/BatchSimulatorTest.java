@@ -0,0 +1,30 @@
+package FX;
+
+import FX.Model.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    @Test
+    void testRunIsRepeatable() throws Exception {
+        SimulationResult[] first = new BatchSimulator(2, 900, 99, 2).run();
+        SimulationResult[] second = new BatchSimulator(2, 900, 99, 1).run();
+        assertEquals(14, first.length);
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(i / 2, first[i].getLevel());
+            assertEquals(first[i].getTicks(), second[i].getTicks());
+            assertEquals(first[i].getBricksRemaining(), second[i].getBricksRemaining());
+            assertEquals(first[i].getBallsLost(), second[i].getBallsLost());
+        }
+    }
+
+    @Test
+    void testPercentile() {
+        double[] sorted = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        assertEquals(String.format("%.1f", 5.0), BatchSimulator.percentile(sorted, 0.5));
+        assertEquals(String.format("%.1f", 10.0), BatchSimulator.percentile(sorted, 1));
+        assertEquals("-", BatchSimulator.percentile(new double[0], 0.5));
+    }
+}
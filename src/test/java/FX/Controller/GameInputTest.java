@@ -0,0 +1,40 @@
+package FX.Controller;
+
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameInputTest {
+
+    GameInput gameInput = new GameInput();
+
+    @Test
+    void testEventsPolledInOrder() {
+        gameInput.keyPressed(KeyCode.A);
+        gameInput.focusChanged(true);
+        gameInput.keyReleased(KeyCode.A);
+        gameInput.focusChanged(false);
+
+        InputEvent event = gameInput.poll();
+        assertEquals(InputEvent.KEY_PRESSED, event.getType());
+        assertEquals(KeyCode.A, event.getKeyCode());
+        event = gameInput.poll();
+        assertEquals(InputEvent.KEY_RELEASED, event.getType());
+        assertEquals(KeyCode.A, event.getKeyCode());
+        event = gameInput.poll();
+        assertEquals(InputEvent.FOCUS_LOST, event.getType());
+        assertNull(event.getKeyCode());
+        assertNull(gameInput.poll());
+    }
+
+    @Test
+    void testClear() {
+        gameInput.keyPressed(KeyCode.LEFT);
+        gameInput.keyPressed(KeyCode.RIGHT);
+        gameInput.clear();
+        assertNull(gameInput.poll());
+        gameInput.keyPressed(KeyCode.SPACE);
+        assertEquals(KeyCode.SPACE, gameInput.poll().getKeyCode());
+    }
+}
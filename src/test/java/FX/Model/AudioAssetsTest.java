@@ -0,0 +1,24 @@
+package FX.Model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AudioAssetsTest {
+
+    @Test
+    void testClipIsLoadedOnce() {
+        String resource = AudioAssets.SOUND_EFFECTS[0];
+        assertSame(AudioAssets.getClip(resource), AudioAssets.getClip(resource));
+        assertTrue(AudioAssets.isLoaded(resource));
+        assertThrows(NullPointerException.class, () -> AudioAssets.getClip("/SoundEffects/Missing.wav"));
+        assertFalse(AudioAssets.isLoaded("/SoundEffects/Missing.wav"));
+    }
+
+    @Test
+    void testSessionKeepsItsSoundEffects() {
+        GameSession gameSession = new GameSession(600, 450, new GameRandom(1));
+        assertSame(gameSession.getSoundEffects(), gameSession.getSoundEffects());
+        assertSame(AudioAssets.getClip("/SoundEffects/VictorySound.wav"), gameSession.getSoundEffects().getVictorySound());
+    }
+}
@@ -0,0 +1,55 @@
+package FX.Model.Bot;
+
+import FX.Model.Entities.Ball.Ball;
+import FX.Model.Game;
+import FX.Model.GameRandom;
+import FX.Model.SimulationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PredictiveBotTest {
+
+    Game game = new Game(600,450,new GameRandom(1));
+    PredictiveBot predictiveBot = new PredictiveBot();
+
+    @Test
+    void testPredictionReflectsOffTheSides() {
+        assertEquals(10, PredictiveBot.reflect(10, 0, 100));
+        assertEquals(90, PredictiveBot.reflect(110, 0, 100));
+        assertEquals(20, PredictiveBot.reflect(-20, 0, 100));
+        assertEquals(10, PredictiveBot.reflect(210, 0, 100));
+
+        Ball ball = game.getMainBall();
+        ball.setPosition(500, 100);
+        ball.setSpeedX(4);
+        ball.setSpeedY(2);
+        assertTrue(predictiveBot.predict(ball, game.getPaddle(), game.getPlayArea()));
+        double centerY = 100 + ball.getHeight() / 2.0;
+        double ticks = (game.getPaddle().getY() - ball.getHeight() / 2.0 - centerY) / 2;
+        assertEquals(ticks, predictiveBot.getPredictedTicks(), 0.001);
+        double maxCenterX = 600 - ball.getWidth() / 2.0;
+        assertEquals(2 * maxCenterX - (500 + ball.getWidth() / 2.0 + 4 * ticks), predictiveBot.getPredictedX(), 0.001);
+
+        ball.setSpeedY(0);
+        assertFalse(predictiveBot.predict(ball, game.getPaddle(), game.getPlayArea()));
+    }
+
+    @Test
+    void testBotPlaysThroughTheGame() {
+        game.setBotController(predictiveBot);
+        game.getPlayer().setBotMode(true);
+        Ball ball = game.getMainBall();
+        ball.setPosition(20, 300);
+        ball.setSpeedX(-1);
+        ball.setSpeedY(3);
+        game.automation();
+        assertTrue(game.getPaddle().getMoveAmount() < 0);
+
+        SimulationResult first = SimulationResult.simulate(0, 5, 3000, 600, 450, new PredictiveBot());
+        SimulationResult second = SimulationResult.simulate(0, 5, 3000, 600, 450, new PredictiveBot());
+        assertEquals(first.getTicks(), second.getTicks());
+        assertEquals(first.getBricksRemaining(), second.getBricksRemaining());
+        assertEquals(0, first.getBallsLost());
+    }
+}
@@ -0,0 +1,69 @@
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Levels.LevelFactory;
+import javafx.geometry.BoundingBox;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrickGridTest {
+
+    Brick[] bricks = new LevelFactory().makeLevel("CHAINLEVEL", new RandomStream(1)).level(new Rectangle(0,0,600,450), 300, 10, 3, BrickFactory.CLAY, BrickFactory.CEMENT);
+    BrickGrid brickGrid = new BrickGrid(bricks);
+
+    @Test
+    void testQueryFindsEveryIntersectingBrick() {
+        Random rnd = new Random(42);
+        for (int tries = 0; tries < 500; tries++) {
+            BoundingBox ball = new BoundingBox(rnd.nextInt(620) - 10, rnd.nextInt(300) - 10, 20, 20);
+            int count = brickGrid.query(ball.getMinX(), ball.getMinY(), ball.getMaxX(), ball.getMaxY());
+            for (int i = 0; i < bricks.length; i++) {
+                if (bricks[i].getBounds().intersects(ball)) {
+                    boolean found = false;
+                    for (int c = 0; c < count; c++)
+                        found |= brickGrid.getCandidate(c) == i;
+                    assertTrue(found);
+                }
+            }
+            for (int c = 1; c < count; c++)
+                assertTrue(brickGrid.getCandidate(c - 1) < brickGrid.getCandidate(c));
+        }
+    }
+
+    @Test
+    void testQueryOnlyReturnsNearbyBricks() {
+        assertTrue(brickGrid.query(300, 5, 310, 15) < 10);
+        assertEquals(0, brickGrid.query(300, 440, 310, 450));
+    }
+
+    @Test
+    void testRemovedBricksAreSkipped() {
+        int count = brickGrid.query(0, 0, 600, 450);
+        assertEquals(bricks.length, count);
+        for (int i = 0; i < bricks.length; i += 2)
+            brickGrid.remove(i);
+        brickGrid.remove(0);
+        assertEquals(bricks.length / 2, brickGrid.getLiveCount());
+        assertEquals(bricks.length / 2, brickGrid.query(0, 0, 600, 450));
+        for (int c = 0; c < brickGrid.getCandidateCount(); c++)
+            assertEquals(1, brickGrid.getCandidate(c) % 2);
+        assertEquals(1, brickGrid.nextLiveBrick(0));
+        assertFalse(brickGrid.isLive(4));
+
+        brickGrid.restore(4);
+        brickGrid.restore(4);
+        assertTrue(brickGrid.isLive(4));
+        assertEquals(bricks.length / 2 + 1, brickGrid.getLiveCount());
+        assertEquals(4, brickGrid.nextLiveBrick(4));
+        int nearby = brickGrid.query(bricks[4].getX() + 1, bricks[4].getY() + 1, bricks[4].getX() + 2, bricks[4].getY() + 2);
+        boolean found = false;
+        for (int c = 0; c < nearby; c++)
+            found |= brickGrid.getCandidate(c) == 4;
+        assertTrue(found);
+    }
+}
@@ -0,0 +1,61 @@
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Levels.LevelFactory;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactWallTest {
+
+    Rectangle drawArea = new Rectangle(0,0,600,450);
+
+    @Test
+    void testMatchesBrickObjects() {
+        Brick[] bricks = new LevelFactory().makeLevel("CURLYLINESLEVEL", new RandomStream(1)).level(drawArea, 300, 10, 3, BrickFactory.CLAY, BrickFactory.REINFORCED_STEEL);
+        CompactWall compactWall = new CompactWall();
+        new LevelFactory().makeLevel("CURLYLINESLEVEL", new RandomStream(1)).level(drawArea, 300, 10, 3, BrickFactory.CLAY, BrickFactory.REINFORCED_STEEL, compactWall);
+        assertEquals(bricks.length, compactWall.size());
+        for (int i = 0; i < bricks.length; i++) {
+            assertEquals(bricks[i].getX(), compactWall.getX(i), 0.001);
+            assertEquals(bricks[i].getY(), compactWall.getY(i), 0.001);
+            assertEquals(bricks[i].getWidth(), compactWall.getWidth(i));
+            assertEquals(bricks[i].getMaxStrength(), compactWall.getStrength(i));
+            assertEquals(bricks[i].getHitProbability(), compactWall.getHitProbability(i), 0.001);
+            assertEquals(bricks[i].getClass(), compactWall.toBrick(i).getClass());
+        }
+    }
+
+    @Test
+    void testImpactAndReset() {
+        CompactWall compactWall = new CompactWall();
+        compactWall.begin(2);
+        compactWall.addBrick(0, 0, 60, 20, BrickFactory.CLAY);
+        compactWall.addBrick(60, 0, 60, 20, BrickFactory.CEMENT);
+        assertTrue(compactWall.impact(0, 0.5));
+        assertFalse(compactWall.impact(0, 0.5));
+        assertFalse(compactWall.impact(1, 0.5));
+        assertEquals(1, compactWall.getStrength(1));
+        assertEquals(1, compactWall.getBrickCount());
+        compactWall.reset();
+        assertFalse(compactWall.isBroken(0));
+        assertEquals(2, compactWall.getStrength(1));
+        assertEquals(2, compactWall.getBrickCount());
+    }
+
+    @Test
+    void testLargeWallGrid() {
+        CompactWall compactWall = new CompactWall();
+        new LevelFactory().makeLevel("CHAINLEVEL", new RandomStream(1)).level(drawArea, 100000, 500, 3, BrickFactory.CLAY, BrickFactory.STEEL, compactWall);
+        assertTrue(compactWall.size() >= 100000);
+        BrickGrid brickGrid = new BrickGrid(compactWall);
+        int count = brickGrid.query(300, 100, 310, 110);
+        assertTrue(count > 0 && count < 100);
+        for (int c = 0; c < count; c++) {
+            int i = brickGrid.getCandidate(c);
+            assertTrue(compactWall.getX(i) <= 310 + compactWall.getWidth(i) && compactWall.getY(i) <= 110 + compactWall.getHeight(i));
+        }
+    }
+}
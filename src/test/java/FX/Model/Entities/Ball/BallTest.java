@@ -2,6 +2,8 @@ package FX.Model.Entities.Ball;
 
 import FX.Model.Entities.Brick.Brick;
 import FX.Model.Entities.Brick.ClayBrick;
+import FX.Model.Entities.EntityBounds;
+import FX.Model.RandomStream;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
 import javafx.geometry.Dimension2D;
@@ -12,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class BallTest {
 
-    RubberBall ball = new RubberBall();
+    RubberBall ball = new RubberBall(new RandomStream(1));
 
     @Test
     void testSetRandomBallSpeed() {
@@ -46,6 +48,22 @@ class BallTest {
         );
     }
 
+    @Test
+    void testBoundsFollowMove(){
+        ball.resetPosition();
+        EntityBounds bounds = ball.getBounds();
+        double startX = bounds.getMinX();
+        double startY = bounds.getMinY();
+        ball.setSpeedX(3);
+        ball.setSpeedY(-2);
+        ball.move();
+        assertAll(  ()->  assertSame(bounds, ball.getBounds()),
+                    ()->  assertEquals(startX + 3, bounds.getMinX()),
+                    ()->  assertEquals(startY - 2, bounds.getMinY()),
+                    ()->  assertEquals(ball.getWidth(), bounds.getWidth())
+        );
+    }
+
     @Test
     void testBallLeftCollision() {
         int ballSpeed;
@@ -111,6 +129,7 @@ class BallTest {
     @Test
     void testImpactEntity() {
         Brick brick = new ClayBrick(new Point2D(300,200), new Dimension2D(120,200));
+        brick.setRnd(new RandomStream(1));
         brick.setBounds(new BoundingBox(300,200,120,200));
         ball.setBounds(new BoundingBox(296,200,5,5));
         ball.setSpeedX(5);
@@ -120,11 +139,11 @@ class BallTest {
 
     @Test
     void testTwoBallsCollide(){
-        BallClone ballClone = new BallClone(new Point2D(295,200));
+        BallClone ballClone = new BallClone(new Point2D(295,200), new RandomStream(1));
         int ballCloneInitialspeed = 6;
         int ballClone1Initialspeed = -6;
         ballClone.setSpeedY(ballCloneInitialspeed);
-        BallClone ballClone1 = new BallClone(new Point2D(299,200));
+        BallClone ballClone1 = new BallClone(new Point2D(299,200), new RandomStream(1));
         ballClone1.setSpeedY(ballClone1Initialspeed);
         ballClone.impactEntity(ballClone1);
         assertNotEquals(ballClone.getSpeedY(), ballCloneInitialspeed);
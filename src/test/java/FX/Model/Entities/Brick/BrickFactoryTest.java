@@ -17,4 +17,11 @@ class BrickFactoryTest {
         assertTrue(brickFactory.makeBrick(new Point2D(0,0), new Dimension2D(50,20), BrickFactory.REINFORCED_STEEL).getClass() == ReinforcedSteelBrick.class);
         assertThrows(IllegalArgumentException.class, () -> assertTrue(brickFactory.makeBrick(new Point2D(0,0), new Dimension2D(50,20), 0).getClass() == ReinforcedSteelBrick.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testBrickType() {
+        for (int type : BrickFactory.brickTypes) {
+            assertEquals(type, brickFactory.makeBrick(new Point2D(0,0), new Dimension2D(50,20), type).getBrickType());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package FX.Model.Entities.Brick;
 
+import FX.Model.RandomStream;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import org.junit.jupiter.api.Test;
@@ -15,12 +16,30 @@ class BrickTest {
 
     @Test
     void testSetImpact() {
+        clayBrick.setRnd(new RandomStream(1));
+        cementbrick.setRnd(new RandomStream(1));
+        cementbrick.setCrack(new Crack(new RandomStream(1)));
         clayBrick.setImpact(new Point2D(10,0),Crackable.UP);
         cementbrick.setImpact(point2D,Crackable.DOWN);
 
         assertAll(  ()->assertTrue(clayBrick.isBroken()),
-                    ()->assertTrue(cementbrick.getCrackPath()!=null),
+                    ()->assertTrue(cementbrick.getCrackPoints()!=null),
+                    ()->assertTrue(cementbrick.isCracked()),
                     ()->assertFalse(cementbrick.isBroken())
         );
     }
+
+    @Test
+    void testCrackRequired() {
+        CementBrick brick = new CementBrick(point2D,dimension2D);
+        brick.setRnd(new RandomStream(1));
+        assertNull(brick.getCrack());
+        assertThrows(IllegalStateException.class, () -> brick.setImpact(point2D,Crackable.DOWN));
+    }
+
+    @Test
+    void testRandomStreamRequired() {
+        assertNull(clayBrick.getRnd());
+        assertThrows(IllegalStateException.class, () -> clayBrick.setImpact(point2D,Crackable.DOWN));
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package FX.Model.Entities.Brick;
 
+import FX.Model.RandomStream;
 import javafx.geometry.Dimension2D;
 import javafx.geometry.Point2D;
 import org.junit.jupiter.api.Test;
@@ -8,7 +9,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class CrackTest {
 
-    Crack crack = Crack.singletonCrack();
+    Crack crack = new Crack(new RandomStream(1));
     Point2D point2D = new Point2D(0,0);
     Dimension2D dimension2D = new Dimension2D(50,20);
     CementBrick cementbrick1 = new CementBrick(point2D,dimension2D);
@@ -18,11 +19,23 @@ class CrackTest {
     void testMakeCrack() {
         crack.makeCrack(new Point2D(0,0), new Point2D(50,20), cementbrick1);
         crack.makeCrack(new Point2D(0,0), new Point2D(50,20), cementbrick2);
-        assertTrue(cementbrick1.getCrackPath() != null);
-        assertTrue(cementbrick2.getCrackPath() != null);
+        assertTrue(cementbrick1.getCrackPoints() != null);
+        assertTrue(cementbrick2.getCrackPoints() != null);
         assertFalse(cementbrick1.equals(cementbrick2));
     }
 
+    @Test
+    void testCrackPointsReused() {
+        crack.makeCrack(5, 10, 45, 12, cementbrick1);
+        float[] points = cementbrick1.getCrackPoints();
+        assertEquals(crack.getCrackPointsLength(), points.length);
+        assertEquals(5, points[0]);
+        assertEquals(12, points[points.length - 1]);
+        crack.makeCrack(45, 12, 5, 10, cementbrick1);
+        assertSame(points, cementbrick1.getCrackPoints());
+        assertEquals(45, points[0]);
+    }
+
     @Test
     void testMakeRandomPointBetween() {
         Point2D point1;
@@ -8,7 +8,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class PaddleTest {
 
     Rectangle filler1 = new Rectangle(0,0,1000,1000);
-    Paddle paddle = Paddle.singletonPaddle(filler1);
+    Paddle paddle = new Paddle(filler1);
 
     @Test
     void testMove() {
@@ -0,0 +1,105 @@
+package FX.Model;
+
+import FX.Model.Entities.Ball.Ball;
+import FX.Model.Entities.Ball.RubberBall;
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    Game game = new Game(600,450,new GameRandom(1));
+    GameEngine gameEngine = new GameEngine(game);
+
+    @Test
+    void testStepRunsFixedTicks() {
+        game.setBallLost(false);
+        gameEngine.setLevelComplete(false);
+        assertEquals(3, gameEngine.step(GameEngine.TICK_DURATION * 3.5));
+        assertEquals(1, gameEngine.step(GameEngine.TICK_DURATION * 0.5));
+        assertEquals(4, gameEngine.getTickCount());
+    }
+
+    @Test
+    void testStepKeepsLeftoverTime() {
+        game.setBallLost(false);
+        gameEngine.setLevelComplete(false);
+        assertEquals(0, gameEngine.step(GameEngine.TICK_DURATION * 0.6));
+        assertEquals(1, gameEngine.step(GameEngine.TICK_DURATION * 0.6));
+    }
+
+    @Test
+    void testHaltedWhenBallLost() {
+        game.setBallLost(true);
+        assertEquals(0, gameEngine.step(GameEngine.TICK_DURATION * 5));
+        game.getPlayer().setBallCount(2);
+        assertFalse(gameEngine.resolveBallLost());
+        assertFalse(game.isBallLost());
+        assertTrue(game.getCloneBall().isEmpty());
+    }
+
+    @Test
+    void testBrickChangedEvent() {
+        boolean[] changed = new boolean[game.getBricks().length];
+        gameEngine.setListener(new GameEventListener() {
+            @Override
+            public void brickChanged(int brickIndex) {
+                changed[brickIndex] = true;
+            }
+        });
+        Ball ball = new RubberBall(new RandomStream(1));
+        Brick brick = game.getBricks()[0];
+        ball.setPosition(brick.getX() + 5, brick.getY() + brick.getHeight() - 5);
+        int version = game.getWallVersion();
+        gameEngine.moveBall(ball);
+        gameEngine.setListener(null);
+        assertTrue(changed[0]);
+        game.wallReset();
+        assertNotEquals(version, game.getWallVersion());
+    }
+
+    @Test
+    void testHeadlessTicks() {
+        game.setBallLost(false);
+        gameEngine.setLevelComplete(false);
+        game.getPlayer().setBotMode(true);
+        for (int i = 0; i < 10000 && !gameEngine.isLevelComplete(); i++) {
+            gameEngine.tick();
+            if (game.isBallLost())
+                gameEngine.resolveBallLost();
+        }
+        game.getPlayer().setBotMode(false);
+        assertTrue(gameEngine.getTickCount() > 0);
+        assertTrue(game.getBrickCount() >= 0);
+        game.restartStatus();
+        game.wallReset();
+    }
+
+    @Test
+    void testFastBallDoesNotPassThroughThinBrick() {
+        Brick brick = new BrickFactory().makeBrick(new Point2D(100, 100), new Dimension2D(60, 5), BrickFactory.CLAY);
+        game.setBricks(new Brick[]{brick});
+        game.setBrickCount(1);
+        int[] hits = new int[1];
+        gameEngine.setListener(new GameEventListener() {
+            @Override
+            public void ballBrickCollision(Brick hitBrick) {
+                hits[0]++;
+            }
+        });
+        Ball ball = new RubberBall(new RandomStream(1));
+        ball.setPosition(120, 130);
+        ball.setSpeedX(0);
+        ball.setSpeedY(-40);
+        gameEngine.moveBall(ball);
+        assertAll(  ()->assertEquals(1, hits[0]),
+                    ()->assertTrue(brick.isBroken()),
+                    ()->assertTrue(ball.getSpeedY() > 0),
+                    ()->assertTrue(ball.getBounds().getMinY() >= brick.getBounds().getMaxY())
+        );
+    }
+}
@@ -0,0 +1,47 @@
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Levels.LevelSpec;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRandomTest {
+
+    @Test
+    void testSameSeedSameNumbers() {
+        GameRandom gameRandom = new GameRandom(42);
+        RandomStream ball = gameRandom.getStream(GameRandom.BALL);
+        long[] first = new long[16];
+        for (int i = 0; i < first.length; i++)
+            first[i] = ball.nextLong();
+
+        gameRandom.reseed(42);
+        assertSame(ball, gameRandom.getStream(GameRandom.BALL));
+        for (long number : first)
+            assertEquals(number, ball.nextLong());
+    }
+
+    @Test
+    void testStreamsIndependent() {
+        GameRandom gameRandom = new GameRandom(42);
+        long sound = new GameRandom(42).getStream(GameRandom.SOUND).nextLong();
+        assertNotEquals(gameRandom.getStream(GameRandom.BALL).nextLong(), gameRandom.getStream(GameRandom.BRICK).nextLong());
+        for (int i = 0; i < 100; i++)
+            gameRandom.getStream(GameRandom.BALL).nextDouble();
+        assertEquals(sound, gameRandom.getStream(GameRandom.SOUND).nextLong());
+    }
+
+    @Test
+    void testRandomLevelReproducible() {
+        GameRandom gameRandom = new GameRandom(7);
+        LevelSpec randomLevel = new LevelSpec("RANDOMLEVEL", 0, 0);
+        Rectangle drawArea = new Rectangle(0, 0, 600, 450);
+        Brick[] first = randomLevel.build(drawArea, 300, 10, 3, gameRandom.levelStream(6));
+        Brick[] second = randomLevel.build(drawArea, 300, 10, 3, gameRandom.levelStream(6));
+        assertEquals(first.length, second.length);
+        for (int i = 0; i < first.length; i++)
+            assertEquals(first[i].getClass(), second[i].getClass());
+    }
+}
@@ -9,7 +9,7 @@ import java.util.ArrayList;
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameScoreTest {
-    GameScore gameScore = GameScore.singletonGameScore();
+    GameScore gameScore = new GameScore();
 
     @Test
     void getTimerString() {
@@ -30,9 +30,10 @@ class GameScoreTest {
     }
 
     @Test
-    void singletonGameScore() {
-        GameScore gameScore2 = GameScore.singletonGameScore();
-        assertTrue(gameScore2 == gameScore);
+    void separateGameScore() {
+        GameScore gameScore2 = new GameScore();
+        gameScore.setTotalTime(50);
+        assertTrue(gameScore2.getTotalTime() == 0);
     }
 
     @Test
@@ -0,0 +1,47 @@
+package FX.Model;
+
+import FX.Model.Replay.ReplayRecorder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    @Test
+    void testSessionsDoNotShareState() {
+        GameSession first = new GameSession(600, 450, new GameRandom(1));
+        GameSession second = new GameSession(600, 450, new GameRandom(1));
+        assertAll(  ()->assertNotSame(first.getGame(), second.getGame()),
+                    ()->assertNotSame(first.getGameScore(), second.getGameScore()),
+                    ()->assertNotSame(first.getGame().getPlayer(), second.getGame().getPlayer())
+        );
+        first.getGame().getPlayer().setBallCount(1);
+        assertEquals(3, second.getGame().getPlayer().getBallCount());
+    }
+
+    @Test
+    void testCloseIsIdempotent() {
+        GameSession gameSession = new GameSession(600, 450, new GameRandom(1));
+        gameSession.recordReplayEvent(1);
+        gameSession.close();
+        gameSession.close();
+        assertTrue(gameSession.isClosed());
+    }
+
+    @Test
+    void testCloseReleasesPrefetchAndRecorder(@TempDir File tempDir) throws IOException {
+        GameSession gameSession = new GameSession(600, 450, new GameRandom(1));
+        gameSession.setReplayRecorder(ReplayRecorder.startRecording(gameSession.getGame(), tempDir));
+        assertTrue(gameSession.getGame().getLevelLoader().hasPrefetch());
+        gameSession.close();
+        assertFalse(gameSession.getGame().getLevelLoader().hasPrefetch());
+        assertNull(gameSession.getReplayRecorder());
+        File[] replays = tempDir.listFiles();
+        assertEquals(1, replays.length);
+        assertTrue(replays[0].length() > 0);
+    }
+}
@@ -1,5 +1,7 @@
 package FX.Model;
 
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.Crackable;
 import javafx.geometry.BoundingBox;
 import org.junit.jupiter.api.Test;
 
@@ -7,14 +9,30 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class GameTest {
 
-    Game game = Game.singletonGame(500,600);
+    Game game = new Game(500,600,new GameRandom(1));
 
     @Test
     void testWallReset(){
-        game.getBrickLevels()[0][1].setCurrentStrength(0);
-        boolean isBroken = game.getBrickLevels()[0][1].isBroken();
+        game.getBricks()[1].setCurrentStrength(0);
+        boolean isBroken = game.getBricks()[1].isBroken();
         game.wallReset();
-        assertEquals(isBroken, game.getBrickLevels()[0][1].isBroken());
+        assertEquals(isBroken, game.getBricks()[1].isBroken());
+    }
+
+    @Test
+    void testWallResetOnlyTouchedBricks(){
+        game.markTouched(2);
+        game.markTouched(2);
+        game.getBricks()[2].setBroken(true);
+        game.getBricks()[3].setBroken(true);
+        game.wallReset();
+        assertFalse(game.getBricks()[2].isBroken());
+        assertTrue(game.getBricks()[3].isBroken());
+        assertEquals(1, game.getResetCount());
+        assertEquals(2, game.getResetBrick(0));
+        assertEquals(game.getWallVersion(), game.getResetWallVersion());
+        game.wallReset();
+        assertEquals(0, game.getResetCount());
     }
 
     @Test
@@ -24,4 +42,31 @@ class GameTest {
         game.automation();
         assertTrue(game.getPaddle().getMoveAmount() == -5);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStartLevel() {
+        Game headless = new Game(500,600,new GameRandom(1),3);
+        assertEquals(4, headless.getPlayer().getCurrentLevel());
+        assertFalse(headless.getLevelLoader().isPrefetchEnabled());
+        assertEquals(Game.getBuiltInLevelCount(), headless.getLevelCount());
+        assertThrows(IllegalArgumentException.class, () -> new Game(500,600,new GameRandom(1),Game.getBuiltInLevelCount()));
+    }
+
+    @Test
+    void testWallResetKeepsCrackPoints() {
+        Game cementGame = new Game(500,600,new GameRandom(1),1);
+        int index = 0;
+        while (!(cementGame.getBricks()[index] instanceof Crackable))
+            index++;
+        Brick brick = cementGame.getBricks()[index];
+        Crackable crackable = (Crackable) brick;
+        brick.setImpact(brick.getX() + 1, brick.getY() + 1, Crackable.UP);
+        cementGame.markTouched(index);
+        assertTrue(crackable.isCracked());
+        float[] points = crackable.getCrackPoints();
+
+        cementGame.wallReset();
+        assertFalse(crackable.isCracked());
+        assertSame(points, crackable.getCrackPoints());
+    }
+}
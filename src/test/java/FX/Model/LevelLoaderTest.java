@@ -0,0 +1,37 @@
+package FX.Model;
+
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Entities.Brick.CementBrick;
+import FX.Model.Levels.LevelSpec;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelLoaderTest {
+
+    LevelLoader levelLoader = new LevelLoader(new LevelSpec[]{
+            new LevelSpec("CHAINLEVEL", BrickFactory.CLAY, BrickFactory.CLAY),
+            new LevelSpec("STRAIGHTLINESLEVEL", BrickFactory.CEMENT, BrickFactory.CEMENT)
+    }, new Rectangle(0,0,600,450), 30, 3, 3, new GameRandom(1));
+
+    @Test
+    void testPrefetchedLevelIsUsed() {
+        levelLoader.prefetch(1);
+        Brick[] bricks = levelLoader.getLevel(1);
+        assertEquals(30, bricks.length);
+        assertTrue(bricks[0] instanceof CementBrick);
+        assertNotSame(bricks, levelLoader.getLevel(1));
+    }
+
+    @Test
+    void testLevelBuiltWhenNotPrefetched() {
+        levelLoader.setPrefetchEnabled(false);
+        levelLoader.prefetch(1);
+        assertEquals(31, levelLoader.getLevel(0).length);
+        assertEquals(2, levelLoader.getLevelCount());
+        levelLoader.prefetch(5);
+        assertEquals(30, levelLoader.getLevel(1).length);
+    }
+}
@@ -1,5 +1,6 @@
 package FX.Model.Levels;
 
+import FX.Model.RandomStream;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -9,10 +10,10 @@ class LevelFactoryTest {
 
     @Test
     void testMakeLevel() {
-        assertEquals(levelFactory.makeLevel("chainlevel").getClass(), ChainWallLevel.class);
-        assertEquals(levelFactory.makeLevel("curlylineslevel").getClass(), CurlyLinesWallLevel.class);
-        assertEquals(levelFactory.makeLevel("randomlevel").getClass(), RandomWallLevel.class);
-        assertEquals(levelFactory.makeLevel("straightlineslevel").getClass(), StraightLinesLevel.class);
-        assertThrows(NullPointerException.class, () -> assertEquals(levelFactory.makeLevel("hellothere").getClass(), null));
+        assertEquals(levelFactory.makeLevel("chainlevel", new RandomStream(1)).getClass(), ChainWallLevel.class);
+        assertEquals(levelFactory.makeLevel("curlylineslevel", new RandomStream(1)).getClass(), CurlyLinesWallLevel.class);
+        assertEquals(levelFactory.makeLevel("randomlevel", new RandomStream(1)).getClass(), RandomWallLevel.class);
+        assertEquals(levelFactory.makeLevel("straightlineslevel", new RandomStream(1)).getClass(), StraightLinesLevel.class);
+        assertThrows(NullPointerException.class, () -> assertEquals(levelFactory.makeLevel("hellothere", new RandomStream(1)).getClass(), null));
     }
 }
\ No newline at end of file
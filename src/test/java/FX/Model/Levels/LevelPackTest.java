@@ -0,0 +1,91 @@
+package FX.Model.Levels;
+
+import FX.Model.CompactWall;
+import FX.Model.Entities.Brick.Brick;
+import FX.Model.Entities.Brick.BrickFactory;
+import FX.Model.Game;
+import FX.Model.GameRandom;
+import FX.Model.RandomStream;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelPackTest {
+
+    Rectangle drawArea = new Rectangle(0,0,600,450);
+
+    @Test
+    void testLevelsReadBackFromMappedFile(@TempDir Path tempDir) throws IOException {
+        Brick[] chain = new LevelFactory().makeLevel("CHAINLEVEL", new RandomStream(1)).level(drawArea, 30, 3, 3, BrickFactory.CLAY, BrickFactory.CEMENT);
+        LevelPackWriter writer = new LevelPackWriter(600, 450);
+        new LevelFactory().makeLevel("CHAINLEVEL", new RandomStream(1)).level(drawArea, 30, 3, 3, BrickFactory.CLAY, BrickFactory.CEMENT, writer);
+        new LevelFactory().makeLevel("CURLYLINESLEVEL", new RandomStream(1)).level(drawArea, 300, 10, 3, BrickFactory.STEEL, BrickFactory.REINFORCED_STEEL, writer);
+        Path file = tempDir.resolve("levels.bdl");
+        writer.write(file);
+
+        LevelPack levelPack = LevelPack.open(file);
+        assertEquals(2, levelPack.getLevelCount());
+        assertEquals(600, levelPack.getDesignWidth());
+        assertEquals(chain.length, levelPack.getBrickCount(0));
+
+        Brick[] bricks = levelPack.loadBricks(0);
+        assertEquals(chain.length, bricks.length);
+        for (int i = 0; i < chain.length; i++) {
+            assertEquals(chain[i].getClass(), bricks[i].getClass());
+            assertEquals(chain[i].getX(), bricks[i].getX(), 0.001);
+            assertEquals(chain[i].getY(), bricks[i].getY(), 0.001);
+            assertEquals(chain[i].getWidth(), bricks[i].getWidth(), 0.001);
+        }
+
+        CompactWall compactWall = new CompactWall();
+        levelPack.load(1, compactWall);
+        assertEquals(levelPack.getBrickCount(1), compactWall.size());
+        assertEquals(BrickFactory.STEEL, compactWall.getType(0));
+
+        Game game = new Game(600, 450, new GameRandom(1), levelPack);
+        assertEquals(2, game.getLevelCount());
+        assertEquals(chain.length, game.getBricks().length);
+        assertThrows(IndexOutOfBoundsException.class, () -> levelPack.load(2, compactWall));
+    }
+
+    @Test
+    void testInvalidPackRejected(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("broken.bdl");
+        Files.write(file, new byte[]{1, 2, 3, 4});
+        assertThrows(IOException.class, () -> LevelPack.open(file));
+
+        ByteBuffer cutShort = ByteBuffer.allocate(LevelPack.HEADER_SIZE + LevelPack.TABLE_ENTRY_SIZE);
+        cutShort.putInt(LevelPack.MAGIC).putInt(LevelPack.VERSION).putInt(1).putFloat(600).putFloat(450).putInt(28).putInt(5);
+        assertThrows(IOException.class, () -> new LevelPack(cutShort));
+
+        ByteBuffer empty = ByteBuffer.allocate(LevelPack.HEADER_SIZE);
+        empty.putInt(LevelPack.MAGIC).putInt(LevelPack.VERSION).putInt(0).putFloat(600).putFloat(450);
+        assertThrows(IOException.class, () -> new LevelPack(empty));
+
+        ByteBuffer unknownType = ByteBuffer.allocate(LevelPack.HEADER_SIZE + LevelPack.TABLE_ENTRY_SIZE + LevelPack.RECORD_SIZE);
+        unknownType.putInt(LevelPack.MAGIC).putInt(LevelPack.VERSION).putInt(1).putFloat(600).putFloat(450).putInt(28).putInt(1);
+        unknownType.putFloat(0).putFloat(0).putFloat(60).putFloat(20).put((byte) (BrickFactory.brickTypes.length + 1));
+        LevelPack unknownTypePack = new LevelPack(unknownType);
+        assertThrows(IllegalStateException.class, () -> unknownTypePack.load(0, new CompactWall()));
+    }
+
+    @Test
+    void testPackForAnotherPlayAreaRejected(@TempDir Path tempDir) throws IOException {
+        LevelPackWriter writer = new LevelPackWriter(800, 600);
+        new LevelFactory().makeLevel("CHAINLEVEL", new RandomStream(1)).level(new Rectangle(0,0,800,600), 30, 3, 3, BrickFactory.CLAY, BrickFactory.CEMENT, writer);
+        Path file = tempDir.resolve("levels.bdl");
+        writer.write(file);
+
+        assertNotNull(LevelPack.open(file, 800, 600));
+        assertThrows(IOException.class, () -> LevelPack.open(file, 600, 450));
+        LevelPack levelPack = LevelPack.open(file);
+        assertThrows(IllegalArgumentException.class, () -> new Game(600, 450, new GameRandom(1), levelPack));
+    }
+}
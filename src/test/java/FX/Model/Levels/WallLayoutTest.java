@@ -0,0 +1,55 @@
+package FX.Model.Levels;
+
+import FX.Model.CompactWall;
+import FX.Model.Entities.Brick.BrickFactory;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WallLayoutTest {
+
+    Rectangle drawArea = new Rectangle(0,0,600,450);
+
+    @Test
+    void testStaggeredLayout() {
+        WallLayout layout = new WallLayout(drawArea, 31, 3, 3, true);
+        assertEquals(10, layout.getBricksOnLine());
+        assertEquals(31, layout.getBrickCount());
+        assertEquals(60, layout.getX(0, 1));
+        assertEquals(30, layout.getX(1, 1));
+        assertEquals(40, layout.getY(2));
+        assertEquals(570, layout.getEdgeX());
+        assertEquals(20, layout.getEdgeY(0));
+        assertEquals(0, new WallLayout(drawArea, 31, 3, 3, false).getEdgeBrickCount());
+    }
+
+    @Test
+    void testParallelRowsMatchOrderedBricks() {
+        List<double[]> ordered = new ArrayList<>();
+        BrickSink orderedSink = new BrickSink() {
+            @Override
+            public void begin(int brickCount) {
+            }
+
+            @Override
+            public void addBrick(double x, double y, double width, double height, int type) {
+                ordered.add(new double[]{x, y, width, height, type});
+            }
+        };
+        new ChainWallLevel().level(drawArea, 20000, 100, 3, BrickFactory.CLAY, BrickFactory.CEMENT, orderedSink);
+
+        CompactWall compactWall = new CompactWall();
+        new ChainWallLevel().level(drawArea, 20000, 100, 3, BrickFactory.CLAY, BrickFactory.CEMENT, compactWall);
+        assertTrue(compactWall.size() >= FullWallRowsLevels.PARALLEL_BRICK_COUNT);
+        assertEquals(ordered.size(), compactWall.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            assertEquals((float) ordered.get(i)[0], compactWall.getX(i));
+            assertEquals((float) ordered.get(i)[1], compactWall.getY(i));
+            assertEquals((int) ordered.get(i)[4], compactWall.getType(i));
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package FX.Model.Profiling;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameProfilerTest {
+
+    long[] now = {1_000};
+    FrameProfiler profiler = new FrameProfiler(() -> now[0]);
+
+    @Test
+    void testNestedPhasesAreNotCountedTwice() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        profiler.begin();
+        now[0] += 20_000;
+        profiler.begin();
+        now[0] += 30_000;
+        profiler.end(FrameProfiler.SOUND);
+        now[0] += 5_000;
+        profiler.end(FrameProfiler.BALL_ACTIONS);
+        profiler.endFrame();
+
+        assertEquals(25_000, profiler.getPhaseHistogram(FrameProfiler.BALL_ACTIONS).getMax());
+        assertEquals(30_000, profiler.getPhaseHistogram(FrameProfiler.SOUND).getMax());
+        assertEquals(55_000, profiler.getFrameHistogram().getMax());
+        assertEquals(1, profiler.getPhaseHistogram(FrameProfiler.INPUT).getTotalCount());
+    }
+
+    @Test
+    void testNestedPhasesWithRealClock() throws InterruptedException {
+        FrameProfiler realProfiler = new FrameProfiler();
+        realProfiler.setEnabled(true);
+        realProfiler.beginFrame();
+        realProfiler.begin();
+        Thread.sleep(20);
+        realProfiler.begin();
+        Thread.sleep(20);
+        realProfiler.end(FrameProfiler.SOUND);
+        realProfiler.end(FrameProfiler.BALL_ACTIONS);
+        realProfiler.endFrame();
+
+        assertTrue(realProfiler.getPhaseHistogram(FrameProfiler.BALL_ACTIONS).getMax() >= 19_000_000);
+        assertTrue(realProfiler.getPhaseHistogram(FrameProfiler.SOUND).getMax() >= 19_000_000);
+    }
+
+    @Test
+    void testPhasesDeeperThanMaxDepthKeepOuterPhase() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        profiler.begin();
+        now[0] += 20_000;
+        for (int i = 0; i < 10; i++) {
+            profiler.begin();
+        }
+        for (int i = 0; i < 10; i++) {
+            profiler.end(FrameProfiler.UPDATE);
+        }
+        profiler.end(FrameProfiler.INPUT);
+        profiler.endFrame();
+
+        assertEquals(20_000, profiler.getPhaseHistogram(FrameProfiler.INPUT).getMax());
+    }
+
+    @Test
+    void testResetFrameIntervalSkipsPause() {
+        profiler.setEnabled(true);
+        profiler.beginFrame();
+        profiler.endFrame();
+        now[0] += 1_000_000_000;
+        profiler.resetFrameInterval();
+        profiler.beginFrame();
+        profiler.endFrame();
+        assertEquals(0, profiler.getIntervalHistogram().getTotalCount());
+    }
+
+    @Test
+    void testDisabledProfilerRecordsNothingAndCsvHasEveryPhase() throws IOException {
+        profiler.beginFrame();
+        profiler.begin();
+        profiler.end(FrameProfiler.INPUT);
+        profiler.endFrame();
+        assertEquals(0, profiler.getFrameHistogram().getTotalCount());
+
+        StringWriter writer = new StringWriter();
+        profiler.writeCsv(writer);
+        String[] lines = writer.toString().split("\\R");
+        assertEquals(FrameProfiler.PHASE_COUNT + 3, lines.length);
+        assertTrue(lines[0].startsWith("phase,frames,"));
+        assertTrue(lines[FrameProfiler.BRICK_COLLISION + 1].startsWith("ballBrickCollision,0,"));
+    }
+}
@@ -0,0 +1,41 @@
+package FX.Model.Profiling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void testPercentilesWithinPrecision() {
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value * 1000);
+        }
+        assertEquals(100_000, histogram.getTotalCount());
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9}) {
+            double expected = percentile * 1000 * 1000;
+            long actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected && actual <= expected * 1.07, percentile + " -> " + actual);
+        }
+        assertEquals(100_000_000, histogram.getValueAtPercentile(100));
+        assertEquals(50_000_500, histogram.getMean(), 1e-6);
+    }
+
+    @Test
+    void testSmallValuesAreExactAndResetClears() {
+        histogram.record(3);
+        histogram.record(7);
+        histogram.record(-5);
+        assertAll(  ()->assertEquals(0, histogram.getMin()),
+                    ()->assertEquals(3, histogram.getValueAtPercentile(50)),
+                    ()->assertEquals(7, histogram.getMax())
+        );
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.getMax());
+        histogram.reset();
+        assertEquals(0, histogram.getTotalCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+}
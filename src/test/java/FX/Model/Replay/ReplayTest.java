@@ -0,0 +1,90 @@
+package FX.Model.Replay;
+
+import FX.Model.Game;
+import FX.Model.GameEngine;
+import FX.Model.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    Game game = new Game(600,450,new GameRandom(1));
+
+    @Test
+    void testReplayMatchesRecording() throws IOException {
+        GameEngine engine = new GameEngine(game);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ReplayFormat.prepareGame(game, 1234, 0);
+        ReplayRecorder recorder = new ReplayRecorder(output, 1234, 0, 600, 450);
+        engine.setReplayRecorder(recorder);
+
+        // the balls are reset on the first tick after a ball is lost, so the event changes the game.
+        int[] eventTicks = {-1, 1000, 1500, 2000};
+        double[][] recorded = new double[eventTicks.length + 1][];
+        for (int i = 0; i < 3000; i++) {
+            if (i % 700 < 200)
+                ReplayFormat.applyInput(game, ReplayFormat.BOT);
+            else
+                ReplayFormat.applyInput(game, i % 90 < 45 ? ReplayFormat.LEFT : ReplayFormat.RIGHT);
+            if (eventTicks[0] < 0 && game.getPlayer().getBallCount() < 3) {
+                eventTicks[0] = i;
+                game.getPlayer().resetBallCount();
+                recorder.recordEvent(ReplayFormat.EVENT_RESET_BALLS);
+            } else if (i == eventTicks[1]) {
+                game.restartStatus();
+                game.wallReset();
+                recorder.recordEvent(ReplayFormat.EVENT_RESTART_LEVEL);
+            } else if (i == eventTicks[2]) {
+                game.getMainBall().setSpeedX(-3);
+                recorder.recordEvent(ReplayFormat.EVENT_BALL_SPEED, -3, game.getMainBall().getSpeedY());
+            } else if (i == eventTicks[3]) {
+                recorder.recordEvent(ReplayFormat.EVENT_SKIP_LEVEL, game.getPlayer().getCurrentLevel());
+                game.restartStatus();
+                game.wallReset();
+                game.nextLevel();
+            }
+            engine.tick();
+            if (game.isBallLost())
+                engine.resolveBallLost();
+            if (engine.isLevelComplete())
+                engine.advanceLevel();
+            for (int event = 0; event < eventTicks.length; event++) {
+                if (i == eventTicks[event])
+                    recorded[event] = snapshot();
+            }
+        }
+        recorder.close();
+        recorded[eventTicks.length] = snapshot();
+        assertTrue(eventTicks[0] >= 0 && eventTicks[0] < eventTicks[1], "ball reset at " + eventTicks[0]);
+
+        ReplayPlayer replayPlayer = new ReplayPlayer(new ByteArrayInputStream(output.toByteArray()));
+        assertEquals(1234, replayPlayer.getSeed());
+        GameEngine replayEngine = new GameEngine(game);
+        replayPlayer.prepare(replayEngine);
+        long played = 0;
+        for (int event = 0; event < eventTicks.length; event++) {
+            played += replayPlayer.play(replayEngine, eventTicks[event] + 1 - played);
+            assertEquals(eventTicks[event] + 1, played);
+            assertArrayEquals(recorded[event], snapshot(), "after event " + event);
+        }
+        played += replayPlayer.play(replayEngine, Long.MAX_VALUE);
+        assertEquals(3000, played);
+        assertArrayEquals(recorded[eventTicks.length], snapshot());
+        assertTrue(output.size() < 3000);
+    }
+
+    @Test
+    void testRejectsOtherFiles() {
+        assertThrows(IOException.class, () -> new ReplayPlayer(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+    }
+
+    private double[] snapshot() {
+        return new double[]{game.getMainBall().getX(), game.getMainBall().getY(), game.getMainBall().getSpeedX(), game.getMainBall().getSpeedY(),
+                game.getPaddle().getX(), game.getBrickCount(), game.getPlayer().getBallCount(), game.getPlayer().getCurrentLevel(), game.getCloneBall().size()};
+    }
+}
@@ -0,0 +1,77 @@
+package FX.Model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreBoardTest {
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void testAddAppendsAndKeepsOrder() throws IOException {
+        File file = new File(tempDir, "Level1.txt");
+        Files.writeString(file.toPath(), "a,0:40\nb,1:10\n");
+        ScoreBoard scoreBoard = new ScoreBoard(file);
+        assertEquals(List.of("a,0:40", "c,0:50", "b,1:10"), scoreBoard.getRecordsWith("c", "0:50", 50500));
+
+        scoreBoard.add("c", "0:50");
+        assertEquals(List.of("a,0:40", "b,1:10", "c,0:50"), Files.readAllLines(file.toPath()));
+        assertEquals(List.of("a,0:40", "c,0:50", "b,1:10"), scoreBoard.getRecords());
+        assertEquals(List.of("a,0:40", "c,0:50", "b,1:10"), new ScoreBoard(file).getRecords());
+    }
+
+    @Test
+    void testSameTimeRankedAfterOlderRecord() throws IOException {
+        ScoreBoard scoreBoard = new ScoreBoard(new File(tempDir, "scores/Level2.txt"));
+        scoreBoard.add("a", "1:00");
+        scoreBoard.add("b", "1:00");
+        assertEquals(List.of("a,1:00", "b,1:00", "c,1:00"), scoreBoard.getRecordsWith("c", "1:00", 60400));
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        File file = new File(tempDir, "Level3.txt");
+        ScoreBoard scoreBoard = new ScoreBoard(file);
+        for (int i = 200; i > 0; i--)
+            scoreBoard.add("p" + i, i / 60 + ":" + (i % 60 < 10 ? "0" : "") + i % 60);
+        assertFalse(scoreBoard.needsCompaction());
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(200, lines.size());
+        assertNotEquals("p200,3:20", lines.get(0));
+        assertEquals(scoreBoard.getRecords(), new ScoreBoard(file).getRecords());
+        scoreBoard.compact();
+        assertEquals(scoreBoard.getRecords(), Files.readAllLines(file.toPath()));
+    }
+
+    @Test
+    void testPartialRecordSkippedAndCompactionReplacesFile() throws IOException {
+        File file = new File(tempDir, "Level4.txt");
+        Files.writeString(file.toPath(), "b,1:10\na,0:40\nc,0:");
+        ScoreBoard scoreBoard = new ScoreBoard(file);
+        assertEquals(List.of("a,0:40", "b,1:10"), scoreBoard.getRecords());
+
+        scoreBoard.compact();
+        assertEquals(List.of("a,0:40", "b,1:10"), Files.readAllLines(file.toPath()));
+        assertArrayEquals(new String[]{"Level4.txt"}, tempDir.list());
+    }
+
+    @Test
+    void testTruncatedLastRecordDropped() throws IOException {
+        File file = new File(tempDir, "Level5.txt");
+        Files.writeString(file.toPath(), "a,0:40\nbob,1:2");
+        ScoreBoard scoreBoard = new ScoreBoard(file);
+        assertEquals(List.of("a,0:40"), scoreBoard.getRecords());
+        assertEquals(List.of("a,0:40"), Files.readAllLines(file.toPath()));
+
+        scoreBoard.add("c", "0:50");
+        assertEquals(List.of("a,0:40", "c,0:50"), new ScoreBoard(file).getRecords());
+    }
+}
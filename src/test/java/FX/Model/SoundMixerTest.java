@@ -0,0 +1,45 @@
+package FX.Model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SoundMixerTest {
+
+    ArrayList<Integer> played = new ArrayList<>();
+    SoundMixer soundMixer = new SoundMixer(4, 2, 100, played::add);
+
+    @Test
+    void testRequestsInAFrameAreCoalesced() {
+        for (int i = 0; i < 10; i++) {
+            soundMixer.request(1);
+        }
+        soundMixer.request(0);
+        soundMixer.flush(0);
+        assertEquals(List.of(1, 0), played);
+        assertEquals(2, soundMixer.getPlayedCount());
+    }
+
+    @Test
+    void testCooldownAndVoiceLimit() {
+        soundMixer.setCooldown(0, 50);
+        soundMixer.request(0);
+        soundMixer.flush(0);
+        soundMixer.request(0);
+        soundMixer.flush(20);
+        assertEquals(1, played.size());
+
+        soundMixer.request(1);
+        soundMixer.request(2);
+        soundMixer.flush(30);
+        assertEquals(List.of(0, 1), played);
+        assertEquals(2, soundMixer.getDroppedCount());
+
+        soundMixer.request(2);
+        soundMixer.flush(100);
+        assertEquals(List.of(0, 1, 2), played);
+    }
+}
@@ -0,0 +1,33 @@
+package FX.Model;
+
+import FX.Model.Entities.Brick.Crackable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SweptCollisionTest {
+
+    SweptCollision sweptCollision = new SweptCollision();
+
+    @Test
+    void testEarliestSideIsHit() {
+        assertTrue(sweptCollision.sweep(0, 0, 20, 20, 40, 10, 30, 0, 90, 5));
+        assertAll(  ()->assertEquals(0.25, sweptCollision.getTime(), 1e-9),
+                    ()->assertEquals(Crackable.RIGHT, sweptCollision.getDirection()),
+                    ()->assertEquals(30, sweptCollision.getImpactX(), 1e-9)
+        );
+        assertTrue(sweptCollision.sweep(0, 50, 20, 70, 5, -40, 0, 20, 60, 25));
+        assertAll(  ()->assertEquals(25.0 / 40, sweptCollision.getTime(), 1e-9),
+                    ()->assertEquals(Crackable.DOWN, sweptCollision.getDirection()),
+                    ()->assertEquals(25, sweptCollision.getImpactY(), 1e-9)
+        );
+    }
+
+    @Test
+    void testMissesAreNotHits() {
+        assertFalse(sweptCollision.sweep(0, 0, 20, 20, 5, 5, 30, 0, 90, 5));
+        assertFalse(sweptCollision.sweep(0, 0, 20, 20, 0, 10, 20, 0, 40, 40));
+        assertFalse(sweptCollision.sweep(0, 0, 20, 20, 0, -10, 0, 20, 20, 30));
+        assertFalse(sweptCollision.sweep(0, 0, 20, 20, 3, 3, 10, 10, 30, 30));
+    }
+}